@@ -68,6 +68,33 @@ public isolated client class Client {
         'class: "io.ballerina.lib.aws.secretmanager.NativeClientAdaptor"
     } external;
 
+    # Retrieves the selected details of a secret. Only the requested fields are converted, hence this is cheaper than
+    # `describeSecret` when only a few fields are used, such as when polling the rotation status of a secret.
+    # ```ballerina
+    # secretmanager:DescribeSecretProjection details = check secretmanager->describeSecretProjection(
+    #     "<aws-secret-id>", ["versionToStages", "lastChangedDate"]);
+    # ```
+    #
+    # + secretId - The ARN or name of the secret
+    # + fields - The fields of the secret details to retrieve
+    # + return - An `secretmanager:DescribeSecretProjection` containing the requested fields which have a value,
+    # or an `secretmanager:Error` if the request validation or the operation failed
+    isolated remote function describeSecretProjection(SecretId secretId, DescribeSecretField[] fields)
+            returns DescribeSecretProjection|Error {
+        SecretId|constraint:Error validated = constraint:validate(secretId);
+        if validated is constraint:Error {
+            return error Error(string `Request validation failed: ${validated.message()}`);
+        }
+        return self.externDescribeSecretProjection(validated, fields);
+    }
+
+    isolated function externDescribeSecretProjection(SecretId secretId, DescribeSecretField[] fields)
+            returns DescribeSecretProjection|Error =
+    @java:Method {
+        name: "describeSecretProjection",
+        'class: "io.ballerina.lib.aws.secretmanager.NativeClientAdaptor"
+    } external;
+
     # Retrieves the contents of the encrypted fields from the specified version of a secret.
     # ```ballerina
     # secretmanager:SecretValue secret = check secretmanager->getSecretValue("<aws-secret-id>");
@@ -78,6 +105,11 @@ public isolated client class Client {
     # + return - An `secretmanager:SecretValue` containing the content of the secret, or an 
     # `secretmanager:Error` if the request validation or the operation failed
     isolated remote function getSecretValue(SecretId secretId, *SecretVersionSelector versionSelector) returns SecretValue|Error {
+        check self.validateSecretValueRequest(secretId, versionSelector);
+        return self.externGetSecretValue(secretId, versionSelector);
+    }
+
+    isolated function validateSecretValueRequest(SecretId secretId, SecretVersionSelector versionSelector) returns Error? {
         SecretId|constraint:Error validatedSecretId = constraint:validate(secretId);
         if validatedSecretId is constraint:Error {
             return error Error(string `Request validation failed: ${validatedSecretId.message()}`);
@@ -86,7 +118,6 @@ public isolated client class Client {
         if validatedVersionSelector is constraint:Error {
             return error Error(string `Request validation failed: ${validatedVersionSelector.message()}`);
         }
-        return self.externGetSecretValue(validatedSecretId, validatedVersionSelector);
     }
 
     isolated function externGetSecretValue(SecretId secretId, SecretVersionSelector versionSelector) returns SecretValue|Error =
@@ -95,6 +126,31 @@ public isolated client class Client {
         'class: "io.ballerina.lib.aws.secretmanager.NativeClientAdaptor"
     } external;
 
+    # Retrieves a secret whose value is a JSON string and converts the value, or the value at the provided key path
+    # within it, to the provided type.
+    # ```ballerina
+    # DbCredentials credentials = check secretmanager->getSecretValueAs("<aws-secret-id>");
+    # string password = check secretmanager->getSecretValueAs("<aws-secret-id>", "password");
+    # ```
+    #
+    # The secret value is parsed with a streaming parser, which skips the members that are not on the key path. The
+    # decoded values are cached by the version ID of the secret, hence a secret version is parsed and converted only
+    # once for each key path and type. The returned values are read-only.
+    #
+    # + secretId - The ARN or name of the secret
+    # + path - The `.` separated keys of the value to retrieve, where a numeric key selects an array member. The whole
+    # secret value is retrieved if this is not provided
+    # + versionSelector - Details for selecting a specific version of the secret
+    # + targetType - The type to which the secret value is converted
+    # + return - The read-only secret value converted to the provided type, or an `secretmanager:Error` if the
+    # request validation or the operation failed, the secret value is not valid JSON, or it cannot be converted to the
+    # provided type
+    isolated remote function getSecretValueAs(SecretId secretId, string? path = (),
+            SecretVersionSelector versionSelector = {}, typedesc<anydata> targetType = <>)
+            returns targetType|Error = @java:Method {
+        'class: "io.ballerina.lib.aws.secretmanager.NativeClientAdaptor"
+    } external;
+
     # Retrieves the contents of the encrypted fields for up to 20 secrets.
     # ```ballerina
     # secretmanager:BatchGetSecretValueResponse secret = check secretmanager->batchGetSecretValue(
@@ -124,6 +180,126 @@ public isolated client class Client {
         'class: "io.ballerina.lib.aws.secretmanager.NativeClientAdaptor"
     } external;
 
+    # Retrieves the contents of the encrypted fields of all the secrets matching the provided filters or secret IDs
+    # as a stream. The results are fetched page by page, and the next page is fetched while the current page is
+    # being consumed.
+    # ```ballerina
+    # stream<secretmanager:SecretValue, secretmanager:Error?> secrets = check secretmanager->streamSecretValues(
+    #    filters = [{'key: "tag-key", values: ["<tag-key>"]}]);
+    # ```
+    #
+    # + request - The filters or secret IDs used to identify the secrets to retrieve
+    # + return - A stream of `secretmanager:SecretValue`, or an `secretmanager:Error` if the request validation or
+    # the initialization of the stream failed
+    isolated remote function streamSecretValues(*BatchGetSecretValueRequest request)
+            returns stream<SecretValue, Error?>|Error {
+        BatchGetSecretValueRequest|constraint:Error validated = constraint:validate(request);
+        if validated is constraint:Error {
+            return error Error(string `Request validation failed: ${validated.message()}`);
+        }
+        if request.filters is () && request.secretIds is () {
+            return error Error("Either `filters` or `secretIds` must be provided in the request");
+        }
+        if request.secretIds is SecretId[] && request.filters is SecretValueFilter[] {
+            return error Error("The request cannot contain both `filters` and `secretIds` simultaneously");
+        }
+        SecretValueStream secretValueStream = check new (self, validated);
+        stream<SecretValue, Error?> secretValues = new (secretValueStream);
+        return secretValues;
+    }
+
+    # Retrieves the contents of the encrypted fields for any number of secrets. The secret IDs are split into
+    # batches of up to 20 secrets, which are retrieved concurrently. Only the secrets which failed with a transient
+    # error are retried.
+    # ```ballerina
+    # map<secretmanager:SecretValue|secretmanager:ApiError> secrets = check secretmanager->getSecretValues(
+    #    ["<aws-secret-id-1>", "<aws-secret-id-2>"]);
+    # ```
+    #
+    # + secretIds - The ARNs or names of the secrets to retrieve
+    # + maxConcurrency - The maximum number of batch requests executed concurrently
+    # + maxRetries - The maximum number of retries for a secret which failed with a transient error
+    # + return - A map of `secretmanager:SecretValue` or `secretmanager:ApiError` keyed by the requested secret ID, or
+    # an `secretmanager:Error` if the request validation or the operation failed
+    isolated remote function getSecretValues(SecretId[] secretIds, int maxConcurrency = 5, int maxRetries = 2)
+            returns map<SecretValue|ApiError>|Error {
+        foreach SecretId secretId in secretIds {
+            SecretId|constraint:Error validated = constraint:validate(secretId);
+            if validated is constraint:Error {
+                return error Error(string `Request validation failed: ${validated.message()}`);
+            }
+        }
+        if maxConcurrency < 1 {
+            return error Error("The `maxConcurrency` must be greater than 0");
+        }
+        if maxRetries < 0 {
+            return error Error("The `maxRetries` must not be negative");
+        }
+        return self.externGetSecretValues(secretIds, maxConcurrency, maxRetries);
+    }
+
+    isolated function externGetSecretValues(SecretId[] secretIds, int maxConcurrency, int maxRetries)
+            returns map<SecretValue|ApiError>|Error =
+    @java:Method {
+        name: "getSecretValues",
+        'class: "io.ballerina.lib.aws.secretmanager.NativeClientAdaptor"
+    } external;
+
+    # Starts watching the provided secrets. The current versions of the secrets are loaded before returning and
+    # then refreshed in the background, hence `getSecretValue` calls for the current version of a watched secret are
+    # served from memory and reflect a rotation within one refresh interval.
+    # ```ballerina
+    # check secretmanager->watchSecrets(["<aws-secret-id>"], refreshInterval = 60);
+    # ```
+    #
+    # + secretIds - The ARNs or names of the secrets to watch
+    # + refreshInterval - The interval (in seconds) at which the watched secrets are refreshed, which should be at
+    # least 1 second
+    # + return - A `secretmanager:Error` if the request validation failed or any of the secrets could not be loaded,
+    # in which case the provided secrets which were not already watched are not watched, and the secrets which were
+    # already watched are refreshed as before
+    isolated remote function watchSecrets(SecretId[] secretIds, decimal refreshInterval = 300) returns Error? {
+        foreach SecretId secretId in secretIds {
+            SecretId|constraint:Error validated = constraint:validate(secretId);
+            if validated is constraint:Error {
+                return error Error(string `Request validation failed: ${validated.message()}`);
+            }
+        }
+        // a shorter interval would keep the shared scheduler refreshing the secrets continuously
+        if refreshInterval < 1d {
+            return error Error("The `refreshInterval` must be at least 1 second");
+        }
+        return self.externWatchSecrets(secretIds, refreshInterval);
+    }
+
+    isolated function externWatchSecrets(SecretId[] secretIds, decimal refreshInterval) returns Error? =
+    @java:Method {
+        name: "watchSecrets",
+        'class: "io.ballerina.lib.aws.secretmanager.NativeClientAdaptor"
+    } external;
+
+    # Stops watching the provided secrets.
+    # ```ballerina
+    # secretmanager->unwatchSecrets(["<aws-secret-id>"]);
+    # ```
+    #
+    # + secretIds - The ARNs or names of the secrets to stop watching
+    isolated remote function unwatchSecrets(SecretId[] secretIds) =
+    @java:Method {
+        'class: "io.ballerina.lib.aws.secretmanager.NativeClientAdaptor"
+    } external;
+
+    # Retrieves the durations and the outcome of the warm-up performed when the client was initialized.
+    # ```ballerina
+    # secretmanager:WarmUpReport? report = secretmanager.getWarmUpReport();
+    # ```
+    #
+    # + return - The `secretmanager:WarmUpReport`, or `()` if the warm-up is not configured
+    public isolated function getWarmUpReport() returns WarmUpReport? =
+    @java:Method {
+        'class: "io.ballerina.lib.aws.secretmanager.NativeClientAdaptor"
+    } external;
+
     # Closes the AWS Secret Manager client resources.
     # ```ballerina
     # check secretmanager->close();
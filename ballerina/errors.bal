@@ -27,4 +27,6 @@ public type ErrorDetails record {|
     string errorCode?;
     # The human-readable error message provided by the service
     string errorMessage?;
+    # The number of times the request was retried by the client-side retry policy before failing
+    int retryCount?;
 |};
@@ -0,0 +1,57 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Iterator over the secret values retrieved from the paginated `batchGetSecretValue` requests.
+isolated class SecretValueStream {
+
+    isolated function init(Client 'client, BatchGetSecretValueRequest request) returns Error? {
+        return self.externInit('client, request);
+    }
+
+    isolated function externInit(Client 'client, BatchGetSecretValueRequest request) returns Error? =
+    @java:Method {
+        name: "init",
+        'class: "io.ballerina.lib.aws.secretmanager.SecretValueIterator"
+    } external;
+
+    # Retrieves the next secret value from the stream.
+    #
+    # + return - The next `secretmanager:SecretValue`, nil if there are no more secret values, or an
+    # `secretmanager:Error` if the operation failed
+    public isolated function next() returns record {|SecretValue value;|}|Error? {
+        SecretValue|Error? secretValue = self.externNext();
+        if secretValue is SecretValue {
+            return {value: secretValue};
+        }
+        return secretValue;
+    }
+
+    isolated function externNext() returns SecretValue|Error? =
+    @java:Method {
+        name: "next",
+        'class: "io.ballerina.lib.aws.secretmanager.SecretValueIterator"
+    } external;
+
+    # Closes the stream, discarding the prefetched secret values.
+    #
+    # + return - A `secretmanager:Error` if there is an error while closing the stream or else nil
+    public isolated function close() returns Error? =
+    @java:Method {
+        'class: "io.ballerina.lib.aws.secretmanager.SecretValueIterator"
+    } external;
+}
@@ -15,20 +15,53 @@
 // under the License.
 
 import ballerina/test;
+import ballerina/lang.runtime;
+import ballerina/observe;
 import ballerina/os;
+import ballerina/time;
 
 final string accessKeyId = os:getEnv("BALLERINA_AWS_TEST_ACCESS_KEY_ID");
 final string secretAccessKey = os:getEnv("BALLERINA_AWS_TEST_SECRET_ACCESS_KEY");
 
+final boolean liveTestsEnabled = accessKeyId !is "" && secretAccessKey !is "";
+
 final Client secretManager = check initClient();
+final Client cachedSecretManager = check initCachedClient();
+final Client asyncSecretManager = check initAsyncClient();
+
+# The connection configurations of the clients created by the tests, which connect to the `us-east-1` region with
+# the test credentials unless they are overridden.
+type TestConnectionConfig record {|
+    *ConnectionConfig;
+    Region region = US_EAST_1;
+    StaticAuthConfig|AssumeRoleAuthConfig|EC2_IAM_ROLE|DEFAULT_CREDENTIALS auth = {accessKeyId, secretAccessKey};
+|};
+
+# Creates a client which connects to the AWS Secret Manager service.
+#
+# + config - The connection configurations of the client
+# + return - The client, or an error if the client could not be initialized
+isolated function newLiveClient(*TestConnectionConfig config) returns Client|error {
+    return new (config);
+}
 
 isolated function initClient()returns Client|error {
-    boolean enableTests = accessKeyId !is "" && secretAccessKey !is "";
-    if enableTests {
-        return new({
-            region: US_EAST_1,
-            auth: {accessKeyId, secretAccessKey}
-        });
+    if liveTestsEnabled {
+        return newLiveClient();
+    }
+    return test:mock(Client);
+}
+
+isolated function initCachedClient() returns Client|error {
+    if liveTestsEnabled {
+        return newLiveClient(cache = {ttl: 60});
+    }
+    return test:mock(Client);
+}
+
+isolated function initAsyncClient() returns Client|error {
+    if liveTestsEnabled {
+        return newLiveClient(useAsyncClient = true);
     }
     return test:mock(Client);
 }
@@ -47,6 +80,17 @@ isolated function testDescribeSecretWithArn() returns error? {
     test:assertEquals(response.arn, secretArn);
 }
 
+@test:Config
+isolated function testDescribeSecretProjection() returns error? {
+    string secretName = "prod/myapp/beta";
+    DescribeSecretProjection response = check secretManager->describeSecretProjection(
+        secretName, ["name", "versionToStages"]);
+    test:assertEquals(response.name, secretName);
+    test:assertTrue(response.versionToStages is map<StagingStatus[]>, "Requested field is missing");
+    test:assertTrue(response.arn is (), "Field which was not requested is present");
+    test:assertTrue(response.tags is (), "Field which was not requested is present");
+}
+
 @test:Config
 isolated function testDescribeSecretWithInvalidId() returns error? {
     DescribeSecretResponse|Error response = secretManager->describeSecret("prod/invalidapp/beta");
@@ -109,6 +153,149 @@ isolated function testGetSecretWithEmptyId() returns error? {
     }
 }
 
+@test:Config {
+    groups: ["live"],
+    enable: liveTestsEnabled
+}
+isolated function testGetSecretWithCache() returns error? {
+    string secretName = "prod/myapp/beta";
+    SecretValue secret = check cachedSecretManager->getSecretValue(secretName);
+    SecretValue cachedSecret = check cachedSecretManager->getSecretValue(secretName);
+    test:assertTrue(secret === cachedSecret, "Cached secret value was not reused");
+    test:assertTrue(cachedSecret.isReadOnly(), "Cached secret value is not read-only");
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testGetSecretWithCacheOnStub() returns error? {
+    Client cachingClient = check newStubClient(cache = {ttl: 60});
+    SecretValue secret = check cachingClient->getSecretValue("stub/secret/6");
+    SecretValue cachedSecret = check cachingClient->getSecretValue("stub/secret/6");
+    test:assertTrue(secret === cachedSecret, "Cached secret value was not reused");
+    test:assertEquals(getStubStats().requests, 1);
+    // a secret value larger than the size limit of the cache is not cached
+    Client smallCacheClient = check newStubClient(cache = {ttl: 60, maxSizeInBytes: 1});
+    _ = check smallCacheClient->getSecretValue("stub/secret/6");
+    _ = check smallCacheClient->getSecretValue("stub/secret/6");
+    test:assertEquals(getStubStats().requests, 3);
+    check cachingClient->close();
+    check smallCacheClient->close();
+}
+
+@test:Config
+isolated function testInitWithInvalidCacheConfig() returns error? {
+    CacheConfig[] invalidConfigs = [{ttl: 0}, {maxEntries: 0}, {maxSizeInBytes: -1}];
+    foreach CacheConfig invalidConfig in invalidConfigs {
+        Client|Error cachingClient = new ({
+            region: US_EAST_1,
+            auth: {accessKeyId: "<access-key-id>", secretAccessKey: "<secret-access-key>"},
+            cache: invalidConfig
+        });
+        test:assertTrue(cachingClient is Error,
+            string `Invalid cache configurations were accepted: ${invalidConfig.toString()}`);
+    }
+}
+
+@test:Config {
+    groups: ["live"],
+    enable: liveTestsEnabled
+}
+isolated function testGetSecretWithAsyncClient() returns error? {
+    string secretName = "prod/myapp/beta";
+    future<SecretValue|Error>[] lookups = [];
+    foreach int i in 0 ..< 50 {
+        future<SecretValue|Error> lookup = start asyncSecretManager->getSecretValue(secretName);
+        lookups.push(lookup);
+    }
+    foreach future<SecretValue|Error> lookup in lookups {
+        SecretValue secret = check wait lookup;
+        test:assertEquals(secret.name, secretName);
+    }
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testGetSecretWithAsyncClientOnStub() returns error? {
+    configureStub(latency = 0.2);
+    Client asyncClient = check newStubClient(useAsyncClient = true);
+    decimal startTime = time:monotonicNow();
+    future<SecretValue|Error>[] lookups = [];
+    foreach int i in 0 ..< 50 {
+        future<SecretValue|Error> lookup = start asyncClient->getSecretValue(string `stub/secret/${i % 10}`);
+        lookups.push(lookup);
+    }
+    foreach int i in 0 ..< 50 {
+        SecretValue secret = check wait lookups[i];
+        test:assertEquals(secret.value, string `value-${i % 10}`);
+    }
+    // the requests are in flight concurrently, hence they complete well within the latency of sequential requests
+    test:assertTrue(time:monotonicNow() - startTime < 5d, "The non-blocking requests were not concurrent");
+    test:assertEquals(getStubStats().requests, 50);
+    check asyncClient->close();
+}
+
+@test:Config {
+    groups: ["live"],
+    enable: liveTestsEnabled
+}
+isolated function testGetSecretWithHttpClientConfig() returns error? {
+    Client secretManagerWithPool = check newLiveClient(httpClient = {
+        maxConnections: 100,
+        connectionTimeout: 5,
+        connectionAcquisitionTimeout: 1,
+        tcpKeepAlive: true,
+        apiCallAttemptTimeout: 5,
+        apiCallTimeout: 15
+    });
+    string secretName = "prod/myapp/beta";
+    SecretValue secret = check secretManagerWithPool->getSecretValue(secretName);
+    test:assertEquals(secret.name, secretName);
+    check secretManagerWithPool->close();
+}
+
+@test:Config {
+    groups: ["live"],
+    enable: liveTestsEnabled
+}
+isolated function testClientsWithIdenticalConfigs() returns error? {
+    Client firstClient = check newLiveClient();
+    Client secondClient = check newLiveClient();
+    check firstClient->close();
+    string secretName = "prod/myapp/beta";
+    SecretValue secret = check secondClient->getSecretValue(secretName);
+    test:assertEquals(secret.name, secretName);
+    SecretValue|Error closedClientResult = firstClient->getSecretValue(secretName);
+    test:assertTrue(closedClientResult is Error, "Closed client could still be used");
+    check secondClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testClientsWithIdenticalConfigsOnStub() returns error? {
+    Client firstClient = check newStubClient();
+    Client secondClient = check newStubClient();
+    Client asyncClient = check newStubClient(useAsyncClient = true);
+    check firstClient->close();
+    // the shared native client is kept open while another client uses it
+    SecretValue secret = check secondClient->getSecretValue("stub/secret/4");
+    test:assertEquals(secret.value, "value-4");
+    SecretValue|Error closedClientResult = firstClient->getSecretValue("stub/secret/4");
+    test:assertTrue(closedClientResult is Error, "Closed client could still be used");
+    // closing a client twice does not release the shared native client again
+    check firstClient->close();
+    secret = check secondClient->getSecretValue("stub/secret/4");
+    test:assertEquals(secret.value, "value-4");
+    check secondClient->close();
+    // a client with different configurations does not share the released native client
+    secret = check asyncClient->getSecretValue("stub/secret/4");
+    test:assertEquals(secret.value, "value-4");
+    check asyncClient->close();
+    test:assertEquals(getStubStats().requests, 3);
+}
+
 @test:Config
 isolated function testBatchGetSecretWithIds() returns error? {
     BatchGetSecretValueResponse response = check secretManager->batchGetSecretValue(
@@ -155,3 +342,744 @@ isolated function testBatchGetSecretWithFiltersAndSecrets() returns error? {
             response.message(), "The request cannot contain both `filters` and `secretIds` simultaneously");
     }
 }
+
+@test:Config
+isolated function testStreamSecretValuesWithFilters() returns error? {
+    stream<SecretValue, Error?> secrets = check secretManager->streamSecretValues(
+        filters = [{'key: "tag-key", values: ["t1", "t2"]}], maxResults = 1);
+    SecretValue[] secretValues = check from SecretValue secret in secrets select secret;
+    test:assertEquals(secretValues.length(), 1, "Invalid number of secret values received");
+}
+
+@test:Config
+isolated function testStreamSecretValuesWithoutFiltersAndSecrets() returns error? {
+    stream<SecretValue, Error?>|Error secrets = secretManager->streamSecretValues();
+    test:assertTrue(secrets is Error);
+    if secrets is Error {
+        test:assertEquals(
+            secrets.message(), "Either `filters` or `secretIds` must be provided in the request");
+    }
+}
+
+@test:Config
+isolated function testGetSecretValues() returns error? {
+    string secretArn = "arn:aws:secretsmanager:us-east-1:367134611783:secret:prod/mysql/beta-fzKVYO";
+    string[] secretIds = ["prod/myapp/beta", secretArn, "prod/invalidapp/beta"];
+    map<SecretValue|ApiError> secrets = check secretManager->getSecretValues(secretIds, maxConcurrency = 2);
+    test:assertEquals(secrets.length(), secretIds.length(), "Invalid number of results received");
+    SecretValue|ApiError secretByName = secrets.get("prod/myapp/beta");
+    test:assertTrue(secretByName is SecretValue);
+    SecretValue|ApiError secretByArn = secrets.get(secretArn);
+    if secretByArn is SecretValue {
+        test:assertEquals(secretByArn.arn, secretArn);
+    } else {
+        test:assertFail("Expected a secret value for the secret ARN");
+    }
+    test:assertTrue(secrets.get("prod/invalidapp/beta") is ApiError);
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testGetSecretValuesWithFailedBatchOnStub() returns error? {
+    // the second batch request fails as a whole with an error which is not retried
+    configureStub(failEvery = 2, failureCode = "AccessDeniedException", failureStatusCode = 400);
+    Client stubClient = check newStubClient();
+    string[] secretIds = from int i in 0 ..< STUB_SECRET_COUNT
+        select STUB_SECRET_PREFIX + i.toString();
+    map<SecretValue|ApiError> secrets = check stubClient->getSecretValues(secretIds, maxConcurrency = 1);
+    test:assertEquals(secrets.length(), secretIds.length(), "A secret ID has no result");
+    foreach int i in 0 ..< STUB_SECRET_COUNT {
+        SecretValue|ApiError secret = secrets.get(secretIds[i]);
+        if i < 20 {
+            test:assertTrue(secret is SecretValue, "The result of a completed batch was not kept");
+        } else if secret is ApiError {
+            test:assertEquals(secret.errorCode, "AccessDeniedException");
+            test:assertEquals(secret.secretId, secretIds[i]);
+        } else {
+            test:assertFail("The failed batch request was not reported for its secret IDs");
+        }
+    }
+    check stubClient->close();
+}
+
+@test:Config
+isolated function testGetSecretValuesWithInvalidConcurrency() returns error? {
+    map<SecretValue|ApiError>|Error secrets = secretManager->getSecretValues(["prod/myapp/beta"], maxConcurrency = 0);
+    test:assertTrue(secrets is Error);
+    if secrets is Error {
+        test:assertEquals(secrets.message(), "The `maxConcurrency` must be greater than 0");
+    }
+}
+
+@test:Config {
+    groups: ["live"],
+    enable: liveTestsEnabled
+}
+isolated function testWatchSecrets() returns error? {
+    Client watchingClient = check newLiveClient();
+    string secretName = "prod/myapp/beta";
+    check watchingClient->watchSecrets([secretName], refreshInterval = 60);
+    SecretValue first = check watchingClient->getSecretValue(secretName);
+    SecretValue second = check watchingClient->getSecretValue(secretName);
+    test:assertEquals(first.name, secretName);
+    test:assertTrue(first === second, "Watched secret is not served from memory");
+    watchingClient->unwatchSecrets([secretName]);
+    SecretValue afterUnwatch = check watchingClient->getSecretValue(secretName);
+    test:assertFalse(first === afterUnwatch, "Unwatched secret is served from memory");
+    check watchingClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testWatchSecretsOnStub() returns error? {
+    Client watchingClient = check newStubClient();
+    check watchingClient->watchSecrets(["stub/secret/7"], refreshInterval = 60);
+    int loadRequests = getStubStats().requests;
+    SecretValue first = check watchingClient->getSecretValue("stub/secret/7");
+    SecretValue second = check watchingClient->getSecretValue("stub/secret/7");
+    test:assertTrue(first === second, "Watched secret is not served from memory");
+    test:assertEquals(getStubStats().requests, loadRequests);
+    // a failed watch does not stop watching the secrets which were already watched
+    Error? failedWatch = watchingClient->watchSecrets(["stub/secret/7", "stub/secret/unknown"], refreshInterval = 60);
+    test:assertTrue(failedWatch is Error, "Watching an unknown secret did not fail");
+    int requests = getStubStats().requests;
+    SecretValue afterFailedWatch = check watchingClient->getSecretValue("stub/secret/7");
+    test:assertTrue(first === afterFailedWatch, "Previously watched secret is not served from memory");
+    test:assertEquals(getStubStats().requests, requests);
+    check watchingClient->close();
+
+    // the watched secrets are refreshed in the background
+    Client refreshingClient = check newStubClient();
+    check refreshingClient->watchSecrets(["stub/secret/8"], refreshInterval = 1);
+    requests = getStubStats().requests;
+    runtime:sleep(3);
+    test:assertTrue(getStubStats().requests > requests, "Watched secret was not refreshed");
+    check refreshingClient->close();
+}
+
+@test:Config
+isolated function testWatchSecretsWithShortInterval() returns error? {
+    Error? result = secretManager->watchSecrets(["prod/myapp/beta"], refreshInterval = 0.001);
+    if result is Error {
+        test:assertEquals(result.message(), "The `refreshInterval` must be at least 1 second");
+    } else {
+        test:assertFail("A refresh interval shorter than 1 second was accepted");
+    }
+}
+
+@test:Config
+isolated function testWatchSecretsWithInvalidId() returns error? {
+    Error? result = secretManager->watchSecrets(["prod/invalidapp/beta"]);
+    test:assertTrue(result is Error);
+}
+
+@test:Config {
+    groups: ["live"],
+    enable: liveTestsEnabled
+}
+isolated function testGetSecretWithRotationAwareCache() returns error? {
+    Client rotationAwareClient = check newLiveClient(cache = {ttl: 0.5, rotationAware: true});
+    string secretName = "prod/myapp/beta";
+    SecretValue first = check rotationAwareClient->getSecretValue(secretName);
+    runtime:sleep(1);
+    SecretValue revalidated = check rotationAwareClient->getSecretValue(secretName);
+    test:assertTrue(first === revalidated, "Unchanged secret version is fetched again after revalidation");
+    check rotationAwareClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testGetSecretWithRotationAwareCacheOnStub() returns error? {
+    Client rotationAwareClient = check newStubClient(cache = {ttl: 0.5, rotationAware: true});
+    SecretValue first = check rotationAwareClient->getSecretValue("stub/secret/9");
+    runtime:sleep(1);
+    // the expired entry of the unchanged current version is revalidated with the secret metadata
+    SecretValue revalidated = check rotationAwareClient->getSecretValue("stub/secret/9");
+    test:assertTrue(first === revalidated, "Unchanged secret version is fetched again after revalidation");
+    StubStats stats = getStubStats();
+    test:assertEquals(stats.operationRequests["GetSecretValue"], 1);
+    test:assertEquals(stats.operationRequests["DescribeSecret"], 1);
+    check rotationAwareClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testGetSecretWithMetricsOnStub() returns error? {
+    // the metrics are enabled in the `Config.toml` of the tests, and the client uses a region of its own so that the
+    // requests of the other tests are not recorded with the same tags
+    Client instrumentedClient = check newStubClient(region = EU_SOUTH_2);
+    SecretValue secret = check instrumentedClient->getSecretValue(STUB_TEXT_SECRET);
+    test:assertEquals(secret.value, STUB_TEXT_SECRET_VALUE);
+    map<string> tags = {operation: "GetSecretValue", region: EU_SOUTH_2};
+    observe:Counter|observe:Gauge? requests = observe:lookupMetric("aws_secretmanager_requests_total", tags);
+    if requests !is observe:Counter {
+        return error("The request counter is not recorded");
+    }
+    test:assertEquals(requests.getValue(), 1);
+    observe:Counter|observe:Gauge? payloadSize = observe:lookupMetric("aws_secretmanager_response_payload_bytes",
+            tags);
+    if payloadSize !is observe:Gauge {
+        return error("The response payload size is not recorded");
+    }
+    test:assertEquals(payloadSize.getValue(), <float>STUB_TEXT_SECRET_VALUE.toBytes().length(),
+            "The response payload size is not the UTF-8 encoded size of the secret value");
+    observe:Counter|observe:Gauge? inFlightRequests = observe:lookupMetric("aws_secretmanager_inflight_requests",
+            tags);
+    if inFlightRequests !is observe:Gauge {
+        return error("The in-flight requests are not recorded");
+    }
+    test:assertEquals(inFlightRequests.getValue(), 0.0);
+    check instrumentedClient->close();
+}
+
+@test:Config {
+    groups: ["live"],
+    enable: liveTestsEnabled
+}
+isolated function testGetSecretWithRetryAndRateLimit() returns error? {
+    Client retryingClient = check newLiveClient(
+        retryConfig = {maxAttempts: 4, baseDelay: 0.05},
+        rateLimit = {getSecretValueRate: 5}
+    );
+    string secretName = "prod/myapp/beta";
+    foreach int i in 0 ..< 10 {
+        SecretValue secret = check retryingClient->getSecretValue(secretName);
+        test:assertEquals(secret.name, secretName);
+    }
+    SecretValue|Error invalidSecret = retryingClient->getSecretValue("prod/invalidapp/beta");
+    if invalidSecret is Error {
+        test:assertEquals(invalidSecret.detail().retryCount, 0, "Non-retryable error is retried");
+    } else {
+        test:assertFail("Expected an error for an invalid secret");
+    }
+    check retryingClient->close();
+}
+
+@test:Config
+isolated function testInitWithInvalidRetryConfig() returns error? {
+    Client|Error retryingClient = new ({
+        region: US_EAST_1,
+        auth: {accessKeyId: "<access-key-id>", secretAccessKey: "<secret-access-key>"},
+        retryConfig: {maxAttempts: 0}
+    });
+    test:assertTrue(retryingClient is Error);
+}
+
+@test:Config
+isolated function testInitWithNegativeRetryDelay() returns error? {
+    Client|Error retryingClient = new ({
+        region: US_EAST_1,
+        auth: {accessKeyId: "<access-key-id>", secretAccessKey: "<secret-access-key>"},
+        retryConfig: {baseDelay: -1}
+    });
+    test:assertTrue(retryingClient is Error);
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testGetSecretWithRateLimitOnStub() returns error? {
+    configureStub(failEvery = 1);
+    Client rateLimitedClient = check newStubClient(rateLimit = {getSecretValueRate: 1000});
+    SecretValue|Error secret = rateLimitedClient->getSecretValue("stub/secret/1");
+    if secret !is Error {
+        return error("Expected an error for a request which always fails");
+    }
+    // the AWS SDK retries are disabled, hence the request is only retried by the default client-side retry policy
+    test:assertEquals(secret.detail().retryCount, 2);
+    test:assertEquals(getStubStats().requests, 3);
+    check rateLimitedClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testRateLimitMaxWaitOnStub() returns error? {
+    Client rateLimitedClient = check newStubClient(rateLimit = {getSecretValueRate: 1, maxWait: 0.5});
+    _ = check rateLimitedClient->getSecretValue("stub/secret/1");
+    // the token bucket is empty, hence the second request would wait for a second
+    SecretValue|Error secret = rateLimitedClient->getSecretValue("stub/secret/2");
+    test:assertTrue(secret is Error, "A request exceeding the maximum wait of the rate limiter is not rejected");
+    test:assertEquals(getStubStats().requests, 1);
+    check rateLimitedClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testGetSecretWithCoalescedRequestsOnStub() returns error? {
+    // the response is delayed so that all the requests are made while the first one is in flight
+    configureStub(latency = 0.5);
+    Client coalescingClient = check newStubClient(coalesceRequests = true);
+    string secretName = "stub/secret/4";
+    future<SecretValue|Error>[] results = [];
+    foreach int i in 0 ..< 20 {
+        future<SecretValue|Error> result = start coalescingClient->getSecretValue(secretName);
+        results.push(result);
+    }
+    foreach future<SecretValue|Error> result in results {
+        SecretValue secret = check wait result;
+        test:assertEquals(secret.value, "value-4");
+        test:assertTrue(secret.isReadOnly(), "Coalesced result is not read-only");
+    }
+    test:assertEquals(getStubStats().requests, 1, "The concurrent identical requests are not coalesced");
+    check coalescingClient->close();
+}
+
+@test:Config {
+    groups: ["live"],
+    enable: liveTestsEnabled
+}
+isolated function testGetSecretWithAutoBatching() returns error? {
+    Client batchingClient = check newLiveClient(autoBatch = {window: 0.05});
+    string[] secretNames = ["prod/myapp/beta", "prod/mysql/beta", "prod/invalidapp/beta"];
+    future<SecretValue|Error>[] results = [];
+    foreach string secretName in secretNames {
+        future<SecretValue|Error> result = start batchingClient->getSecretValue(secretName);
+        results.push(result);
+    }
+    foreach int i in 0 ..< 2 {
+        SecretValue secret = check wait results[i];
+        test:assertEquals(secret.name, secretNames[i]);
+    }
+    SecretValue|Error invalidSecret = wait results[2];
+    test:assertTrue(invalidSecret is Error, "Batched request for an invalid secret did not fail");
+    check batchingClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testGetSecretWithAutoBatchingOnStub() returns error? {
+    Client batchingClient = check newStubClient(autoBatch = {window: 0.2});
+    string[] secretNames = ["stub/secret/1", "stub/secret/2", "stub/secret/99"];
+    future<SecretValue|Error>[] results = [];
+    foreach string secretName in secretNames {
+        future<SecretValue|Error> result = start batchingClient->getSecretValue(secretName);
+        results.push(result);
+    }
+    foreach int i in 0 ..< 2 {
+        SecretValue secret = check wait results[i];
+        test:assertEquals(secret.value, string `value-${i + 1}`);
+    }
+    SecretValue|Error invalidSecret = wait results[2];
+    test:assertTrue(invalidSecret is Error, "Batched request for an invalid secret did not fail");
+    StubStats stats = getStubStats();
+    test:assertEquals(stats.operationRequests["BatchGetSecretValue"], 1,
+            "The concurrent requests are not sent as a single batch");
+    test:assertEquals(stats.operationRequests["GetSecretValue"], (), "A batched request is sent individually");
+    check batchingClient->close();
+}
+
+@test:Config
+isolated function testInitWithInvalidAutoBatchConfig() returns error? {
+    Client|Error batchingClient = new ({
+        region: US_EAST_1,
+        auth: {accessKeyId: "<access-key-id>", secretAccessKey: "<secret-access-key>"},
+        autoBatch: {maxBatchSize: 21}
+    });
+    test:assertTrue(batchingClient is Error);
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testGetSecretWithSnapshotOnStub() returns error? {
+    SnapshotConfig snapshot = {
+        path: "build/snapshot/secrets.snapshot",
+        encryptionKey: "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=",
+        maxStaleness: 3600
+    };
+    string secretName = "stub/secret/8";
+    Client snapshotClient = check newStubClient(snapshot = snapshot);
+    SecretValue secret = check snapshotClient->getSecretValue(secretName);
+    check snapshotClient->close();
+
+    // the snapshot is written when the client is closed, hence the restarted client serves the secret from the
+    // snapshot while the service is unavailable
+    configureStub(failEvery = 1);
+    Client restartedClient = check newStubClient(retryConfig = {maxAttempts: 1}, snapshot = snapshot);
+    foreach int i in 0 ..< 2 {
+        SecretValue snapshotSecret = check restartedClient->getSecretValue(secretName);
+        test:assertEquals(snapshotSecret.versionId, secret.versionId);
+        test:assertEquals(snapshotSecret.value, secret.value);
+        runtime:sleep(0.2);
+    }
+
+    // the snapshot entry is dropped once the revalidation fails with a non-transient error
+    configureStub(failEvery = 1, failureCode = "AccessDeniedException", failureStatusCode = 400);
+    _ = check restartedClient->getSecretValue(secretName);
+    runtime:sleep(0.2);
+    SecretValue|Error deniedSecret = restartedClient->getSecretValue(secretName);
+    test:assertTrue(deniedSecret is Error, "The snapshot entry is served after a non-transient failure");
+    check restartedClient->close();
+}
+
+@test:Config
+isolated function testInitWithInvalidSnapshotConfig() returns error? {
+    Client|Error snapshotClient = new ({
+        region: US_EAST_1,
+        auth: {accessKeyId: "<access-key-id>", secretAccessKey: "<secret-access-key>"},
+        snapshot: {path: "build/snapshot/invalid.snapshot", encryptionKey: "c2hvcnQta2V5"}
+    });
+    test:assertTrue(snapshotClient is Error);
+}
+
+@test:Config {
+    groups: ["live"],
+    enable: liveTestsEnabled
+}
+isolated function testGetSecretWithClearedBinaryBuffers() returns error? {
+    Client clearingClient = check newLiveClient(clearBinaryBuffers = true);
+    string secretName = "prod/myapp/beta";
+    SecretValue secret = check clearingClient->getSecretValue(secretName);
+    test:assertEquals(secret.name, secretName);
+    check clearingClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testGetSecretWithClearedBinaryBuffersOnStub() returns error? {
+    // the secret values are copied before the buffers of the AWS SDK responses are cleared, hence neither the cached
+    // value nor the values of the concurrent batched requests for the same secret are affected
+    Client cachingClient = check newStubClient(clearBinaryBuffers = true, cache = {ttl: 60});
+    SecretValue secret = check cachingClient->getSecretValue(STUB_BINARY_SECRET);
+    test:assertEquals(secret.value, STUB_BINARY_SECRET_VALUE);
+    SecretValue cachedSecret = check cachingClient->getSecretValue(STUB_BINARY_SECRET);
+    test:assertEquals(cachedSecret.value, STUB_BINARY_SECRET_VALUE);
+    test:assertEquals(getStubStats().requests, 1);
+    check cachingClient->close();
+
+    Client batchingClient = check newStubClient(clearBinaryBuffers = true, autoBatch = {window: 0.2});
+    future<SecretValue|Error> first = start batchingClient->getSecretValue(STUB_BINARY_SECRET);
+    future<SecretValue|Error> second = start batchingClient->getSecretValue(STUB_BINARY_SECRET);
+    SecretValue firstSecret = check wait first;
+    SecretValue secondSecret = check wait second;
+    test:assertEquals(firstSecret.value, STUB_BINARY_SECRET_VALUE);
+    test:assertEquals(secondSecret.value, STUB_BINARY_SECRET_VALUE);
+    test:assertEquals(getStubStats().operationRequests["BatchGetSecretValue"], 1);
+    check batchingClient->close();
+}
+
+@test:Config {
+    groups: ["live"],
+    enable: liveTestsEnabled
+}
+isolated function testGetSecretWithVirtualThreadExecutor() returns error? {
+    Client virtualThreadClient = check newLiveClient(
+        executor = {virtualThreads: true, maxConcurrency: 2, maxQueueSize: 0, overflowPolicy: BLOCK}
+    );
+    string secretName = "prod/myapp/beta";
+    future<SecretValue|Error>[] results = [];
+    foreach int i in 0 ..< 4 {
+        future<SecretValue|Error> result = start virtualThreadClient->getSecretValue(secretName);
+        results.push(result);
+    }
+    foreach future<SecretValue|Error> result in results {
+        SecretValue secret = check wait result;
+        test:assertEquals(secret.name, secretName);
+    }
+    check virtualThreadClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testGetSecretWithVirtualThreadExecutorOnStub() returns error? {
+    configureStub(latency = 0.2);
+    Client virtualThreadClient = check newStubClient(
+        executor = {virtualThreads: true, maxConcurrency: 2, maxQueueSize: 0, overflowPolicy: BLOCK}
+    );
+    decimal startTime = time:monotonicNow();
+    future<SecretValue|Error>[] results = [];
+    foreach int i in 0 ..< 8 {
+        future<SecretValue|Error> result = start virtualThreadClient->getSecretValue(string `stub/secret/${i}`);
+        results.push(result);
+    }
+    foreach int i in 0 ..< 8 {
+        SecretValue secret = check wait results[i];
+        test:assertEquals(secret.value, string `value-${i}`);
+    }
+    // the requests beyond the maximum concurrency wait for a slot instead of failing, hence the 8 requests take at
+    // least 4 rounds of the stub latency, less a margin for the timer granularity
+    decimal elapsedTime = time:monotonicNow() - startTime;
+    test:assertTrue(elapsedTime >= 0.75d, string `The maximum concurrency is exceeded, took ${elapsedTime}s`);
+    test:assertEquals(getStubStats().requests, 8);
+    check virtualThreadClient->close();
+}
+
+@test:Config
+isolated function testInitWithInvalidExecutorConfig() returns error? {
+    Client|Error executorClient = new ({
+        region: US_EAST_1,
+        auth: {accessKeyId: "<access-key-id>", secretAccessKey: "<secret-access-key>"},
+        executor: {maxConcurrency: 0}
+    });
+    test:assertTrue(executorClient is Error);
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testGetSecretValueFromStub() returns error? {
+    Client stubClient = check newStubClient();
+    SecretValue secret = check stubClient->getSecretValue("stub/secret/3");
+    test:assertEquals(secret.name, "stub/secret/3");
+    test:assertEquals(secret.value, "value-3");
+    DescribeSecretResponse description = check stubClient->describeSecret("stub/secret/3");
+    test:assertEquals(description.name, "stub/secret/3");
+    SecretValue|Error missingSecret = stubClient->getSecretValue("stub/secret/unknown");
+    test:assertTrue(missingSecret is Error, "Retrieving an unknown secret did not fail");
+    check stubClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testStreamSecretValuesFromStub() returns error? {
+    Client stubClient = check newStubClient();
+    stream<SecretValue, Error?> secretValues = check stubClient->streamSecretValues(
+        filters = [{'key: "name", values: [STUB_SECRET_PREFIX]}], maxResults = 10);
+    string[] names = check from SecretValue secret in secretValues
+        select secret.name;
+    test:assertEquals(names.length(), STUB_SECRET_COUNT);
+    check stubClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testRetryInjectedFailuresOnStub() returns error? {
+    configureStub(failEvery = 2);
+    Client stubClient = check newStubClient(retryConfig = {maxAttempts: 3, baseDelay: 0.01});
+    foreach int i in 0 ..< 4 {
+        SecretValue secret = check stubClient->getSecretValue("stub/secret/1");
+        test:assertEquals(secret.value, "value-1");
+    }
+    test:assertTrue(getStubStats().failures > 0, "No failure was injected by the stub");
+    check stubClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testThrottlingOnStub() returns error? {
+    configureStub(maxRequestsPerSecond = 1);
+    Client stubClient = check newStubClient(retryConfig = {maxAttempts: 1});
+    SecretValue|Error first = stubClient->getSecretValue("stub/secret/1");
+    SecretValue|Error second = stubClient->getSecretValue("stub/secret/2");
+    test:assertTrue(first is Error || second is Error, "No request was throttled by the stub");
+    test:assertTrue(getStubStats().throttled > 0);
+    check stubClient->close();
+}
+
+@test:Config
+isolated function testInitWithInvalidEndpointOverride() returns error? {
+    Client|Error stubClient = new ({
+        region: US_EAST_1,
+        auth: {accessKeyId: "<access-key-id>", secretAccessKey: "<secret-access-key>"},
+        endpointOverride: "localhost"
+    });
+    test:assertTrue(stubClient is Error);
+}
+
+@test:Config
+isolated function testInitWithInvalidAssumeRoleConfig() returns error? {
+    Client|Error assumeRoleClient = new ({
+        region: US_EAST_1,
+        auth: {
+            roleArn: "arn:aws:iam::123456789012:role/secret-reader",
+            sessionDuration: 60,
+            sourceCredentials: {accessKeyId: "<access-key-id>", secretAccessKey: "<secret-access-key>"}
+        }
+    });
+    test:assertTrue(assumeRoleClient is Error);
+}
+
+type StubSecretContent record {
+    string username;
+    string password;
+    int port;
+};
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testGetSecretValueAsFromStub() returns error? {
+    Client stubClient = check newStubClient();
+    StubSecretContent content = check stubClient->getSecretValueAs(STUB_JSON_SECRET);
+    test:assertEquals(content.username, "admin");
+    test:assertEquals(content.port, 5432);
+    string password = check stubClient->getSecretValueAs(STUB_JSON_SECRET, "password");
+    test:assertEquals(password, "s3cr3t");
+    json replica = check stubClient->getSecretValueAs(STUB_JSON_SECRET, "replicas.1");
+    test:assertEquals(replica, "replica-2.example.com");
+    // the decoded values are cached by the secret version and are read-only
+    StubSecretContent cachedContent = check stubClient->getSecretValueAs(STUB_JSON_SECRET);
+    test:assertTrue(cachedContent.isReadOnly());
+    int|Error missingKey = stubClient->getSecretValueAs(STUB_JSON_SECRET, "database.port");
+    test:assertTrue(missingKey is Error, "Retrieving a missing key path did not fail");
+    int|Error mismatchedType = stubClient->getSecretValueAs(STUB_JSON_SECRET, "username");
+    test:assertTrue(mismatchedType is Error, "Converting a string to an int did not fail");
+    json|Error invalidJson = stubClient->getSecretValueAs("stub/secret/1");
+    test:assertTrue(invalidJson is Error, "Decoding a non-JSON secret value did not fail");
+    check stubClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testMultiRegionRoutingOnStub() returns error? {
+    configureStub(regionLatency = {"us-east-1": 0.3});
+    Client stubClient = check newStubClient(
+        multiRegion = {replicaRegions: [US_WEST_2], hedgeDelay: 0.1, hedgeBudgetRatio: 1, latencySmoothing: 0.5}
+    );
+    // the slow primary region is hedged to the replica region, and the replica region is preferred afterwards
+    foreach int i in 0 ..< 5 {
+        SecretValue secret = check stubClient->getSecretValue(getStubArn("us-east-1", "stub/secret/4"));
+        test:assertEquals(secret.value, "value-4");
+    }
+    int replicaRequests = getStubStats().regionRequests["us-west-2"] ?: 0;
+    test:assertTrue(replicaRequests >= 4, "The requests were not routed to the faster replica region");
+    check stubClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testMultiRegionHedgingBudgetOnStub() returns error? {
+    configureStub(latency = 0.2);
+    Client stubClient = check newStubClient(
+        multiRegion = {replicaRegions: [US_WEST_2], hedgeDelay: 0.05, hedgeBudgetRatio: 0.5}
+    );
+    // only one in two requests can be hedged to the replica region, and the hedged requests are cancelled once the
+    // primary region has responded
+    foreach int i in 0 ..< 4 {
+        _ = check stubClient->getSecretValue("stub/secret/5");
+    }
+    test:assertEquals(getStubStats().regionRequests["us-east-1"], 4);
+    test:assertEquals(getStubStats().regionRequests["us-west-2"], 2);
+    check stubClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testMultiRegionUnreplicatedSecretOnStub() returns error? {
+    configureStub(regionLatency = {"us-east-1": 0.2}, unreplicatedRegions = ["us-west-2"]);
+    Client stubClient = check newStubClient(
+        multiRegion = {replicaRegions: [US_WEST_2], hedgeDelay: 0.05, hedgeBudgetRatio: 1}
+    );
+    // the hedged request fails in the replica region to which the secret is not replicated, while the request to
+    // the primary region is still in flight
+    SecretValue secret = check stubClient->getSecretValue("stub/secret/6");
+    test:assertEquals(secret.value, "value-6");
+    test:assertEquals(getStubStats().regionRequests["us-west-2"], 1);
+    check stubClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testMultiRegionFailoverOnStub() returns error? {
+    configureStub(failingRegions = ["us-east-1"]);
+    // the AWS SDK retries are disabled, hence each request is sent once to each region
+    Client stubClient = check newStubClient(
+        multiRegion = {replicaRegions: [US_WEST_2]},
+        retryConfig = {maxAttempts: 1}
+    );
+    SecretValue secret = check stubClient->getSecretValue(getStubArn("us-east-1", "stub/secret/2"));
+    test:assertEquals(secret.value, "value-2");
+    test:assertEquals(secret.arn, getStubArn("us-west-2", "stub/secret/2"));
+    // the failed primary region is not preferred until the failure cooldown has elapsed
+    _ = check stubClient->getSecretValue("stub/secret/2");
+    test:assertEquals(getStubStats().regionRequests["us-east-1"], 1);
+    SecretValue|Error missingSecret = stubClient->getSecretValue("stub/secret/unknown");
+    test:assertTrue(missingSecret is Error, "Retrieving an unknown secret did not fail");
+    check stubClient->close();
+}
+
+@test:Config
+isolated function testInitWithInvalidMultiRegionConfig() returns error? {
+    Client|Error multiRegionClient = new ({
+        region: US_EAST_1,
+        auth: {accessKeyId: "<access-key-id>", secretAccessKey: "<secret-access-key>"},
+        multiRegion: {replicaRegions: []}
+    });
+    test:assertTrue(multiRegionClient is Error);
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testHedgeSlowRequestsOnStub() returns error? {
+    configureStub(slowEvery = 2, slowLatency = 2);
+    Client stubClient = check newStubClient(hedging = {minDelay: 0.1, budgetRatio: 1});
+    // every second request is slow, hence each of them is hedged and completed by the fast second request
+    foreach int i in 0 ..< 4 {
+        decimal startTime = time:monotonicNow();
+        SecretValue secret = check stubClient->getSecretValue("stub/secret/5");
+        test:assertEquals(secret.value, "value-5");
+        test:assertTrue(time:monotonicNow() - startTime < 1d, "A slow request was not hedged");
+    }
+    test:assertTrue(getStubStats().requests > 4, "No request was hedged");
+    check stubClient->close();
+}
+
+@test:Config
+isolated function testInitWithInvalidHedgingConfig() returns error? {
+    Client|Error hedgingClient = new ({
+        region: US_EAST_1,
+        auth: {accessKeyId: "<access-key-id>", secretAccessKey: "<secret-access-key>"},
+        hedging: {percentile: 100}
+    });
+    test:assertTrue(hedgingClient is Error);
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testWarmUpOnStub() returns error? {
+    Client stubClient = check newStubClient(
+        cache = {},
+        warmUp = {connections: 4, prefetchSecrets: ["stub/secret/6", "stub/secret/7"]}
+    );
+    WarmUpReport report = check stubClient.getWarmUpReport().ensureType();
+    test:assertEquals(report.connections, 4);
+    test:assertEquals(report.prefetchedSecrets, 2);
+    test:assertEquals(report.errors, []);
+    test:assertTrue(report.totalTime >= report.prefetchTime);
+    // the prefetched secret values are served from the cache
+    int requests = getStubStats().requests;
+    SecretValue secret = check stubClient->getSecretValue("stub/secret/6");
+    test:assertEquals(secret.value, "value-6");
+    test:assertEquals(getStubStats().requests, requests);
+    check stubClient->close();
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testWarmUpFailureOnStub() returns error? {
+    Client|Error stubClient = newStubClient(
+        cache = {},
+        warmUp = {connections: 0, prefetchSecrets: ["stub/secret/unknown"], failOnError: true}
+    );
+    test:assertTrue(stubClient is Error, "A failed warm-up did not fail the initialization");
+}
+
+@test:Config {
+    groups: ["stub"]
+}
+isolated function testInitWithPrefetchWithoutCache() returns error? {
+    Client|Error warmUpClient = newStubClient(warmUp = {prefetchSecrets: ["stub/secret/6"]});
+    test:assertTrue(warmUpClient is Error, "Prefetching the secrets without a cache or a snapshot did not fail");
+    // the connections can still be warmed up without a cache
+    Client stubClient = check newStubClient(warmUp = {connections: 2});
+    check stubClient->close();
+}
@@ -0,0 +1,138 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/io;
+import ballerina/test;
+import ballerina/time;
+
+# The number of concurrent strands of the load runs.
+configurable int loadConcurrency = 16;
+# The number of requests made by each strand of the load runs.
+configurable int loadRequestsPerStrand = 50;
+# The latency (in seconds) of the local AWS Secret Manager stub during the load runs.
+configurable decimal loadStubLatency = 0.005;
+
+# Represents the result of a load run against an AWS Secret Manager client.
+type LoadReport record {|
+    # The number of requests made
+    int requests;
+    # The number of failed requests
+    int errors;
+    # The wall-clock duration (in seconds) of the run
+    decimal duration;
+    # The number of requests completed per second
+    decimal throughput;
+    # The median request latency (in seconds)
+    decimal p50;
+    # The 99th percentile request latency (in seconds)
+    decimal p99;
+    # The 99.9th percentile request latency (in seconds)
+    decimal p999;
+    # The maximum request latency (in seconds)
+    decimal max;
+|};
+
+@test:Config {
+    groups: ["load"]
+}
+isolated function testLoadAgainstStub() returns error? {
+    configureStub(latency = loadStubLatency);
+    SecretId[] secretIds = from int i in 0 ..< STUB_SECRET_COUNT
+        select STUB_SECRET_PREFIX + i.toString();
+    foreach boolean useAsyncClient in [false, true] {
+        Client loadClient = check newStubClient(useAsyncClient = useAsyncClient);
+        LoadReport report = check runLoad(loadClient, loadConcurrency, loadRequestsPerStrand, secretIds);
+        check loadClient->close();
+        io:println(formatLoadReport(useAsyncClient ? "async client" : "sync client", report));
+        test:assertEquals(report.errors, 0);
+        test:assertEquals(report.requests, loadConcurrency * loadRequestsPerStrand);
+    }
+}
+
+type StrandResult record {|
+    decimal[] latencies;
+    int errors;
+|};
+
+# Drives the provided client with `concurrency` strands, each of which retrieves the provided secrets in turn
+# `requestsPerStrand` times, and reports the throughput and the latency distribution of the requests.
+#
+# + secretManager - The client under load
+# + concurrency - The number of concurrent strands
+# + requestsPerStrand - The number of requests made by each strand
+# + secretIds - The secrets retrieved by the strands
+# + return - The report of the load run
+isolated function runLoad(Client secretManager, int concurrency, int requestsPerStrand, SecretId[] secretIds)
+        returns LoadReport|error {
+    decimal startedAt = time:monotonicNow();
+    future<StrandResult>[] strands = [];
+    foreach int strandIndex in 0 ..< concurrency {
+        future<StrandResult> strand = start driveStrand(secretManager, strandIndex, requestsPerStrand,
+                secretIds.cloneReadOnly());
+        strands.push(strand);
+    }
+    decimal[] latencies = [];
+    int errors = 0;
+    foreach future<StrandResult> strand in strands {
+        StrandResult result = check wait strand;
+        latencies.push(...result.latencies);
+        errors += result.errors;
+    }
+    decimal duration = time:monotonicNow() - startedAt;
+    decimal[] sortedLatencies = latencies.sort();
+    return {
+        requests: sortedLatencies.length(),
+        errors,
+        duration,
+        throughput: duration > 0d ? <decimal>sortedLatencies.length() / duration : 0,
+        p50: percentile(sortedLatencies, 0.5),
+        p99: percentile(sortedLatencies, 0.99),
+        p999: percentile(sortedLatencies, 0.999),
+        max: sortedLatencies.length() > 0 ? sortedLatencies[sortedLatencies.length() - 1] : 0
+    };
+}
+
+isolated function driveStrand(Client secretManager, int strandIndex, int requests, readonly & SecretId[] secretIds)
+        returns StrandResult {
+    decimal[] latencies = [];
+    int errors = 0;
+    foreach int i in 0 ..< requests {
+        SecretId secretId = secretIds[(strandIndex + i) % secretIds.length()];
+        decimal requestStartedAt = time:monotonicNow();
+        SecretValue|Error secret = secretManager->getSecretValue(secretId);
+        latencies.push(time:monotonicNow() - requestStartedAt);
+        if secret is Error {
+            errors += 1;
+        }
+    }
+    return {latencies, errors};
+}
+
+isolated function percentile(decimal[] sortedValues, decimal rank) returns decimal {
+    if sortedValues.length() == 0 {
+        return 0;
+    }
+    int index = <int>decimal:ceiling(rank * <decimal>sortedValues.length()) - 1;
+    return sortedValues[int:max(index, 0)];
+}
+
+isolated function formatLoadReport(string name, LoadReport report) returns string {
+    return string `${name}: ${report.requests} requests, ${report.errors} errors in ${report.duration.round(3)}s, ` +
+        string `${report.throughput.round(1)} req/s, p50 ${(report.p50 * 1000).round(2)}ms, ` +
+        string `p99 ${(report.p99 * 1000).round(2)}ms, p99.9 ${(report.p999 * 1000).round(2)}ms, ` +
+        string `max ${(report.max * 1000).round(2)}ms`;
+}
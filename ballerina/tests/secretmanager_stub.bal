@@ -0,0 +1,353 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/http;
+import ballerina/lang.runtime;
+import ballerina/test;
+import ballerina/time;
+
+const int STUB_PORT = 9590;
+const string STUB_ENDPOINT = "http://localhost:9590";
+const string STUB_SECRET_PREFIX = "stub/secret/";
+const int STUB_SECRET_COUNT = 25;
+const string STUB_JSON_SECRET = "stub/json/credentials";
+const string STUB_JSON_SECRET_VALUE = "{\"username\": \"admin\", \"password\": \"s3cr3t\", \"port\": 5432, " +
+    "\"replicas\": [\"replica-1.example.com\", \"replica-2.example.com\"], \"options\": {\"ssl\": true}}";
+const string STUB_TEXT_SECRET = "stub/text/greeting";
+const string STUB_TEXT_SECRET_VALUE = "grüße, 世界";
+const string STUB_BINARY_SECRET = "stub/binary/key";
+const byte[] STUB_BINARY_SECRET_VALUE = [0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 255];
+const string STUB_ARN_PARTITION_PREFIX = "arn:aws:secretsmanager:";
+const string STUB_ACCOUNT_ID = "123456789012";
+const string STUB_DEFAULT_REGION = "us-east-1";
+const string AWS_JSON_CONTENT_TYPE = "application/x-amz-json-1.1";
+
+# Represents the behaviour of the local AWS Secret Manager stub.
+type StubBehaviour record {|
+    # The delay (in seconds) before each response
+    decimal latency = 0;
+    # Every `failEvery`-th request fails with `failureCode`, or no request fails if this is `0`
+    int failEvery = 0;
+    # The error code of the injected failures
+    string failureCode = "InternalServiceError";
+    # The HTTP status code of the injected failures
+    int failureStatusCode = 500;
+    # The number of requests served per second before the requests are throttled, or no request is throttled if
+    # this is `0`
+    int maxRequestsPerSecond = 0;
+    # The additional delay (in seconds) before each response to the requests signed for a region
+    map<decimal> regionLatency = {};
+    # The regions whose requests all fail with `failureCode`
+    string[] failingRegions = [];
+    # The regions to which the secrets are not replicated, whose requests all fail with `ResourceNotFoundException`
+    string[] unreplicatedRegions = [];
+    # Every `slowEvery`-th request is delayed by a further `slowLatency`, or no request is delayed if this is `0`
+    int slowEvery = 0;
+    # The additional delay (in seconds) of the slow requests
+    decimal slowLatency = 0;
+|};
+
+# Represents the request counters of the local AWS Secret Manager stub.
+type StubStats record {|
+    # The number of requests received
+    int requests = 0;
+    # The number of requests failed with an injected error
+    int failures = 0;
+    # The number of requests throttled
+    int throttled = 0;
+    # The number of requests received for each region
+    map<int> regionRequests = {};
+    # The number of requests received for each action, such as `GetSecretValue`
+    map<int> operationRequests = {};
+|};
+
+isolated StubBehaviour stubBehaviour = {};
+isolated StubStats stubStats = {};
+isolated decimal throttlingWindowStart = 0;
+isolated int throttlingWindowRequests = 0;
+
+# Changes the behaviour of the local AWS Secret Manager stub and resets its counters.
+#
+# + behaviour - The new behaviour of the stub
+isolated function configureStub(*StubBehaviour behaviour) {
+    lock {
+        stubBehaviour = behaviour.clone();
+    }
+    lock {
+        stubStats = {};
+    }
+}
+
+# Resets the behaviour and the counters of the local AWS Secret Manager stub before each test, so that only the tests
+# which need a different behaviour configure the stub.
+@test:BeforeEach
+isolated function resetStub() {
+    configureStub();
+}
+
+# The connection configurations of the clients created by the stub tests, which connect to the local AWS Secret
+# Manager stub with placeholder credentials unless they are overridden.
+type StubConnectionConfig record {|
+    *ConnectionConfig;
+    Region region = US_EAST_1;
+    StaticAuthConfig|AssumeRoleAuthConfig|EC2_IAM_ROLE|DEFAULT_CREDENTIALS auth = {
+        accessKeyId: "<access-key-id>",
+        secretAccessKey: "<secret-access-key>"
+    };
+    string endpointOverride = STUB_ENDPOINT;
+|};
+
+# Creates a client which connects to the local AWS Secret Manager stub.
+#
+# + config - The connection configurations of the client
+# + return - The client, or an error if the client could not be initialized
+isolated function newStubClient(*StubConnectionConfig config) returns Client|Error {
+    return new (config);
+}
+
+# Retrieves the request counters of the local AWS Secret Manager stub.
+#
+# + return - The request counters since the stub was last configured
+isolated function getStubStats() returns StubStats {
+    lock {
+        return stubStats.clone();
+    }
+}
+
+# A local stand-in for the AWS Secret Manager service, which implements the `DescribeSecret`, `GetSecretValue` and
+# `BatchGetSecretValue` actions of the AWS JSON 1.1 protocol. The stub serves `STUB_SECRET_COUNT` secrets named
+# `stub/secret/<n>`, whose values are `value-<n>`, the `STUB_JSON_SECRET` secret, whose value is a JSON document,
+# the `STUB_TEXT_SECRET` secret, whose value is not ASCII, and the `STUB_BINARY_SECRET` secret, whose value is binary.
+# The secrets are replicated to every region except the `unreplicatedRegions`, and the region of a request is taken
+# from its signature.
+service / on new http:Listener(STUB_PORT) {
+
+    isolated resource function post .(http:Request request) returns http:Response|error {
+        StubBehaviour behaviour;
+        lock {
+            behaviour = stubBehaviour.clone();
+        }
+        string region = getRequestRegion(request);
+        string target = check request.getHeader("X-Amz-Target");
+        string operation = target.startsWith("secretsmanager.") ? target.substring("secretsmanager.".length()) : target;
+        int requestNumber;
+        lock {
+            stubStats.requests += 1;
+            stubStats.regionRequests[region] = (stubStats.regionRequests[region] ?: 0) + 1;
+            stubStats.operationRequests[operation] = (stubStats.operationRequests[operation] ?: 0) + 1;
+            requestNumber = stubStats.requests;
+        }
+        decimal latency = behaviour.latency + (behaviour.regionLatency[region] ?: 0d);
+        if behaviour.slowEvery > 0 && requestNumber % behaviour.slowEvery == 0 {
+            latency += behaviour.slowLatency;
+        }
+        if latency > 0d {
+            runtime:sleep(latency);
+        }
+        if isThrottled(behaviour.maxRequestsPerSecond) {
+            lock {
+                stubStats.throttled += 1;
+            }
+            return createErrorResponse(400, "ThrottlingException", "Rate exceeded");
+        }
+        if (behaviour.failEvery > 0 && requestNumber % behaviour.failEvery == 0) ||
+                behaviour.failingRegions.indexOf(region) !is () {
+            lock {
+                stubStats.failures += 1;
+            }
+            return createErrorResponse(behaviour.failureStatusCode, behaviour.failureCode, "Injected failure");
+        }
+        if behaviour.unreplicatedRegions.indexOf(region) !is () {
+            return createSecretNotFoundResponse();
+        }
+        map<json> payload = check (check string:fromBytes(check request.getBinaryPayload())).fromJsonStringWithType();
+        match target {
+            "secretsmanager.DescribeSecret" => {
+                return describeStubSecret(region, check payload["SecretId"].ensureType());
+            }
+            "secretsmanager.GetSecretValue" => {
+                return getStubSecretValue(region, check payload["SecretId"].ensureType());
+            }
+            "secretsmanager.BatchGetSecretValue" => {
+                return batchGetStubSecretValue(region, payload);
+            }
+        }
+        return createErrorResponse(400, "UnknownOperationException", string `Unsupported operation: ${target}`);
+    }
+}
+
+# Retrieves the region for which a request is signed, from the credential scope of its SigV4 `Authorization` header,
+# which is formatted as `Credential=<access-key-id>/<date>/<region>/secretsmanager/aws4_request`.
+isolated function getRequestRegion(http:Request request) returns string {
+    string|http:HeaderNotFoundError authorization = request.getHeader("Authorization");
+    if authorization is http:HeaderNotFoundError {
+        return STUB_DEFAULT_REGION;
+    }
+    int? credentialIndex = authorization.indexOf("Credential=");
+    if credentialIndex is () {
+        return STUB_DEFAULT_REGION;
+    }
+    string[] scope = re `/`.split(authorization.substring(credentialIndex + "Credential=".length()));
+    return scope.length() > 2 ? scope[2] : STUB_DEFAULT_REGION;
+}
+
+isolated function getStubArn(string region, string name) returns string {
+    return STUB_ARN_PARTITION_PREFIX + region + ":" + STUB_ACCOUNT_ID + ":secret:" + name;
+}
+
+isolated function isThrottled(int maxRequestsPerSecond) returns boolean {
+    if maxRequestsPerSecond <= 0 {
+        return false;
+    }
+    decimal now = time:monotonicNow();
+    lock {
+        if now - throttlingWindowStart >= 1d {
+            throttlingWindowStart = now;
+            throttlingWindowRequests = 0;
+        }
+        throttlingWindowRequests += 1;
+        return throttlingWindowRequests > maxRequestsPerSecond;
+    }
+}
+
+isolated function describeStubSecret(string region, string secretId) returns http:Response {
+    string? name = getStubSecretName(region, secretId);
+    if name is () {
+        return createSecretNotFoundResponse();
+    }
+    return createResponse({
+        ARN: getStubArn(region, name),
+        Name: name,
+        Description: string `Stub secret ${name}`,
+        CreatedDate: 1.7E9,
+        LastChangedDate: 1.7E9,
+        OwningService: "stub",
+        PrimaryRegion: STUB_DEFAULT_REGION,
+        RotationEnabled: false,
+        VersionIdsToStages: {[getStubVersionId(name)]: ["AWSCURRENT"]}
+    });
+}
+
+isolated function getStubSecretValue(string region, string secretId) returns http:Response {
+    string? name = getStubSecretName(region, secretId);
+    if name is () {
+        return createSecretNotFoundResponse();
+    }
+    return createResponse(getStubSecretValueJson(region, name));
+}
+
+isolated function batchGetStubSecretValue(string region, map<json> payload) returns http:Response|error {
+    json[] secretValues = [];
+    json[] errors = [];
+    json secretIdList = payload["SecretIdList"];
+    if secretIdList is json[] {
+        foreach json secretId in secretIdList {
+            string? name = getStubSecretName(region, check secretId.ensureType());
+            if name is () {
+                errors.push({SecretId: secretId, ErrorCode: "ResourceNotFoundException",
+                    Message: "Secrets Manager can't find the specified secret."});
+            } else {
+                secretValues.push(getStubSecretValueJson(region, name));
+            }
+        }
+        return createResponse({SecretValues: secretValues, Errors: errors});
+    }
+    // the filters are not evaluated, hence a filtered request pages through all the secrets
+    int maxResults = payload.hasKey("MaxResults") ? check payload["MaxResults"].ensureType() : 20;
+    int offset = payload.hasKey("NextToken") ? check int:fromString(check payload["NextToken"].ensureType()) : 0;
+    int end = int:min(offset + maxResults, STUB_SECRET_COUNT);
+    foreach int i in offset ..< end {
+        secretValues.push(getStubSecretValueJson(region, STUB_SECRET_PREFIX + i.toString()));
+    }
+    map<json> response = {SecretValues: secretValues, Errors: errors};
+    if end < STUB_SECRET_COUNT {
+        response["NextToken"] = end.toString();
+    }
+    return createResponse(response);
+}
+
+isolated function getStubSecretName(string region, string secretId) returns string? {
+    // an ARN of another region does not refer to the replica in the region of the request
+    string arnPrefix = getStubArn(region, "");
+    string name = secretId.startsWith(arnPrefix) ? secretId.substring(arnPrefix.length()) : secretId;
+    if name == STUB_JSON_SECRET || name == STUB_TEXT_SECRET || name == STUB_BINARY_SECRET {
+        return name;
+    }
+    if !name.startsWith(STUB_SECRET_PREFIX) {
+        return;
+    }
+    int|error index = int:fromString(name.substring(STUB_SECRET_PREFIX.length()));
+    if index is error || index < 0 || index >= STUB_SECRET_COUNT {
+        return;
+    }
+    return name;
+}
+
+isolated function getStubSecretValueJson(string region, string name) returns map<json> {
+    map<json> secretValue = {
+        ARN: getStubArn(region, name),
+        Name: name,
+        VersionId: getStubVersionId(name),
+        VersionStages: ["AWSCURRENT"],
+        CreatedDate: 1.7E9
+    };
+    if name == STUB_BINARY_SECRET {
+        secretValue["SecretBinary"] = STUB_BINARY_SECRET_VALUE.toBase64();
+    } else {
+        secretValue["SecretString"] = getStubSecretString(name);
+    }
+    return secretValue;
+}
+
+isolated function getStubSecretString(string name) returns string {
+    if name == STUB_JSON_SECRET {
+        return STUB_JSON_SECRET_VALUE;
+    }
+    if name == STUB_TEXT_SECRET {
+        return STUB_TEXT_SECRET_VALUE;
+    }
+    return "value-" + name.substring(STUB_SECRET_PREFIX.length());
+}
+
+isolated function getStubVersionId(string name) returns string {
+    if name == STUB_JSON_SECRET {
+        return "00000000-0000-0000-0000-100000000000";
+    }
+    if name == STUB_TEXT_SECRET {
+        return "00000000-0000-0000-0000-200000000000";
+    }
+    if name == STUB_BINARY_SECRET {
+        return "00000000-0000-0000-0000-300000000000";
+    }
+    return "00000000-0000-0000-0000-" + name.substring(STUB_SECRET_PREFIX.length()).padZero(12);
+}
+
+isolated function createSecretNotFoundResponse() returns http:Response {
+    return createErrorResponse(400, "ResourceNotFoundException", "Secrets Manager can't find the specified secret.");
+}
+
+isolated function createResponse(map<json> body) returns http:Response {
+    http:Response response = new;
+    response.setJsonPayload(body, AWS_JSON_CONTENT_TYPE);
+    return response;
+}
+
+isolated function createErrorResponse(int statusCode, string errorCode, string message) returns http:Response {
+    http:Response response = createResponse({"__type": errorCode, "message": message});
+    response.statusCode = statusCode;
+    return response;
+}
@@ -19,10 +19,57 @@ import ballerina/time;
 
 # Represents the Client configurations for AWS Secret Manager service.
 public type ConnectionConfig record {|
-    # The AWS region with which the connector should communicate
+    # The AWS region with which the connector should communicate. This is the primary region when `multiRegion` is
+    # provided
     Region region;
+    # The configurations of the multi-region mode. When provided, the read requests are sent to the primary region or
+    # to one of the replica regions of the secrets
+    MultiRegionConfig multiRegion?;
+    # The URL to which the requests are sent instead of the regional AWS Secret Manager endpoint, such as a VPC
+    # endpoint or a local stand-in server
+    string endpointOverride?;
     # The authentication configurations for the AWS Secret Manager service
-    StaticAuthConfig|EC2_IAM_ROLE|DEFAULT_CREDENTIALS auth;
+    StaticAuthConfig|AssumeRoleAuthConfig|EC2_IAM_ROLE|DEFAULT_CREDENTIALS auth;
+    # The configurations for the in-memory secret value cache. Secret values are not cached if this is not provided
+    CacheConfig cache?;
+    # Whether to use the non-blocking AWS SDK client for the network calls. When enabled, concurrent
+    # requests are multiplexed over a non-blocking HTTP transport instead of blocking a thread per request
+    boolean useAsyncClient = false;
+    # The configurations for the underlying HTTP client and the API call timeouts
+    HttpClientConfig httpClient?;
+    # The configurations of the client-side retry policy. When provided, the AWS SDK retries are disabled and the
+    # failed requests are retried with a full-jitter exponential backoff within a retry budget
+    RetryConfig retryConfig?;
+    # The configurations of the client-side rate limiter, which limits the request rate of each operation. Each
+    # attempt of a request is charged to the rate limiter, hence the AWS SDK retries are disabled and the failed
+    # requests are retried with the default `retryConfig` if it is not provided
+    RateLimitConfig rateLimit?;
+    # The configurations of the hedging of the slow `describeSecret` and `getSecretValue` requests. When provided, a
+    # request which has not completed within a percentile of the recently observed latencies is sent a second time,
+    # and the first response is used
+    HedgingConfig hedging?;
+    # Whether to collapse concurrent identical `describeSecret` and `getSecretValue` requests into a single
+    # in-flight request. All the concurrent callers receive the same read-only result or the same error, and no
+    # result is retained after the in-flight request completes
+    boolean coalesceRequests = false;
+    # The configurations of the automatic batching of the concurrent `getSecretValue` requests. When provided, the
+    # requests for the current version of the secrets are buffered and sent as a single `BatchGetSecretValue`
+    # request, which requires the `secretsmanager:BatchGetSecretValue` permission
+    AutoBatchConfig autoBatch?;
+    # The configurations of the encrypted on-disk snapshot of the secret values. When provided, the retrieved
+    # secret values are persisted, and served from the snapshot while the client starts up and while the service
+    # is unavailable
+    SnapshotConfig snapshot?;
+    # Whether to overwrite the buffers of the binary secret values received from the service with zeros once they
+    # are converted to `byte[]` values, so that the secret material is not left in memory until it is garbage
+    # collected
+    boolean clearBinaryBuffers = false;
+    # The configurations of the executor which runs the network calls of the blocking AWS SDK client. This is not
+    # used when `useAsyncClient` is enabled
+    ExecutorConfig executor = {};
+    # The configurations of the warm-up performed when the client is initialized. When provided, the credentials are
+    # resolved, the pooled connections are opened and the secrets are prefetched before the client is returned
+    WarmUpConfig warmUp?;
 |};
 
 # An Amazon Web Services region that hosts a set of Amazon services.
@@ -91,6 +138,218 @@ public type StaticAuthConfig record {|
     string sessionToken?;
 |};
 
+# Represents the authentication using the temporary credentials of an assumed IAM role.
+#
+# The role session is created with the AWS Security Token Service, cached and renewed in the background before it
+# expires. Clients with the same authentication configurations share the same role session.
+public type AssumeRoleAuthConfig record {|
+    # The ARN of the IAM role to assume
+    string roleArn;
+    # The identifier of the role session, which is recorded in the AWS CloudTrail logs
+    string roleSessionName = "ballerina-aws-secretmanager";
+    # The external ID required by the trust policy of the role
+    string externalId?;
+    # The duration (in seconds) of the role session, which should be between 900 and 43200 seconds and should not
+    # exceed the maximum session duration of the role
+    int sessionDuration = 3600;
+    # The credentials used to assume the role
+    StaticAuthConfig|DEFAULT_CREDENTIALS sourceCredentials = DEFAULT_CREDENTIALS;
+|};
+
+# Represents the configurations for the in-memory secret value cache.
+# Secret values served from the cache are read-only.
+public type CacheConfig record {|
+    # The time (in seconds) for which a cached secret value is served before it is fetched again
+    decimal ttl = 300;
+    # The maximum number of secret values that can be kept in the cache
+    int maxEntries = 1000;
+    # The maximum total size (in bytes) of the secret values, in their UTF-8 encoding, that can be kept in the cache
+    int maxSizeInBytes = 10485760;
+    # Whether to revalidate an expired cache entry of the current version of a secret using the secret metadata.
+    # When enabled, the secret value is fetched again only if the `AWSCURRENT` version of the secret has changed,
+    # and cache entries expire no later than the next scheduled rotation of the secret. This allows a short `ttl`
+    # to pick up rotations quickly without fetching the secret value on each expiry
+    boolean rotationAware = false;
+|};
+
+# Represents the configurations of the client-side retry policy.
+public type RetryConfig record {|
+    # The maximum number of attempts for a request, including the initial attempt
+    int maxAttempts = 3;
+    # The base delay (in seconds) of the exponential backoff. The delay before each retry is chosen randomly
+    # between zero and the exponentially increasing backoff
+    decimal baseDelay = 0.1;
+    # The maximum delay (in seconds) before a retry
+    decimal maxDelay = 20;
+    # The number of retries allowed for each successful request. Failed requests are not retried once the retry
+    # budget is exhausted, which prevents retry storms when the service is overloaded
+    float budgetRatio = 0.1;
+|};
+
+# Represents the configurations of the warm-up performed when the client is initialized.
+#
+# The warm-up phases run in parallel. The connections are opened with `describeSecret` requests for a secret which
+# does not exist, hence these requests are reported as failed in the connector metrics.
+public type WarmUpConfig record {|
+    # The number of pooled connections to open
+    int connections = 1;
+    # The ARNs or names of the secrets to retrieve, which are stored in the secret value cache or the snapshot. The
+    # client initialization fails if neither the `cache` nor the `snapshot` is configured
+    SecretId[] prefetchSecrets = [];
+    # The maximum time (in seconds) to wait for the warm-up to complete
+    decimal timeout = 10;
+    # Whether the client initialization should fail if a warm-up step fails or does not complete in time
+    boolean failOnError = false;
+|};
+
+# Represents the durations and the outcome of the warm-up phases of a client.
+public type WarmUpReport record {|
+    # The time (in seconds) taken to resolve the credentials
+    decimal credentialsTime;
+    # The time (in seconds) taken to open the connections
+    decimal connectionsTime;
+    # The time (in seconds) taken to prefetch the secrets
+    decimal prefetchTime;
+    # The total time (in seconds) of the warm-up
+    decimal totalTime;
+    # The number of connections opened
+    int connections;
+    # The number of secrets prefetched
+    int prefetchedSecrets;
+    # The errors of the failed warm-up steps
+    string[] errors;
+|};
+
+# Represents the configurations of the hedging of the slow requests.
+#
+# The losing request is cancelled once the first response is received. The hedged requests are limited by a budget
+# which is replenished by the requests, hence they add at most `budgetRatio` to the request volume.
+public type HedgingConfig record {|
+    # The percentile of the recently observed latencies after which a request is sent a second time, which must be
+    # greater than 0 and less than 100
+    float percentile = 95;
+    # The minimum delay (in seconds) before a request is sent a second time, which is also used until enough
+    # latencies are observed
+    decimal minDelay = 0.05;
+    # The number of hedged requests allowed for each request, which must be between 0 and 1
+    float budgetRatio = 0.05;
+|};
+
+# Represents the configurations of the automatic batching of the concurrent `getSecretValue` requests.
+public type AutoBatchConfig record {|
+    # The maximum time (in seconds) a request is buffered before the batch is sent
+    decimal window = 0.005;
+    # The maximum number of secrets retrieved with a single request. The batch is sent as soon as this number of
+    # requests are buffered. The allowed maximum is 20
+    int maxBatchSize = 20;
+|};
+
+# Represents the configurations of the executor which runs the network calls of the blocking AWS SDK client.
+#
+# At most `maxConcurrency` requests are executed concurrently and at most `maxQueueSize` further requests wait for an
+# execution slot. The executor is shut down when the client is closed.
+public type ExecutorConfig record {|
+    # Whether to run each request on a new virtual thread instead of a pool of platform threads
+    boolean virtualThreads = false;
+    # The maximum number of requests executed concurrently, which is also the size of the thread pool
+    int maxConcurrency = 50;
+    # The maximum number of requests waiting for an execution slot
+    int maxQueueSize = 1000;
+    # The behaviour when a request is made while the queue is full. `BLOCK` waits until there is space in the queue
+    # and `REJECT` fails the request immediately
+    OverflowPolicy overflowPolicy = BLOCK;
+    # Whether the threads of the pool are daemon threads, which do not prevent the program from exiting. Virtual
+    # threads are always daemon threads
+    boolean daemon = true;
+|};
+
+# Represents the configurations of the multi-region mode of the client.
+#
+# The requests are sent to the healthy region with the lowest moving average of the observed latency, where the
+# regions without an observed latency are used only after the ones with it. A request which fails with a timeout, a
+# throttling or a server error is sent again to the next region. The ARNs of the secrets are rewritten to the region
+# to which each request is sent, and a request for a secret which is not found in a replica region is also sent to the
+# next region. A hedged request is cancelled once another region has responded, and a request fails only after it has
+# failed in all the regions to which it was sent.
+public type MultiRegionConfig record {|
+    # The regions to which the secrets are replicated
+    Region[] replicaRegions;
+    # The time in seconds after which a request which has not completed is also sent to the next region. The
+    # requests are not hedged if this is not provided
+    decimal hedgeDelay?;
+    # The maximum ratio of the requests which are hedged to the next region, which must be between 0 and 1
+    float hedgeBudgetRatio = 0.05;
+    # The weight of the latest latency sample in the moving average of the latency of a region, which must be
+    # greater than 0 and at most 1
+    float latencySmoothing = 0.2;
+    # The time in seconds for which a region is not preferred after a request to it fails with a timeout or a
+    # server error
+    decimal failureCooldown = 30;
+|};
+
+# The behaviour of the executor of the blocking AWS SDK client when a request is made while the queue is full.
+public enum OverflowPolicy {
+    BLOCK,
+    REJECT
+}
+
+# Represents the configurations of the encrypted on-disk snapshot of the secret values.
+#
+# Each secret value in the snapshot is encrypted with AES-GCM, and the snapshot file is replaced atomically when it
+# is updated. When a client is created, the secret values available in the snapshot are served immediately and
+# revalidated in the background. Afterwards, the snapshot is used only if the service is throttling the requests or is
+# unavailable. Only the `getSecretValue` results are persisted.
+public type SnapshotConfig record {|
+    # The path of the snapshot file
+    string path;
+    # The Base64 encoded 128, 192 or 256-bit AES key used to encrypt the snapshot
+    string encryptionKey;
+    # The maximum age (in seconds) of a secret value which could be served from the snapshot. If not provided, the
+    # secret values are served regardless of their age
+    decimal maxStaleness?;
+|};
+
+# Represents the configurations of the client-side rate limiter. The request rate of each operation is limited
+# using a token bucket, which allows bursts of up to one second of requests.
+public type RateLimitConfig record {|
+    # The maximum number of `DescribeSecret` requests per second
+    decimal describeSecretRate = 50;
+    # The maximum number of `GetSecretValue` requests per second
+    decimal getSecretValueRate = 100;
+    # The maximum number of `BatchGetSecretValue` requests per second
+    decimal batchGetSecretValueRate = 20;
+    # Whether to reduce the request rate when the requests are throttled by the service, and gradually restore it
+    # as the requests succeed
+    boolean adaptive = true;
+    # The maximum time (in seconds) a request is delayed until the request rate allows it. The requests which would
+    # be delayed for longer fail instead of adding to the backlog of delayed requests
+    decimal maxWait = 10;
+|};
+
+# Represents the configurations of the underlying HTTP client and the API call timeouts.
+# The AWS SDK defaults are used for the configurations which are not provided.
+public type HttpClientConfig record {|
+    # The maximum number of connections (or concurrent requests for the non-blocking client) allowed in the
+    # connection pool
+    int maxConnections?;
+    # The maximum time (in seconds) to wait while establishing a connection
+    decimal connectionTimeout?;
+    # The maximum time (in seconds) to wait for data to be transferred over an established connection
+    decimal socketTimeout?;
+    # The maximum time (in seconds) a pooled connection is kept open before it is closed
+    decimal connectionTimeToLive?;
+    # The maximum time (in seconds) a connection can stay idle in the pool before it is closed
+    decimal connectionMaxIdleTime?;
+    # The maximum time (in seconds) to wait to lease a connection from the pool
+    decimal connectionAcquisitionTimeout?;
+    # Whether to enable the TCP keep-alive on the connections
+    boolean tcpKeepAlive?;
+    # The maximum time (in seconds) for a single HTTP request attempt to complete
+    decimal apiCallAttemptTimeout?;
+    # The maximum time (in seconds) for an API call to complete, including all the retry attempts
+    decimal apiCallTimeout?;
+|};
+
 # The ARN or name of the secret.
 @constraint:String {
     minLength: {
@@ -144,6 +403,52 @@ public type DescribeSecretResponse record {|
     map<StagingStatus[]> versionToStages?;
 |};
 
+# Represents a field of the secret details which could be requested with the `describeSecretProjection` API.
+public type DescribeSecretField "arn"|"createdDate"|"deletedDate"|"description"|"kmsKeyId"|"lastAccessedDate"|
+    "lastChangedDate"|"lastRotatedDate"|"name"|"nextRotationDate"|"owningService"|"primaryRegion"|"replicationStatus"|
+    "rotationEnabled"|"rotationLambdaArn"|"rotationRules"|"tags"|"versionToStages";
+
+# Represents the selected details of a secret retrieved with the `describeSecretProjection` API. Only the requested
+# fields which have a value are present.
+public type DescribeSecretProjection record {|
+    # The ARN of the secret
+    string arn?;
+    # The date the secret was created
+    time:Utc createdDate?;
+    # The date the secret is scheduled for deletion
+    time:Utc deletedDate?;
+    # The description of the secret
+    string description?;
+    # The key ID or alias ARN of the AWS KMS key that Secrets Manager uses to encrypt the secret value
+    string kmsKeyId?;
+    # The date that the secret was last accessed in the Region
+    time:Utc lastAccessedDate?;
+    # The last date and time that this secret was modified in any way
+    time:Utc lastChangedDate?;
+    # The last date and time that Secrets Manager rotated the secret
+    time:Utc lastRotatedDate?;
+    # The name of the secret
+    string name?;
+    # The next rotation is scheduled to occur on or before this date
+    time:Utc nextRotationDate?;
+    # The ID of the service that created this secret
+    string owningService?;
+    # The Region the secret is in
+    Region primaryRegion?;
+    # A list of the replicas of this secret and their status
+    ReplicationStatus[] replicationStatus?;
+    # Specifies whether automatic rotation is turned on for this secret
+    boolean rotationEnabled?;
+    # The ARN of the Lambda function that Secrets Manager invokes to rotate the secret
+    string rotationLambdaArn?;
+    # The rotation schedule and Lambda function for this secret
+    RotationRules rotationRules?;
+    # The list of tags attached to the secret
+    Tag[] tags?;
+    # A list of the versions of the secret that have staging labels attached
+    map<StagingStatus[]> versionToStages?;
+|};
+
 # Represents the replication status of a secret in AWS Secrets Manager.
 public type ReplicationStatus record {|
     # The ARN, key ID, or an alias ARN of the AWS KMS key that Secrets Manager uses to encrypt the secret value
@@ -0,0 +1,43 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/time;
+import ballerinax/aws.secretmanager;
+
+configurable string endpoint = "http://localhost:9591";
+configurable string secretId = "benchmark/app/secret-0";
+configurable boolean useAsyncClient = false;
+
+# Initializes a client against the stub of the AWS Secret Manager service, retrieves a secret value and exits, so
+# that the process measures the startup cost of the connector.
+#
+# + return - An error if the client could not be initialized or the secret value could not be retrieved
+public function main() returns error? {
+    decimal startTime = time:monotonicNow();
+    secretmanager:Client secretManager = check new ({
+        region: secretmanager:US_EAST_1,
+        auth: {accessKeyId: "<access-key-id>", secretAccessKey: "<secret-access-key>"},
+        endpointOverride: endpoint,
+        useAsyncClient
+    });
+    decimal initTime = time:monotonicNow();
+    secretmanager:SecretValue secret = check secretManager->getSecretValue(secretId);
+    decimal firstRequestTime = time:monotonicNow();
+    check secretManager->close();
+    io:println(string `init=${initTime - startTime}s first-request=${firstRequestTime - initTime}s ` +
+        string `secret=${secret.name}`);
+}
@@ -0,0 +1,79 @@
+#!/usr/bin/env bash
+# Compares the startup time and the memory footprint of a program using the connector, built as a JVM executable and
+# as a GraalVM native executable, against the benchmark stub of the AWS Secret Manager service.
+#
+# Usage: benchmarks/native-image/profile.sh [runs]
+#
+# Requires the Ballerina distribution, GraalVM with `GRAALVM_HOME` set, and GNU time at `/usr/bin/time`. The
+# connector is built and published to the local Ballerina repository before the program is built.
+
+set -euo pipefail
+
+RUNS="${1:-10}"
+STUB_PORT="${STUB_PORT:-9591}"
+ROOT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")/../.." && pwd)"
+SOURCE_DIR="${ROOT_DIR}/benchmarks/native-image"
+BUILD_DIR="${ROOT_DIR}/benchmarks/build/native-image"
+PACKAGE_NAME="aws_secretmanager_startup_profile"
+CONNECTOR_VERSION="$(sed -n 's/^version = "\(.*\)"$/\1/p' "${ROOT_DIR}/ballerina/Ballerina.toml" | head -1)"
+
+echo "Building the connector ${CONNECTOR_VERSION} and publishing it to the local repository"
+"${ROOT_DIR}/gradlew" -p "${ROOT_DIR}" build -x test -PpublishToLocalCentral=true
+
+echo "Building the JVM and the native executables"
+rm -rf "${BUILD_DIR}"
+mkdir -p "${BUILD_DIR}"
+cp "${SOURCE_DIR}/main.bal" "${BUILD_DIR}/"
+cat > "${BUILD_DIR}/Ballerina.toml" <<TOML
+[package]
+org = "ballerinax"
+name = "${PACKAGE_NAME}"
+version = "0.1.0"
+
+[[dependency]]
+org = "ballerinax"
+name = "aws.secretmanager"
+version = "${CONNECTOR_VERSION}"
+repository = "local"
+TOML
+(cd "${BUILD_DIR}" && bal build && mv "target/bin/${PACKAGE_NAME}.jar" "${BUILD_DIR}/${PACKAGE_NAME}.jar")
+(cd "${BUILD_DIR}" && bal build --graalvm && mv "target/bin/${PACKAGE_NAME}" "${BUILD_DIR}/${PACKAGE_NAME}")
+
+echo "Starting the stub on port ${STUB_PORT}"
+"${ROOT_DIR}/gradlew" -p "${ROOT_DIR}" :aws.secretmanager-benchmarks:runStub -PstubPort="${STUB_PORT}" \
+    > "${BUILD_DIR}/stub.log" 2>&1 &
+STUB_PID=$!
+trap 'kill "${STUB_PID}" 2> /dev/null || true' EXIT
+until curl -s -o /dev/null -X POST "http://localhost:${STUB_PORT}/"; do
+    if ! kill -0 "${STUB_PID}" 2> /dev/null; then
+        echo "The stub did not start, see ${BUILD_DIR}/stub.log" >&2
+        exit 1
+    fi
+    sleep 1
+done
+
+# Runs the provided command `RUNS` times and prints the median wall-clock time and the median maximum resident set
+# size of the runs.
+measure() {
+    local name="$1"
+    shift
+    local times=()
+    local rss=()
+    for ((i = 0; i < RUNS; i++)); do
+        /usr/bin/time -f "%e %M" -o "${BUILD_DIR}/time.out" "$@" -Cendpoint="http://localhost:${STUB_PORT}" \
+            > "${BUILD_DIR}/${name}.out"
+        read -r elapsed maxRss < "${BUILD_DIR}/time.out"
+        times+=("${elapsed}")
+        rss+=("${maxRss}")
+    done
+    local medianTime
+    local medianRss
+    medianTime="$(printf '%s\n' "${times[@]}" | sort -n | sed -n "$(((RUNS + 1) / 2))p")"
+    medianRss="$(printf '%s\n' "${rss[@]}" | sort -n | sed -n "$(((RUNS + 1) / 2))p")"
+    printf '%-8s startup: %6ss  max RSS: %8s KiB  last run: %s\n' "${name}" "${medianTime}" "${medianRss}" \
+        "$(cat "${BUILD_DIR}/${name}.out")"
+}
+
+echo "Measuring ${RUNS} runs of each executable"
+measure "jvm" java -jar "${BUILD_DIR}/${PACKAGE_NAME}.jar"
+measure "native" "${BUILD_DIR}/${PACKAGE_NAME}"
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.Module;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretResponse;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.ReplicationStatusType;
+import software.amazon.awssdk.services.secretsmanager.model.RotationRulesType;
+import software.amazon.awssdk.services.secretsmanager.model.SecretValueEntry;
+import software.amazon.awssdk.services.secretsmanager.model.StatusType;
+import software.amazon.awssdk.services.secretsmanager.model.Tag;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * {@code BenchmarkData} creates the native AWS Secret Manager responses used by the benchmarks, with realistic
+ * sizes of secret values, tags, replicas and versions.
+ */
+final class BenchmarkData {
+    static final String ACCOUNT_ARN_PREFIX = "arn:aws:secretsmanager:us-east-1:123456789012:secret:";
+    static final int BATCH_SIZE = 20;
+    static final int TAG_COUNT = 50;
+    static final int REPLICA_COUNT = 10;
+    static final int VERSION_COUNT = 10;
+
+    private static final String MODULE_INIT_CLASS = "ballerinax.aws$0046secretmanager.0.$_init";
+    private static final String ALPHANUMERIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final String[] REGIONS = {
+            "us-east-2", "us-west-1", "us-west-2", "eu-west-1", "eu-west-2", "eu-central-1", "ap-south-1",
+            "ap-southeast-1", "ap-southeast-2", "ap-northeast-1"
+    };
+    private static final Instant CREATED_DATE = Instant.parse("2025-01-01T00:00:00Z");
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Initializes the Ballerina module used to create the Ballerina records, which is otherwise initialized by the
+     * Ballerina module init. The records are created by name from the code generated for the module, which is
+     * registered when the init class of the module is loaded. The module is set on {@link ModuleUtils} reflectively,
+     * so that the connector does not ship a setter that is only used by the benchmarks.
+     */
+    static void initModule() {
+        try {
+            Class.forName(MODULE_INIT_CLASS);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("The code generated for the connector module is not in the class path, " +
+                    "build the Ballerina module before running the benchmarks", e);
+        }
+        try {
+            Field module = ModuleUtils.class.getDeclaredField("module");
+            module.setAccessible(true);
+            module.set(null, new Module("ballerinax", "aws.secretmanager", "0"));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to set the module of the connector", e);
+        }
+    }
+
+    static String secretName(int index) {
+        return "benchmark/app/secret-" + index;
+    }
+
+    static String secretArn(int index) {
+        return ACCOUNT_ARN_PREFIX + secretName(index) + "-AbCdEf";
+    }
+
+    static String versionId(int index) {
+        return String.format("00000000-0000-0000-0000-%012d", index);
+    }
+
+    static String randomString(int length, Random random) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHANUMERIC.charAt(random.nextInt(ALPHANUMERIC.length())));
+        }
+        return builder.toString();
+    }
+
+    static byte[] randomBytes(int length, Random random) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    static GetSecretValueResponse getSecretValueResponse(int secretSize, boolean binary, Random random) {
+        GetSecretValueResponse.Builder builder = GetSecretValueResponse.builder()
+                .arn(secretArn(0))
+                .name(secretName(0))
+                .versionId(versionId(0))
+                .versionStages("AWSCURRENT")
+                .createdDate(CREATED_DATE);
+        if (binary) {
+            builder.secretBinary(SdkBytes.fromByteArray(randomBytes(secretSize, random)));
+        } else {
+            builder.secretString(randomString(secretSize, random));
+        }
+        return builder.build();
+    }
+
+    static BatchGetSecretValueResponse batchGetSecretValueResponse(int secretSize, Random random) {
+        List<SecretValueEntry> secretValues = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            secretValues.add(SecretValueEntry.builder()
+                    .arn(secretArn(i))
+                    .name(secretName(i))
+                    .versionId(versionId(i))
+                    .versionStages("AWSCURRENT")
+                    .secretString(randomString(secretSize, random))
+                    .createdDate(CREATED_DATE)
+                    .build());
+        }
+        return BatchGetSecretValueResponse.builder().secretValues(secretValues).build();
+    }
+
+    static DescribeSecretResponse describeSecretResponse() {
+        List<Tag> tags = new ArrayList<>(TAG_COUNT);
+        for (int i = 0; i < TAG_COUNT; i++) {
+            tags.add(Tag.builder().key("tag-key-" + i).value("tag-value-" + i).build());
+        }
+        List<ReplicationStatusType> replicas = new ArrayList<>(REPLICA_COUNT);
+        for (int i = 0; i < REPLICA_COUNT; i++) {
+            replicas.add(ReplicationStatusType.builder()
+                    .region(REGIONS[i % REGIONS.length])
+                    .kmsKeyId("alias/aws/secretsmanager")
+                    .status(StatusType.IN_SYNC)
+                    .statusMessage("Replication succeeded")
+                    .lastAccessedDate(CREATED_DATE)
+                    .build());
+        }
+        Map<String, List<String>> versionIdsToStages = new LinkedHashMap<>();
+        versionIdsToStages.put(versionId(0), List.of("AWSCURRENT"));
+        versionIdsToStages.put(versionId(1), List.of("AWSPREVIOUS"));
+        for (int i = 2; i < VERSION_COUNT; i++) {
+            versionIdsToStages.put(versionId(i), List.of("stage-" + i));
+        }
+        return DescribeSecretResponse.builder()
+                .arn(secretArn(0))
+                .name(secretName(0))
+                .description("Secret used by the benchmarks")
+                .kmsKeyId("alias/aws/secretsmanager")
+                .rotationEnabled(true)
+                .rotationLambdaARN("arn:aws:lambda:us-east-1:123456789012:function:rotate")
+                .rotationRules(RotationRulesType.builder().automaticallyAfterDays(30L).build())
+                .lastRotatedDate(CREATED_DATE)
+                .lastChangedDate(CREATED_DATE)
+                .lastAccessedDate(CREATED_DATE)
+                .nextRotationDate(CREATED_DATE.plus(30, ChronoUnit.DAYS))
+                .tags(tags)
+                .versionIdsToStages(versionIdsToStages)
+                .owningService("benchmarks")
+                .createdDate(CREATED_DATE)
+                .primaryRegion("us-east-1")
+                .replicationStatus(replicas)
+                .build();
+    }
+}
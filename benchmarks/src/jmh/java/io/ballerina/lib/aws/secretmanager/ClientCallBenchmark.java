@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerAsyncClient;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretRequest;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the end-to-end call paths of the {@link NativeClient} implementations against a local
+ * {@link SecretsManagerStub}, including the request marshalling, the HTTP round trip, the response unmarshalling and
+ * the conversion to the Ballerina records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class ClientCallBenchmark {
+    private static final StaticCredentialsProvider CREDENTIALS = StaticCredentialsProvider.create(
+            AwsBasicCredentials.create("benchmark-access-key", "benchmark-secret-key"));
+
+    @Param({"sync", "sync-virtual", "async"})
+    public String clientType;
+
+    @Param({"1024", "65536"})
+    public int secretSize;
+
+    private SecretsManagerStub stub;
+    private NativeClient nativeClient;
+    private GetSecretValueRequest getSecretValueRequest;
+    private DescribeSecretRequest describeSecretRequest;
+    private BatchGetSecretValueRequest batchGetSecretValueRequest;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkData.initModule();
+        stub = new SecretsManagerStub(secretSize);
+        if ("async".equals(clientType)) {
+            nativeClient = new AsyncNativeClient(SecretsManagerAsyncClient.builder()
+                    .httpClientBuilder(NettyNioAsyncHttpClient.builder())
+                    .endpointOverride(stub.endpoint())
+                    .credentialsProvider(CREDENTIALS)
+                    .region(Region.US_EAST_1).build());
+        } else {
+            nativeClient = new SyncNativeClient(SecretsManagerClient.builder()
+                    .httpClientBuilder(ApacheHttpClient.builder())
+                    .endpointOverride(stub.endpoint())
+                    .credentialsProvider(CREDENTIALS)
+                    .region(Region.US_EAST_1).build(),
+                    new BlockingRequestExecutor(new ExecutorConfig("sync-virtual".equals(clientType), 50, 1000,
+                            ExecutorConfig.OverflowPolicy.BLOCK, true), Region.US_EAST_1.id()));
+        }
+        getSecretValueRequest = GetSecretValueRequest.builder().secretId(BenchmarkData.secretName(0)).build();
+        describeSecretRequest = DescribeSecretRequest.builder().secretId(BenchmarkData.secretName(0)).build();
+        List<String> secretIds = new ArrayList<>(BenchmarkData.BATCH_SIZE);
+        for (int i = 0; i < BenchmarkData.BATCH_SIZE; i++) {
+            secretIds.add(BenchmarkData.secretName(i));
+        }
+        batchGetSecretValueRequest = BatchGetSecretValueRequest.builder().secretIdList(secretIds).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        nativeClient.close();
+        stub.close();
+    }
+
+    @Benchmark
+    public BMap<BString, Object> getSecretValue() {
+        return ResponseMapper.getSecretValueResponse(nativeClient.getSecretValue(getSecretValueRequest).join(), false);
+    }
+
+    @Benchmark
+    public BMap<BString, Object> describeSecret() {
+        return ResponseMapper.getDescribeSecretResponse(nativeClient.describeSecret(describeSecretRequest).join());
+    }
+
+    @Benchmark
+    public BMap<BString, Object> batchGetSecretValue() {
+        return ResponseMapper.getBatchGetSecretValueResponse(
+                nativeClient.batchGetSecretValue(batchGetSecretValueRequest).join(), false);
+    }
+}
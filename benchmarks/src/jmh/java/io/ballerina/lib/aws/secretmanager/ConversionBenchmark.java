@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretResponse;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.ResourceNotFoundException;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversions of the native AWS Secret Manager responses to the Ballerina records in
+ * {@link ResponseMapper}, and of the AWS SDK exceptions to the Ballerina errors in {@link CommonUtils}, without any
+ * network calls. The `gc.alloc.rate.norm` metric of the `gc` profiler reports the bytes allocated for each conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConversionBenchmark {
+
+    @Param({"1024", "65536"})
+    public int secretSize;
+
+    private GetSecretValueResponse stringSecretValue;
+    private GetSecretValueResponse binarySecretValue;
+    private BatchGetSecretValueResponse batchSecretValues;
+    private DescribeSecretResponse describeSecret;
+    private ResourceNotFoundException serviceError;
+
+    @Setup
+    public void setup() {
+        BenchmarkData.initModule();
+        Random random = new Random(42);
+        stringSecretValue = BenchmarkData.getSecretValueResponse(secretSize, false, random);
+        binarySecretValue = BenchmarkData.getSecretValueResponse(secretSize, true, random);
+        batchSecretValues = BenchmarkData.batchGetSecretValueResponse(secretSize, random);
+        describeSecret = BenchmarkData.describeSecretResponse();
+        serviceError = ResourceNotFoundException.builder()
+                .message("Secrets Manager can't find the specified secret.")
+                .statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode("ResourceNotFoundException")
+                        .errorMessage("Secrets Manager can't find the specified secret.")
+                        .serviceName("SecretsManager")
+                        .sdkHttpResponse(SdkHttpResponse.builder().statusCode(400).statusText("Bad Request").build())
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public BMap<BString, Object> getStringSecretValue() {
+        return ResponseMapper.getSecretValueResponse(stringSecretValue, false);
+    }
+
+    @Benchmark
+    public BMap<BString, Object> getBinarySecretValue() {
+        return ResponseMapper.getSecretValueResponse(binarySecretValue, false);
+    }
+
+    @Benchmark
+    public BMap<BString, Object> getBatchGetSecretValueResponse() {
+        return ResponseMapper.getBatchGetSecretValueResponse(batchSecretValues, false);
+    }
+
+    @Benchmark
+    public BMap<BString, Object> getDescribeSecretResponse() {
+        return ResponseMapper.getDescribeSecretResponse(describeSecret);
+    }
+
+    @Benchmark
+    public BError createServiceError() {
+        return CommonUtils.createError("Error occurred while retrieving the secret value", serviceError);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the effect of the connection pool size of the {@link HttpClientConfig} on the throughput and the latency
+ * of concurrent calls. The clients are created by the {@link NativeClientFactory}, as for a Ballerina client, and the
+ * calls go to a local {@link SecretsManagerStub} which delays each response, so that the calls hold their connections
+ * for as long as a call to the service does.
+ * <p>
+ * With 64 concurrent callers, a pool which is smaller than the number of callers caps the throughput at about
+ * {@code maxConnections / stubLatency}, and the callers which wait for a connection show up in the higher latency
+ * percentiles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+public class HttpPoolBenchmark {
+    private static final StaticCredentialsProvider CREDENTIALS = StaticCredentialsProvider.create(
+            AwsBasicCredentials.create("benchmark-access-key", "benchmark-secret-key"));
+
+    @Param({"sync", "async"})
+    public String clientType;
+
+    @Param({"8", "32", "128"})
+    public int maxConnections;
+
+    @Param({"5"})
+    public int stubLatencyInMillis;
+
+    private SecretsManagerStub stub;
+    private NativeClient nativeClient;
+    private GetSecretValueRequest getSecretValueRequest;
+
+    @Setup
+    public void setup() throws IOException {
+        stub = new SecretsManagerStub(1024, 0, Duration.ofMillis(stubLatencyInMillis));
+        HttpClientConfig httpClient = new HttpClientConfig(maxConnections, null, null, null, null,
+                Duration.ofSeconds(30), null, null, null);
+        ConnectionConfig connectionConfig = new ConnectionConfig(Region.US_EAST_1, new DefaultAuthConfig(), null,
+                "async".equals(clientType), httpClient, null, null, false, null, null, false,
+                new ExecutorConfig(false, 256, 1000, ExecutorConfig.OverflowPolicy.BLOCK, true), stub.endpoint(),
+                null, null, null);
+        nativeClient = NativeClientFactory.createClient(connectionConfig, CREDENTIALS);
+        getSecretValueRequest = GetSecretValueRequest.builder().secretId(BenchmarkData.secretName(0)).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        nativeClient.close();
+        stub.close();
+    }
+
+    @Benchmark
+    public GetSecretValueResponse getSecretValue() {
+        return nativeClient.getSecretValue(getSecretValueRequest).join();
+    }
+}
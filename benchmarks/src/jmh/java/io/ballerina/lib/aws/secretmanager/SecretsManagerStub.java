@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@code SecretsManagerStub} is a local HTTP server which speaks the AWS Secret Manager JSON protocol, used to
+ * benchmark the end-to-end call paths without the network latency and the variance of the AWS service.
+ * <p>
+ * The responses are pre-built for the provided secret size, hence the server adds a constant and small overhead to
+ * each call.
+ */
+final class SecretsManagerStub implements AutoCloseable {
+    private static final String TARGET_HEADER = "X-Amz-Target";
+    private static final String TARGET_PREFIX = "secretsmanager.";
+    private static final String CONTENT_TYPE = "application/x-amz-json-1.1";
+    private static final long CREATED_DATE = 1735689600L;
+    private static final byte[] UNSUPPORTED_OPERATION_RESPONSE =
+            "{\"__type\":\"InvalidRequestException\",\"message\":\"Unsupported operation\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, byte[]> responses;
+    private final long latencyInMillis;
+
+    SecretsManagerStub(int secretSize) throws IOException {
+        this(secretSize, 0, Duration.ZERO);
+    }
+
+    SecretsManagerStub(int secretSize, int port) throws IOException {
+        this(secretSize, port, Duration.ZERO);
+    }
+
+    /**
+     * Starts the stub.
+     *
+     * @param secretSize The size of the secret values.
+     * @param port       The port of the stub, or {@code 0} to use an ephemeral port.
+     * @param latency    The delay before each response, which stands for the service latency.
+     * @throws IOException If the stub could not be started.
+     */
+    SecretsManagerStub(int secretSize, int port, Duration latency) throws IOException {
+        Random random = new Random(42);
+        this.responses = Map.of(
+                "GetSecretValue", getSecretValueResponse(secretSize, random),
+                "BatchGetSecretValue", batchGetSecretValueResponse(secretSize, random),
+                "DescribeSecret", describeSecretResponse());
+        this.latencyInMillis = latency.toMillis();
+        // the delayed responses wait on virtual threads, hence the stub does not limit the concurrent requests
+        this.executor = latencyInMillis > 0 ? Executors.newVirtualThreadPerTaskExecutor() :
+                Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    /**
+     * Runs the stub until the process is terminated, so that it can serve the executables started by the native image
+     * profile.
+     *
+     * @param args The port of the stub, and optionally the size of the secret values.
+     * @throws IOException If the stub could not be started.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = Integer.parseInt(args[0]);
+        int secretSize = args.length > 1 ? Integer.parseInt(args[1]) : 1024;
+        SecretsManagerStub stub = new SecretsManagerStub(secretSize, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+    }
+
+    URI endpoint() {
+        return URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream request = exchange.getRequestBody()) {
+            request.readAllBytes();
+            if (latencyInMillis > 0) {
+                Thread.sleep(latencyInMillis);
+            }
+            String target = exchange.getRequestHeaders().getFirst(TARGET_HEADER);
+            byte[] response = Objects.nonNull(target) && target.startsWith(TARGET_PREFIX) ?
+                    responses.get(target.substring(TARGET_PREFIX.length())) : null;
+            int statusCode = 200;
+            if (Objects.isNull(response)) {
+                statusCode = 400;
+                response = UNSUPPORTED_OPERATION_RESPONSE;
+            }
+            exchange.getResponseHeaders().add("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(statusCode, response.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static byte[] getSecretValueResponse(int secretSize, Random random) {
+        StringBuilder json = new StringBuilder(secretSize + 256);
+        appendSecretValue(json, 0, BenchmarkData.randomString(secretSize, random));
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] batchGetSecretValueResponse(int secretSize, Random random) {
+        StringBuilder json = new StringBuilder(BenchmarkData.BATCH_SIZE * (secretSize + 256));
+        json.append("{\"SecretValues\":[");
+        for (int i = 0; i < BenchmarkData.BATCH_SIZE; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendSecretValue(json, i, BenchmarkData.randomString(secretSize, random));
+        }
+        json.append("],\"Errors\":[]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendSecretValue(StringBuilder json, int index, String secretString) {
+        json.append("{\"ARN\":\"").append(BenchmarkData.secretArn(index))
+                .append("\",\"Name\":\"").append(BenchmarkData.secretName(index))
+                .append("\",\"VersionId\":\"").append(BenchmarkData.versionId(index))
+                .append("\",\"SecretString\":\"").append(secretString)
+                .append("\",\"VersionStages\":[\"AWSCURRENT\"],\"CreatedDate\":").append(CREATED_DATE)
+                .append('}');
+    }
+
+    private static byte[] describeSecretResponse() {
+        StringBuilder json = new StringBuilder(8192);
+        json.append("{\"ARN\":\"").append(BenchmarkData.secretArn(0))
+                .append("\",\"Name\":\"").append(BenchmarkData.secretName(0))
+                .append("\",\"Description\":\"Secret used by the benchmarks\"")
+                .append(",\"KmsKeyId\":\"alias/aws/secretsmanager\",\"RotationEnabled\":true")
+                .append(",\"RotationLambdaARN\":\"arn:aws:lambda:us-east-1:123456789012:function:rotate\"")
+                .append(",\"RotationRules\":{\"AutomaticallyAfterDays\":30}")
+                .append(",\"LastRotatedDate\":").append(CREATED_DATE)
+                .append(",\"LastChangedDate\":").append(CREATED_DATE)
+                .append(",\"LastAccessedDate\":").append(CREATED_DATE)
+                .append(",\"NextRotationDate\":").append(CREATED_DATE + 30 * 24 * 3600)
+                .append(",\"OwningService\":\"benchmarks\",\"CreatedDate\":").append(CREATED_DATE)
+                .append(",\"PrimaryRegion\":\"us-east-1\",\"Tags\":[");
+        for (int i = 0; i < BenchmarkData.TAG_COUNT; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"Key\":\"tag-key-").append(i).append("\",\"Value\":\"tag-value-").append(i).append("\"}");
+        }
+        json.append("],\"VersionIdsToStages\":{");
+        for (int i = 0; i < BenchmarkData.VERSION_COUNT; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            String stage = i == 0 ? "AWSCURRENT" : i == 1 ? "AWSPREVIOUS" : "stage-" + i;
+            json.append('"').append(BenchmarkData.versionId(i)).append("\":[\"").append(stage).append("\"]");
+        }
+        json.append("},\"ReplicationStatus\":[");
+        for (int i = 0; i < BenchmarkData.REPLICA_COUNT; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"Region\":\"replica-region-").append(i)
+                    .append("\",\"KmsKeyId\":\"alias/aws/secretsmanager\",\"Status\":\"InSync\"")
+                    .append(",\"StatusMessage\":\"Replication succeeded\",\"LastAccessedDate\":").append(CREATED_DATE)
+                    .append('}');
+        }
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import java.util.Map;
+
+/**
+ * {@code AdaptiveRateLimiter} limits the request rate of each AWS Secret Manager operation using a token bucket.
+ * <p>
+ * Instead of rejecting the requests exceeding the limit, a request reserves a token and is delayed until the token
+ * is available, hence the requests are spread over time in the order they arrive. A request which would be delayed
+ * for longer than the maximum wait is rejected without reserving a token, which bounds the number of delayed
+ * requests and their delay when the requests arrive faster than the limit. When adaptive, the rate of an
+ * operation is reduced multiplicatively when a request is throttled by the service, and restored additively as the
+ * requests succeed.
+ */
+public final class AdaptiveRateLimiter {
+    private static final double THROTTLE_DECREASE_RATIO = 0.5;
+    private static final double SUCCESS_INCREASE_RATIO = 0.05;
+    private static final double MIN_RATE_RATIO = 0.05;
+    private static final long THROTTLE_COOL_DOWN_IN_NANOS = 100_000_000L;
+
+    private final Map<String, TokenBucket> buckets;
+    private final boolean adaptive;
+    private final long maxWaitInNanos;
+
+    public AdaptiveRateLimiter(RateLimitConfig config) {
+        this.buckets = Map.of(
+                Constants.DESCRIBE_SECRET_OPERATION, new TokenBucket(config.describeSecretRate()),
+                Constants.GET_SECRET_VALUE_OPERATION, new TokenBucket(config.getSecretValueRate()),
+                Constants.BATCH_GET_SECRET_VALUE_OPERATION, new TokenBucket(config.batchGetSecretValueRate()));
+        this.adaptive = config.adaptive();
+        this.maxWaitInNanos = config.maxWait().toNanos();
+    }
+
+    /**
+     * Reserves a token for a request of the provided operation.
+     *
+     * @param operation The AWS Secret Manager operation name.
+     * @return The time (in nanoseconds) the request should be delayed until the reserved token is available, or
+     * {@code -1} if the request would be delayed for longer than the maximum wait, in which case no token is reserved.
+     */
+    public long reserve(String operation) {
+        return buckets.get(operation).reserve(maxWaitInNanos);
+    }
+
+    /**
+     * Records a successful request of the provided operation.
+     *
+     * @param operation The AWS Secret Manager operation name.
+     */
+    public void onSuccess(String operation) {
+        if (adaptive) {
+            buckets.get(operation).increaseRate();
+        }
+    }
+
+    /**
+     * Records a throttled request of the provided operation.
+     *
+     * @param operation The AWS Secret Manager operation name.
+     */
+    public void onThrottled(String operation) {
+        if (adaptive) {
+            buckets.get(operation).decreaseRate();
+        }
+    }
+
+    private static final class TokenBucket {
+        private final double maxRate;
+        private final double minRate;
+        private double rate;
+        private double tokens;
+        private long lastRefillTime;
+        private long lastDecreaseTime;
+
+        TokenBucket(double maxRate) {
+            this.maxRate = maxRate;
+            this.minRate = maxRate * MIN_RATE_RATIO;
+            this.rate = maxRate;
+            this.tokens = capacity();
+            this.lastRefillTime = System.nanoTime();
+            this.lastDecreaseTime = lastRefillTime - THROTTLE_COOL_DOWN_IN_NANOS;
+        }
+
+        synchronized long reserve(long maxWaitInNanos) {
+            refill(System.nanoTime());
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            // the tokens are borrowed from the future, hence the request is delayed until the deficit is refilled
+            long delay = (long) ((1 - tokens) / rate * 1e9);
+            if (delay > maxWaitInNanos) {
+                return -1;
+            }
+            tokens -= 1;
+            return delay;
+        }
+
+        synchronized void increaseRate() {
+            if (rate < maxRate) {
+                refill(System.nanoTime());
+                // the rate is restored by a ratio of the maximum rate per second of successful requests
+                rate = Math.min(maxRate, rate + SUCCESS_INCREASE_RATIO * maxRate / rate);
+            }
+        }
+
+        synchronized void decreaseRate() {
+            long now = System.nanoTime();
+            // the requests in-flight at the time of throttling are throttled together, hence the rate is decreased
+            // once for them
+            if (now - lastDecreaseTime < THROTTLE_COOL_DOWN_IN_NANOS) {
+                return;
+            }
+            refill(now);
+            lastDecreaseTime = now;
+            rate = Math.max(minRate, rate * THROTTLE_DECREASE_RATIO);
+            tokens = Math.min(tokens, capacity());
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(capacity(), tokens + (now - lastRefillTime) / 1e9 * rate);
+            lastRefillTime = now;
+        }
+
+        private double capacity() {
+            return Math.max(1, rate);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * {@code AssumeRoleAuthConfig} represents the authentication based on the temporary credentials of an assumed IAM
+ * role, which are retrieved from the AWS Security Token Service.
+ *
+ * @param roleArn           The ARN of the IAM role to assume.
+ * @param roleSessionName   The identifier of the role session.
+ * @param externalId        The external ID required by the trust policy of the role, or {@code null} if not required.
+ * @param sessionDuration   The duration of the role session.
+ * @param sourceCredentials The authentication configurations used to assume the role.
+ */
+public record AssumeRoleAuthConfig(String roleArn, String roleSessionName, String externalId,
+                                   Duration sessionDuration, AuthConfig sourceCredentials) implements AuthConfig {
+    private static final BString ROLE_ARN = StringUtils.fromString("roleArn");
+    private static final BString ROLE_SESSION_NAME = StringUtils.fromString("roleSessionName");
+    private static final BString EXTERNAL_ID = StringUtils.fromString("externalId");
+    private static final BString SESSION_DURATION = StringUtils.fromString("sessionDuration");
+    private static final BString SOURCE_CREDENTIALS = StringUtils.fromString("sourceCredentials");
+    private static final Duration MIN_SESSION_DURATION = Duration.ofMinutes(15);
+    private static final Duration MAX_SESSION_DURATION = Duration.ofHours(12);
+
+    public AssumeRoleAuthConfig {
+        if (sessionDuration.compareTo(MIN_SESSION_DURATION) < 0 ||
+                sessionDuration.compareTo(MAX_SESSION_DURATION) > 0) {
+            throw new IllegalArgumentException(String.format(
+                    "The `sessionDuration` of the assume-role configurations must be between %d and %d seconds",
+                    MIN_SESSION_DURATION.toSeconds(), MAX_SESSION_DURATION.toSeconds()));
+        }
+        if (sourceCredentials instanceof AssumeRoleAuthConfig) {
+            throw new IllegalArgumentException(
+                    "The `sourceCredentials` of the assume-role configurations must not assume another role");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public AssumeRoleAuthConfig(BMap<BString, Object> authConfig) {
+        this(
+                authConfig.getStringValue(ROLE_ARN).getValue(),
+                authConfig.getStringValue(ROLE_SESSION_NAME).getValue(),
+                authConfig.containsKey(EXTERNAL_ID) ? authConfig.getStringValue(EXTERNAL_ID).getValue() : null,
+                Duration.ofSeconds(authConfig.getIntValue(SESSION_DURATION)),
+                authConfig.get(SOURCE_CREDENTIALS) instanceof BMap<?, ?> sourceCredentials ?
+                        new StaticAuthConfig((BMap<BString, Object>) sourceCredentials) : new DefaultAuthConfig()
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "AssumeRoleAuthConfig[roleArn=" + roleArn + ", roleSessionName=" + roleSessionName +
+                ", externalId=" + (Objects.nonNull(externalId) ? "****" : null) + ", sessionDuration=" +
+                sessionDuration + "]";
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.time.Duration;
+
+/**
+ * {@code AutoBatchConfig} represents the configurations of the automatic batching of the concurrent
+ * `GetSecretValue` requests.
+ *
+ * @param window       The maximum time a request is buffered before the batch is sent.
+ * @param maxBatchSize The maximum number of secrets retrieved with a single `BatchGetSecretValue` request.
+ */
+public record AutoBatchConfig(Duration window, int maxBatchSize) {
+    private static final BString WINDOW = StringUtils.fromString("window");
+    private static final BString MAX_BATCH_SIZE = StringUtils.fromString("maxBatchSize");
+
+    public AutoBatchConfig {
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("The `window` of the auto-batch configurations must not be negative");
+        }
+        if (maxBatchSize < 1 || maxBatchSize > BulkSecretValueRetriever.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(String.format(
+                    "The `maxBatchSize` of the auto-batch configurations must be between 1 and %d",
+                    BulkSecretValueRetriever.MAX_BATCH_SIZE));
+        }
+    }
+
+    public AutoBatchConfig(BMap<BString, Object> autoBatchConfig) {
+        this(
+                CommonUtils.toDuration((BDecimal) autoBatchConfig.get(WINDOW)),
+                autoBatchConfig.getIntValue(MAX_BATCH_SIZE).intValue()
+        );
+    }
+}
@@ -19,16 +19,34 @@
 package io.ballerina.lib.aws.secretmanager;
 
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A {@link ThreadFactory} object that creates new threads on demand for AWS Secret Manager client network actions.
+ * Each thread is named with the provided prefix followed by a sequence number, so that the threads of different
+ * pools and of the same pool can be told apart in thread dumps and profiles.
  */
 public class AwsSecretMngThreadFactory implements ThreadFactory {
+    private static final String NETWORK_THREAD_PREFIX = "balx-awssecretmng-client-network-thread";
+
+    private final String namePrefix;
+    private final boolean daemon;
+    private final AtomicInteger threadCount = new AtomicInteger(0);
+
+    public AwsSecretMngThreadFactory() {
+        this(NETWORK_THREAD_PREFIX, true);
+    }
+
+    public AwsSecretMngThreadFactory(String namePrefix, boolean daemon) {
+        this.namePrefix = namePrefix;
+        this.daemon = daemon;
+    }
 
     @Override
     public Thread newThread(Runnable runnable) {
         Thread networkThread = new Thread(runnable);
-        networkThread.setName("balx-awssecretmng-client-network-thread");
+        networkThread.setName(namePrefix + "-" + threadCount.incrementAndGet());
+        networkThread.setDaemon(daemon);
         return networkThread;
     }
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.secretsmanager.model.APIErrorType;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretRequest;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretResponse;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.SecretValueEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * {@code BatchingNativeClient} is a {@link NativeClient} decorator which buffers the concurrent `GetSecretValue`
+ * requests for the current version of the secrets, and sends them as a single `BatchGetSecretValue` request once the
+ * batch window elapses or the maximum batch size is reached.
+ * <p>
+ * Each buffered request is completed with its own entry of the batch response, or with the per-secret error reported
+ * by the service. The requests for a specific version of a secret are not buffered.
+ */
+public final class BatchingNativeClient implements NativeClient {
+    private static final String CLIENT_CLOSED_ERROR = "The AWS secret manager client has already been closed";
+
+    private final NativeClient nativeClient;
+    private final long windowInNanos;
+    private final int maxBatchSize;
+    private final Object lock = new Object();
+    private List<PendingRequest> pendingRequests = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean closed = false;
+
+    public BatchingNativeClient(NativeClient nativeClient, AutoBatchConfig config) {
+        this.nativeClient = nativeClient;
+        this.windowInNanos = config.window().toNanos();
+        this.maxBatchSize = config.maxBatchSize();
+    }
+
+    @Override
+    public CompletableFuture<DescribeSecretResponse> describeSecret(DescribeSecretRequest request) {
+        return nativeClient.describeSecret(request);
+    }
+
+    @Override
+    public CompletableFuture<GetSecretValueResponse> getSecretValue(GetSecretValueRequest request) {
+        if (!isBatchable(request)) {
+            return nativeClient.getSecretValue(request);
+        }
+        PendingRequest pendingRequest = new PendingRequest(request, new CompletableFuture<>());
+        List<PendingRequest> batch = null;
+        synchronized (lock) {
+            if (closed) {
+                return CompletableFuture.failedFuture(new IllegalStateException(CLIENT_CLOSED_ERROR));
+            }
+            pendingRequests.add(pendingRequest);
+            if (pendingRequests.size() >= maxBatchSize) {
+                batch = drain();
+            } else if (Objects.isNull(scheduledFlush)) {
+                scheduledFlush = NativeClientAdaptor.schedule(this::flush, windowInNanos);
+            }
+        }
+        if (Objects.nonNull(batch)) {
+            send(batch);
+        }
+        return pendingRequest.response();
+    }
+
+    @Override
+    public CompletableFuture<BatchGetSecretValueResponse> batchGetSecretValue(BatchGetSecretValueRequest request) {
+        return nativeClient.batchGetSecretValue(request);
+    }
+
+    private static boolean isBatchable(GetSecretValueRequest request) {
+        return Objects.isNull(request.versionId()) && (Objects.isNull(request.versionStage()) ||
+                Constants.AWS_CURRENT_VERSION_STAGE.equals(request.versionStage()));
+    }
+
+    private void flush() {
+        List<PendingRequest> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        send(batch);
+    }
+
+    // should be called while holding the lock
+    private List<PendingRequest> drain() {
+        List<PendingRequest> batch = pendingRequests;
+        pendingRequests = new ArrayList<>();
+        if (Objects.nonNull(scheduledFlush)) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(List<PendingRequest> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (batch.size() == 1) {
+            PendingRequest pendingRequest = batch.get(0);
+            forward(pendingRequest, NativeClientAdaptor.executeAsync(
+                    () -> nativeClient.getSecretValue(pendingRequest.request())));
+            return;
+        }
+        LinkedHashSet<String> secretIds = new LinkedHashSet<>();
+        for (PendingRequest pendingRequest : batch) {
+            secretIds.add(pendingRequest.request().secretId());
+        }
+        BatchGetSecretValueRequest request = BatchGetSecretValueRequest.builder()
+                .secretIdList(new ArrayList<>(secretIds)).build();
+        NativeClientAdaptor.executeAsync(() -> nativeClient.batchGetSecretValue(request))
+                .whenComplete((response, error) -> {
+                    if (Objects.nonNull(error)) {
+                        for (PendingRequest pendingRequest : batch) {
+                            pendingRequest.response().completeExceptionally(error);
+                        }
+                        return;
+                    }
+                    // all the results are resolved before completing any request, as a caller may clear the binary
+                    // buffer of its result as soon as its request is completed
+                    Set<SecretValueEntry> resolvedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+                    List<Runnable> completions = new ArrayList<>(batch.size());
+                    for (PendingRequest pendingRequest : batch) {
+                        completions.add(resolve(pendingRequest, response, resolvedEntries));
+                    }
+                    completions.forEach(Runnable::run);
+                });
+    }
+
+    private Runnable resolve(PendingRequest pendingRequest, BatchGetSecretValueResponse response,
+                             Set<SecretValueEntry> resolvedEntries) {
+        String secretId = pendingRequest.request().secretId();
+        if (response.hasSecretValues()) {
+            for (SecretValueEntry entry : response.secretValues()) {
+                if (CommonUtils.isSecretIdOf(secretId, entry.arn(), entry.name())) {
+                    // each caller receives its own binary buffer when the same secret is requested more than once
+                    GetSecretValueResponse result = toGetSecretValueResponse(entry, !resolvedEntries.add(entry));
+                    return () -> pendingRequest.response().complete(result);
+                }
+            }
+        }
+        if (response.hasErrors()) {
+            for (APIErrorType error : response.errors()) {
+                if (secretId.equals(error.secretId())) {
+                    return () -> pendingRequest.response().completeExceptionally(
+                            CommonUtils.toNativeException(error));
+                }
+            }
+        }
+        // the secret is neither in the values nor in the errors of the batch response, hence it is retrieved
+        // individually so that the service reports the actual result
+        return () -> forward(pendingRequest, NativeClientAdaptor.executeAsync(
+                () -> nativeClient.getSecretValue(pendingRequest.request())));
+    }
+
+    private static void forward(PendingRequest pendingRequest, CompletableFuture<GetSecretValueResponse> response) {
+        response.whenComplete((result, error) -> {
+            if (Objects.nonNull(error)) {
+                pendingRequest.response().completeExceptionally(error);
+            } else {
+                pendingRequest.response().complete(result);
+            }
+        });
+    }
+
+    private static GetSecretValueResponse toGetSecretValueResponse(SecretValueEntry entry, boolean copyBinary) {
+        SdkBytes secretBinary = entry.secretBinary();
+        return GetSecretValueResponse.builder()
+                .arn(entry.arn())
+                .name(entry.name())
+                .versionId(entry.versionId())
+                .secretString(entry.secretString())
+                .secretBinary(copyBinary && Objects.nonNull(secretBinary) ?
+                        SdkBytes.fromByteArray(secretBinary.asByteArrayUnsafe()) : secretBinary)
+                .versionStages(entry.hasVersionStages() ? entry.versionStages() : null)
+                .createdDate(entry.createdDate())
+                .build();
+    }
+
+    @Override
+    public CompletableFuture<DescribeSecretResponse> openConnection(DescribeSecretRequest request) {
+        return nativeClient.openConnection(request);
+    }
+
+    @Override
+    public void close() {
+        List<PendingRequest> batch;
+        synchronized (lock) {
+            closed = true;
+            batch = drain();
+        }
+        for (PendingRequest pendingRequest : batch) {
+            pendingRequest.response().completeExceptionally(new IllegalStateException(CLIENT_CLOSED_ERROR));
+        }
+        nativeClient.close();
+    }
+
+    private record PendingRequest(GetSecretValueRequest request, CompletableFuture<GetSecretValueResponse> response) {
+    }
+}
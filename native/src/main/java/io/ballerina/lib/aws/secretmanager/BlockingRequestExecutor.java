@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * {@code BlockingRequestExecutor} runs the requests of the blocking AWS SDK client with a bounded concurrency and a
+ * bounded queue.
+ * <p>
+ * The requests are run either on a pool of platform threads, which is sized by the maximum concurrency and whose idle
+ * threads are released, or on a new virtual thread per request, in which case the concurrency is bounded by a
+ * semaphore. In both cases, at most {@code maxConcurrency + maxQueueSize} requests are admitted at a time, and the
+ * requests submitted beyond that either wait for a slot or fail immediately, as per the overflow policy.
+ * <p>
+ * A request submitted from a thread which is running a request of the same executor, such as a retry submitted from
+ * the completion of the previous attempt, is never blocked. If the queue is full, it is run on the submitting thread,
+ * as blocking it could leave no thread to drain the queue.
+ * <p>
+ * A request which is cancelled before it starts is not executed. The executor is closed together with the native
+ * client, which fails the requests which have not started.
+ */
+public final class BlockingRequestExecutor {
+    private static final String THREAD_NAME_PREFIX = "balx-awssecretmng-client-network-thread";
+    private static final long KEEP_ALIVE_TIME_IN_SECONDS = 60;
+    private static final AtomicInteger EXECUTOR_COUNT = new AtomicInteger(0);
+    private static final ThreadLocal<BlockingRequestExecutor> CURRENT_EXECUTOR = new ThreadLocal<>();
+
+    private final String name;
+    private final String region;
+    private final ExecutorService executor;
+    private final Semaphore admissions;
+    private final Semaphore concurrency;
+    private final ExecutorConfig.OverflowPolicy overflowPolicy;
+    private final AtomicInteger queueDepth = new AtomicInteger(0);
+    private final AtomicInteger activeThreads = new AtomicInteger(0);
+    private volatile boolean closed = false;
+
+    public BlockingRequestExecutor(ExecutorConfig config, String region) {
+        int executorId = EXECUTOR_COUNT.incrementAndGet();
+        this.name = "executor-" + executorId;
+        this.region = region;
+        String threadNamePrefix = THREAD_NAME_PREFIX + "-" + executorId;
+        if (config.virtualThreads()) {
+            this.executor = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name(threadNamePrefix + "-", 1).factory());
+            this.concurrency = new Semaphore(config.maxConcurrency());
+        } else {
+            ThreadPoolExecutor threadPool = new ThreadPoolExecutor(config.maxConcurrency(), config.maxConcurrency(),
+                    KEEP_ALIVE_TIME_IN_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    new AwsSecretMngThreadFactory(threadNamePrefix, config.daemon()));
+            threadPool.allowCoreThreadTimeOut(true);
+            this.executor = threadPool;
+            this.concurrency = null;
+        }
+        this.admissions = new Semaphore(config.maxConcurrency() + config.maxQueueSize());
+        this.overflowPolicy = config.overflowPolicy();
+    }
+
+    /**
+     * Submits the provided blocking request for execution.
+     *
+     * @param request The function which executes the blocking request.
+     * @param <T>     The type of the native response.
+     * @return A future which is completed with the native response, or with a {@link RejectedExecutionException} if
+     * the request is not admitted.
+     */
+    public <T> CompletableFuture<T> execute(Supplier<T> request) {
+        if (closed) {
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("The AWS secret manager client has already been closed"));
+        }
+        if (!admissions.tryAcquire()) {
+            if (CURRENT_EXECUTOR.get() == this) {
+                return runOnCurrentThread(request);
+            }
+            if (overflowPolicy == ExecutorConfig.OverflowPolicy.REJECT || !awaitAdmission()) {
+                return CompletableFuture.failedFuture(new RejectedExecutionException(
+                        "The request queue of the AWS secret manager client is full"));
+            }
+        }
+        Task<T> task = new Task<>(request);
+        queueDepth.incrementAndGet();
+        publishState();
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.reject(e);
+        }
+        return task.future;
+    }
+
+    private boolean awaitAdmission() {
+        try {
+            admissions.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static <T> CompletableFuture<T> runOnCurrentThread(Supplier<T> request) {
+        try {
+            return CompletableFuture.completedFuture(request.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void publishState() {
+        ConnectorMetrics.executorStateChanged(name, region, queueDepth.get(), activeThreads.get());
+    }
+
+    /**
+     * Closes the executor. The running requests are interrupted and the requests which have not started fail with a
+     * {@link RejectedExecutionException}.
+     */
+    public void close() {
+        closed = true;
+        List<Runnable> pendingTasks = executor.shutdownNow();
+        RejectedExecutionException error =
+                new RejectedExecutionException("The AWS secret manager client has been closed");
+        for (Runnable pendingTask : pendingTasks) {
+            if (pendingTask instanceof Task<?> task) {
+                task.reject(error);
+            }
+        }
+    }
+
+    private final class Task<T> implements Runnable {
+        private final Supplier<T> request;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Task(Supplier<T> request) {
+            this.request = request;
+        }
+
+        @Override
+        public void run() {
+            if (Objects.nonNull(concurrency) && !acquireConcurrency()) {
+                reject(new RejectedExecutionException("The AWS secret manager client has been closed"));
+                return;
+            }
+            if (future.isDone()) {
+                // the request was cancelled while it was queued, such as the losing request of a hedged request
+                discard();
+                return;
+            }
+            queueDepth.decrementAndGet();
+            activeThreads.incrementAndGet();
+            publishState();
+            CURRENT_EXECUTOR.set(BlockingRequestExecutor.this);
+            try {
+                T response;
+                try {
+                    response = request.get();
+                } catch (RuntimeException e) {
+                    release();
+                    future.completeExceptionally(e);
+                    return;
+                }
+                // the slot is released before completing the future, so that the dependent actions which run on
+                // this thread do not hold it
+                release();
+                future.complete(response);
+            } finally {
+                CURRENT_EXECUTOR.remove();
+            }
+        }
+
+        private boolean acquireConcurrency() {
+            try {
+                concurrency.acquire();
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private void release() {
+            activeThreads.decrementAndGet();
+            publishState();
+            if (Objects.nonNull(concurrency)) {
+                concurrency.release();
+            }
+            admissions.release();
+        }
+
+        private void discard() {
+            queueDepth.decrementAndGet();
+            publishState();
+            if (Objects.nonNull(concurrency)) {
+                concurrency.release();
+            }
+            admissions.release();
+        }
+
+        private void reject(RejectedExecutionException error) {
+            queueDepth.decrementAndGet();
+            publishState();
+            admissions.release();
+            future.completeExceptionally(error);
+        }
+    }
+}
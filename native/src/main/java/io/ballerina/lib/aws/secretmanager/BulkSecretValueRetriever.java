@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.secretsmanager.model.APIErrorType;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.SecretValueEntry;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code BulkSecretValueRetriever} retrieves the secret values for any number of secret IDs by splitting them into
+ * `BatchGetSecretValue` requests of at most 20 secret IDs, which are executed concurrently up to a configured limit.
+ * <p>
+ * Only the secret IDs which failed with a transient per-secret error are retried, instead of the whole batch, after a
+ * capped full-jitter exponential backoff. A failed request is handled as the same error for each of its secret IDs.
+ */
+public final class BulkSecretValueRetriever {
+    static final int MAX_BATCH_SIZE = 20;
+    private static final long RETRY_BASE_DELAY_IN_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long MAX_RETRY_DELAY_IN_NANOS = TimeUnit.SECONDS.toNanos(2);
+    private static final String MISSING_RESULT_ERROR_CODE = "MissingResult";
+    private static final String MISSING_RESULT_ERROR_MESSAGE =
+            "The BatchGetSecretValue response has neither a value nor an error for the secret";
+    private static final Set<String> NON_RETRYABLE_ERROR_CODES = Set.of(
+            "ResourceNotFoundException", "InvalidParameterException", "InvalidRequestException", "DecryptionFailure",
+            "AccessDeniedException");
+
+    private final NativeClient nativeClient;
+    private final int maxConcurrency;
+    private final int maxRetries;
+    private final boolean clearBinaryBuffers;
+    private final Map<String, Object> results = new ConcurrentHashMap<>();
+
+    public BulkSecretValueRetriever(NativeClient nativeClient, int maxConcurrency, int maxRetries,
+                                    boolean clearBinaryBuffers) {
+        this.nativeClient = nativeClient;
+        this.maxConcurrency = maxConcurrency;
+        this.maxRetries = maxRetries;
+        this.clearBinaryBuffers = clearBinaryBuffers;
+    }
+
+    /**
+     * Retrieves the secret values for the provided secret IDs.
+     *
+     * @param secretIds The ARNs or names of the secrets.
+     * @return A future which is completed with the Ballerina `secretmanager:SecretValue` or the
+     * `secretmanager:ApiError` for each secret ID.
+     */
+    public CompletableFuture<Map<String, Object>> retrieve(List<String> secretIds) {
+        Queue<List<String>> batches = new ConcurrentLinkedQueue<>(partition(secretIds));
+        int workers = Math.min(maxConcurrency, batches.size());
+        CompletableFuture<?>[] inFlightWorkers = new CompletableFuture<?>[workers];
+        for (int i = 0; i < workers; i++) {
+            inFlightWorkers[i] = processBatches(batches);
+        }
+        return CompletableFuture.allOf(inFlightWorkers).thenApply(ignored -> results);
+    }
+
+    private CompletableFuture<Void> processBatches(Queue<List<String>> batches) {
+        List<String> batch = batches.poll();
+        if (Objects.isNull(batch)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return processBatch(batch, 0).thenCompose(ignored -> processBatches(batches));
+    }
+
+    private CompletableFuture<Void> processBatch(List<String> batch, int attempt) {
+        BatchGetSecretValueRequest request = BatchGetSecretValueRequest.builder().secretIdList(batch).build();
+        return NativeClientAdaptor.executeAsync(() -> nativeClient.batchGetSecretValue(request))
+                .handle((response, error) -> Objects.isNull(error) ? processResponse(batch, response, attempt) :
+                        processFailure(batch, CommonUtils.unwrap(error), attempt))
+                .thenCompose(failedSecretIds -> {
+                    if (failedSecretIds.isEmpty()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return NativeClientAdaptor.executeAsync(
+                            () -> processBatch(failedSecretIds, attempt + 1), getRetryDelayInNanos(attempt));
+                });
+    }
+
+    private List<String> processResponse(List<String> batch, BatchGetSecretValueResponse response, int attempt) {
+        Set<String> unresolvedSecretIds = new LinkedHashSet<>(batch);
+        if (response.hasSecretValues()) {
+            for (SecretValueEntry entry : response.secretValues()) {
+                BMap<BString, Object> secretValue = ResponseMapper.getSecretValue(
+                        new SecretValue(entry), clearBinaryBuffers);
+                for (String secretId : batch) {
+                    if (CommonUtils.isSecretIdOf(secretId, entry.arn(), entry.name())) {
+                        results.put(secretId, secretValue);
+                        unresolvedSecretIds.remove(secretId);
+                    }
+                }
+            }
+        }
+        List<String> failedSecretIds = new ArrayList<>();
+        APIErrorType batchError = null;
+        if (response.hasErrors()) {
+            for (APIErrorType error : response.errors()) {
+                String secretId = error.secretId();
+                if (Objects.isNull(secretId)) {
+                    batchError = error;
+                } else if (unresolvedSecretIds.remove(secretId)) {
+                    handleError(secretId, error, attempt, failedSecretIds);
+                }
+            }
+        }
+        // the secret IDs which are neither in the values nor in the errors of the response are given the error
+        // which is not reported for a secret ID, if any, so that each requested secret ID has a result
+        for (String secretId : unresolvedSecretIds) {
+            APIErrorType error = Objects.nonNull(batchError) ? batchError.toBuilder().secretId(secretId).build() :
+                    APIErrorType.builder().secretId(secretId).errorCode(MISSING_RESULT_ERROR_CODE)
+                            .message(MISSING_RESULT_ERROR_MESSAGE).build();
+            handleError(secretId, error, attempt, failedSecretIds);
+        }
+        return failedSecretIds;
+    }
+
+    private List<String> processFailure(List<String> batch, Throwable cause, int attempt) {
+        // a failure of the whole request is reported as an error of each of its secret IDs, so that the results of
+        // the other batches are kept, and the transient failures are retried like the transient per-secret errors
+        String errorCode = cause instanceof AwsServiceException serviceException &&
+                Objects.nonNull(serviceException.awsErrorDetails()) ?
+                serviceException.awsErrorDetails().errorCode() : cause.getClass().getSimpleName();
+        boolean retryable = attempt < maxRetries && RetryingNativeClient.isTransient(cause);
+        List<String> failedSecretIds = new ArrayList<>();
+        for (String secretId : batch) {
+            if (retryable) {
+                failedSecretIds.add(secretId);
+            } else {
+                results.put(secretId, ResponseMapper.getApiError(APIErrorType.builder().secretId(secretId)
+                        .errorCode(errorCode).message(cause.getMessage()).build()));
+            }
+        }
+        return failedSecretIds;
+    }
+
+    private void handleError(String secretId, APIErrorType error, int attempt, List<String> failedSecretIds) {
+        if (attempt < maxRetries && !NON_RETRYABLE_ERROR_CODES.contains(error.errorCode())) {
+            failedSecretIds.add(secretId);
+        } else {
+            results.put(secretId, ResponseMapper.getApiError(error));
+        }
+    }
+
+    private static long getRetryDelayInNanos(int attempt) {
+        long backoff = Math.min(MAX_RETRY_DELAY_IN_NANOS, RETRY_BASE_DELAY_IN_NANOS << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(backoff + 1);
+    }
+
+    private static List<List<String>> partition(List<String> secretIds) {
+        List<String> distinctSecretIds = new ArrayList<>(new LinkedHashSet<>(secretIds));
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < distinctSecretIds.size(); i += MAX_BATCH_SIZE) {
+            batches.add(distinctSecretIds.subList(i, Math.min(i + MAX_BATCH_SIZE, distinctSecretIds.size())));
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.time.Duration;
+
+/**
+ * {@code CacheConfig} represents the configurations for the in-memory secret value cache.
+ *
+ * @param ttl            The duration for which a cached secret value is served before it is fetched again.
+ * @param maxEntries     The maximum number of secret values that can be kept in the cache.
+ * @param maxSizeInBytes The maximum total size (in bytes) of the secret values that can be kept in the cache.
+ * @param rotationAware  Whether to revalidate the expired entries of the current secret versions using the secret
+ *                       metadata instead of fetching the secret values again.
+ */
+public record CacheConfig(Duration ttl, int maxEntries, long maxSizeInBytes, boolean rotationAware) {
+    private static final BString TTL = StringUtils.fromString("ttl");
+    private static final BString MAX_ENTRIES = StringUtils.fromString("maxEntries");
+    private static final BString MAX_SIZE_IN_BYTES = StringUtils.fromString("maxSizeInBytes");
+    private static final BString ROTATION_AWARE = StringUtils.fromString("rotationAware");
+
+    public CacheConfig {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("The `ttl` of the cache configurations must be positive");
+        }
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException(
+                    "The `maxEntries` of the cache configurations must be a positive integer");
+        }
+        if (maxSizeInBytes < 1) {
+            throw new IllegalArgumentException(
+                    "The `maxSizeInBytes` of the cache configurations must be a positive integer");
+        }
+    }
+
+    public CacheConfig(BMap<BString, Object> cacheConfig) {
+        this(
+                CommonUtils.toDuration((BDecimal) cacheConfig.get(TTL)),
+                CommonUtils.toSaturatedInt(cacheConfig.getIntValue(MAX_ENTRIES)),
+                cacheConfig.getIntValue(MAX_SIZE_IN_BYTES),
+                cacheConfig.getBooleanValue(ROTATION_AWARE)
+        );
+    }
+}
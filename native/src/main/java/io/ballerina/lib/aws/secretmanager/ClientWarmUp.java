@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretRequest;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * {@code ClientWarmUp} pays the startup cost of a client while it is initialized, instead of on the first requests.
+ * <p>
+ * The credentials are resolved, the pooled connections are opened and the secrets are prefetched in parallel. The
+ * connections are opened with concurrent `DescribeSecret` requests for a secret which does not exist, since any
+ * response of the service means that the connection has been established, and the AWS SDK classes, the endpoint
+ * and the request signing have been initialized. These requests are sent with the AWS SDK client below the
+ * decorators, hence they are not retried, rate limited or recorded in the metrics. The prefetched secrets are
+ * stored in the secret value cache, or in the snapshot if only the snapshot is configured.
+ */
+final class ClientWarmUp {
+    // the secret names cannot contain `:`, hence this secret does not exist
+    private static final String WARM_UP_SECRET_ID = "ballerina:aws.secretmanager:warm-up";
+
+    private ClientWarmUp() {
+    }
+
+    /**
+     * Warms up the provided native client.
+     *
+     * @param config           The warm-up configurations.
+     * @param connectionConfig The connection configurations of the client.
+     * @param nativeClient     The native client.
+     * @param cache            The secret value cache of the client, or {@code null} if only the snapshot is
+     *                         configured.
+     * @return The durations and the outcome of the warm-up phases.
+     */
+    static Report run(WarmUpConfig config, ConnectionConfig connectionConfig, NativeClient nativeClient,
+                      SecretValueCache cache) {
+        long startTime = System.nanoTime();
+        CompletableFuture<PhaseResult> credentials = resolveCredentials(connectionConfig);
+        CompletableFuture<PhaseResult> connections = openConnections(config.connections(), nativeClient);
+        CompletableFuture<PhaseResult> prefetch = prefetchSecrets(config.prefetchSecrets(), nativeClient, cache);
+        try {
+            CompletableFuture.allOf(credentials, connections, prefetch)
+                    .get(config.timeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // the phases do not fail, and the phases which have not completed are reported below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long totalTime = System.nanoTime() - startTime;
+        PhaseResult credentialsResult = getResult(credentials, "credentials", totalTime);
+        PhaseResult connectionsResult = getResult(connections, "connections", totalTime);
+        PhaseResult prefetchResult = getResult(prefetch, "prefetch", totalTime);
+        List<String> errors = new ArrayList<>(credentialsResult.errors());
+        errors.addAll(connectionsResult.errors());
+        errors.addAll(prefetchResult.errors());
+        return new Report(credentialsResult.duration(), connectionsResult.duration(), prefetchResult.duration(),
+                totalTime, connectionsResult.completed(), prefetchResult.completed(), errors);
+    }
+
+    private static CompletableFuture<PhaseResult> resolveCredentials(ConnectionConfig connectionConfig) {
+        long startTime = System.nanoTime();
+        // the shared provider of the native client is resolved, hence the resolved credentials are cached for the
+        // requests of the client
+        return run(() -> {
+            AwsCredentialsProvider credentialsProvider =
+                    CredentialsProviderRegistry.acquire(connectionConfig.auth(), connectionConfig.region());
+            try {
+                credentialsProvider.resolveCredentials();
+            } finally {
+                CredentialsProviderRegistry.release(connectionConfig.auth(), connectionConfig.region());
+            }
+            return null;
+        }).handle((value, error) -> PhaseResult.of(startTime, List.of(new StepResult("credentials", error))));
+    }
+
+    private static CompletableFuture<PhaseResult> openConnections(int connections, NativeClient nativeClient) {
+        long startTime = System.nanoTime();
+        DescribeSecretRequest request = DescribeSecretRequest.builder().secretId(WARM_UP_SECRET_ID).build();
+        List<CompletableFuture<StepResult>> steps = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            steps.add(NativeClientAdaptor.executeAsync(() -> nativeClient.openConnection(request))
+                    .handle((response, error) -> {
+                        Throwable cause = Objects.nonNull(error) ? CommonUtils.unwrap(error) : null;
+                        // an error response of the service is received through an established connection
+                        return new StepResult("connection",
+                                cause instanceof AwsServiceException ? null : cause);
+                    }));
+        }
+        return allOf(startTime, steps);
+    }
+
+    private static CompletableFuture<PhaseResult> prefetchSecrets(List<String> secretIds, NativeClient nativeClient,
+                                                                  SecretValueCache cache) {
+        long startTime = System.nanoTime();
+        List<CompletableFuture<StepResult>> steps = new ArrayList<>(secretIds.size());
+        for (String secretId : secretIds) {
+            GetSecretValueRequest request = GetSecretValueRequest.builder().secretId(secretId).build();
+            CompletableFuture<?> prefetch;
+            if (Objects.nonNull(cache)) {
+                DescribeSecretRequest describeRequest = DescribeSecretRequest.builder().secretId(secretId).build();
+                prefetch = run(() -> cache.get(new SecretValueCache.CacheKey(secretId, null, null),
+                        () -> nativeClient.getSecretValue(request).join(),
+                        () -> nativeClient.describeSecret(describeRequest).join()));
+            } else {
+                // the secret value is stored in the snapshot by the snapshot client
+                prefetch = NativeClientAdaptor.executeAsync(() -> nativeClient.getSecretValue(request));
+            }
+            steps.add(prefetch.handle((value, error) -> new StepResult(secretId, error)));
+        }
+        return allOf(startTime, steps);
+    }
+
+    private static <T> CompletableFuture<T> run(Supplier<T> step) {
+        return NativeClientAdaptor.executeAsync(() -> CompletableFuture.completedFuture(step.get()));
+    }
+
+    private static CompletableFuture<PhaseResult> allOf(long startTime, List<CompletableFuture<StepResult>> steps) {
+        return CompletableFuture.allOf(steps.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            List<StepResult> results = new ArrayList<>(steps.size());
+            for (CompletableFuture<StepResult> step : steps) {
+                results.add(step.join());
+            }
+            return PhaseResult.of(startTime, results);
+        });
+    }
+
+    private static PhaseResult getResult(CompletableFuture<PhaseResult> phase, String name, long elapsedTime) {
+        if (phase.isDone() && !phase.isCompletedExceptionally()) {
+            return phase.join();
+        }
+        return new PhaseResult(elapsedTime, 0,
+                List.of(String.format("The %s phase did not complete within the warm-up timeout", name)));
+    }
+
+    private record StepResult(String name, Throwable error) {
+    }
+
+    private record PhaseResult(long duration, int completed, List<String> errors) {
+
+        static PhaseResult of(long startTime, List<StepResult> steps) {
+            int completed = 0;
+            List<String> errors = new ArrayList<>();
+            for (StepResult step : steps) {
+                if (Objects.isNull(step.error())) {
+                    completed++;
+                } else {
+                    errors.add(String.format("%s: %s", step.name(), CommonUtils.unwrap(step.error()).getMessage()));
+                }
+            }
+            return new PhaseResult(System.nanoTime() - startTime, completed, errors);
+        }
+    }
+
+    /**
+     * {@code Report} represents the durations and the outcome of the warm-up phases.
+     *
+     * @param credentialsTime   The time taken to resolve the credentials, in nanoseconds.
+     * @param connectionsTime   The time taken to open the connections, in nanoseconds.
+     * @param prefetchTime      The time taken to prefetch the secrets, in nanoseconds.
+     * @param totalTime         The total time of the warm-up, in nanoseconds.
+     * @param connections       The number of connections opened.
+     * @param prefetchedSecrets The number of secrets prefetched.
+     * @param errors            The errors of the failed warm-up steps.
+     */
+    record Report(long credentialsTime, long connectionsTime, long prefetchTime, long totalTime, int connections,
+                  int prefetchedSecrets, List<String> errors) {
+    }
+}
@@ -19,64 +19,53 @@
 package io.ballerina.lib.aws.secretmanager;
 
 import io.ballerina.runtime.api.creators.ErrorCreator;
-import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.flags.SymbolFlags;
-import io.ballerina.runtime.api.types.ArrayType;
-import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
-import io.ballerina.stdlib.time.nativeimpl.Utc;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.services.secretsmanager.model.APIErrorType;
 import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
-import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
-import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretResponse;
 import software.amazon.awssdk.services.secretsmanager.model.Filter;
 import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
-import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
-import software.amazon.awssdk.services.secretsmanager.model.ReplicationStatusType;
-import software.amazon.awssdk.services.secretsmanager.model.RotationRulesType;
-import software.amazon.awssdk.services.secretsmanager.model.SecretValueEntry;
-import software.amazon.awssdk.services.secretsmanager.model.Tag;
+import software.amazon.awssdk.services.secretsmanager.model.SecretsManagerException;
 
-import java.time.Instant;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 
 /**
  * {@code CommonUtils} contains the common utility functions for the Ballerina AWS Secret Manager connector.
  */
 public final class CommonUtils {
-    private static final RecordType REPLICATION_STATUS_REC_TYPE = TypeCreator.createRecordType(
-            Constants.SECRET_MNG_REPLICATION_STATUS_RECORD, ModuleUtils.getModule(), SymbolFlags.PUBLIC, true,
-            0);
-    private static final ArrayType REPLICATION_STATUS_ARR_TYPE = TypeCreator.createArrayType(
-            REPLICATION_STATUS_REC_TYPE);
-    private static final RecordType TAG_REC_TYPE = TypeCreator.createRecordType(
-            Constants.SECRET_MNG_TAG_RECORD, ModuleUtils.getModule(), SymbolFlags.PUBLIC, true, 0);
-    private static final ArrayType TAG_ARR_TYPE = TypeCreator.createArrayType(TAG_REC_TYPE);
-    private static final RecordType API_ERR_REC_TYPE = TypeCreator.createRecordType(
-            Constants.SECRET_MNG_API_ERR_RECORD, ModuleUtils.getModule(), SymbolFlags.PUBLIC, true, 0);
-    private static final ArrayType API_ERR_ARR_TYPE = TypeCreator.createArrayType(API_ERR_REC_TYPE);
-    private static final RecordType SECRET_VALUE_REC_TYPE = TypeCreator.createRecordType(
-            Constants.SECRET_MNG_SECRET_VALUE_RECORD, ModuleUtils.getModule(), SymbolFlags.PUBLIC, true, 0);
-    private static final ArrayType SECRET_VALUE_ARR_TYPE = TypeCreator.createArrayType(API_ERR_REC_TYPE);
+    private static final String SECRETS_MANAGER_SERVICE = "SecretsManager";
+    // the secret ARN ends with a hyphen followed by six random characters, which is omitted in a partial ARN
+    private static final int SECRET_ARN_SUFFIX_LENGTH = 7;
+    // arn:partition:secretsmanager:region:account-id:secret:name
+    private static final int ARN_PARTS = 6;
+    private static final String ARN_PREFIX = "arn";
+    private static final String SECRETS_MANAGER_ARN_SERVICE = "secretsmanager";
 
     private CommonUtils() {
     }
 
     public static BError createError(String message, Throwable exception) {
+        BMap<BString, Object> errorDetails = ValueCreator.createRecordValue(RecordTypes.ERROR_DETAILS_REC_TYPE);
+        if (exception instanceof RetriedRequestException retriedRequestException) {
+            errorDetails.put(Constants.SECRET_MNG_ERROR_DETAILS_RETRY_COUNT,
+                    (long) retriedRequestException.getRetryCount());
+            exception = retriedRequestException.getCause();
+        }
         BError cause = ErrorCreator.createError(exception);
-        BMap<BString, Object> errorDetails = ValueCreator.createRecordValue(
-                ModuleUtils.getModule(), Constants.SECRET_MNG_ERROR_DETAILS);
         if (exception instanceof AwsServiceException awsSvcExp && Objects.nonNull(awsSvcExp.awsErrorDetails())) {
             AwsErrorDetails awsErrorDetails = awsSvcExp.awsErrorDetails();
             SdkHttpResponse sdkResponse = awsErrorDetails.sdkHttpResponse();
@@ -96,176 +85,74 @@ public final class CommonUtils {
                 errorDetails);
     }
 
-    public static BMap<BString, Object> getDescribeSecretResponse(DescribeSecretResponse nativeResponse) {
-        BMap<BString, Object> describeSecretResp = ValueCreator.createRecordValue(
-                ModuleUtils.getModule(), Constants.SECRET_MNG_DESC_SECRET_RECORD);
-        describeSecretResp.put(
-                Constants.SECRET_MNG_DESC_SECRET_ARN, StringUtils.fromString(nativeResponse.arn()));
-        describeSecretResp.put(
-                Constants.SECRET_MNG_DESC_SECRET_CREATED, new Utc(nativeResponse.createdDate()).build());
-
-        Instant deletedDate = nativeResponse.deletedDate();
-        if (Objects.nonNull(deletedDate)) {
-            describeSecretResp.put(
-                    Constants.SECRET_MNG_DESC_SECRET_DELETED, new Utc(deletedDate).build());
-        }
-
-        describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_DESCRIPTION,
-                StringUtils.fromString(nativeResponse.description()));
-
-        String kmsKeyId = nativeResponse.kmsKeyId();
-        if (Objects.nonNull(kmsKeyId)) {
-            describeSecretResp.put(
-                    Constants.SECRET_MNG_DESC_SECRET_KMS_KEY_ID, StringUtils.fromString(kmsKeyId));
-        }
-
-        Instant lastAccessed = nativeResponse.lastAccessedDate();
-        if (Objects.nonNull(lastAccessed)) {
-            describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_LAST_ACCESSED, new Utc(lastAccessed).build());
-        }
-
-        Instant lastChanged = nativeResponse.lastChangedDate();
-        if (Objects.nonNull(lastChanged)) {
-            describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_LAST_CHANGED, new Utc(lastChanged).build());
-        }
-
-        Instant lastRotated = nativeResponse.lastRotatedDate();
-        if (Objects.nonNull(lastRotated)) {
-            describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_LAST_ROTATED, new Utc(lastRotated).build());
-        }
-
-        describeSecretResp.put(
-                Constants.SECRET_MNG_DESC_SECRET_NAME, StringUtils.fromString(nativeResponse.name()));
-
-        Instant nextRotation = nativeResponse.nextRotationDate();
-        if (Objects.nonNull(nextRotation)) {
-            describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_NXT_ROTATION, new Utc(nextRotation).build());
+    public static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) &&
+                Objects.nonNull(cause.getCause())) {
+            cause = cause.getCause();
         }
-
-        describeSecretResp.put(
-                Constants.SECRET_MNG_DESC_SECRET_OWNING_SVC, StringUtils.fromString(nativeResponse.owningService()));
-        describeSecretResp.put(
-                Constants.SECRET_MNG_DESC_SECRET_PRIMARY_RGN, StringUtils.fromString(nativeResponse.primaryRegion()));
-
-        if (nativeResponse.hasReplicationStatus() && !nativeResponse.replicationStatus().isEmpty()) {
-            List<ReplicationStatusType> nativeReplicationStatus = nativeResponse.replicationStatus();
-            BArray replicationStatus = ValueCreator.createArrayValue(REPLICATION_STATUS_ARR_TYPE);
-            nativeReplicationStatus.forEach(rs -> {
-                BMap<BString, Object> replicationStatusRec = constructBReplicationStatus(rs);
-                replicationStatus.append(replicationStatusRec);
-            });
-            describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_REPLICATION_STATUS, replicationStatus);
-        }
-
-        boolean rotationEnabled = Objects.nonNull(nativeResponse.rotationEnabled()) && nativeResponse.rotationEnabled();
-        describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_ROTATION_ENABLED, rotationEnabled);
-
-        String rotationLambdaArn = nativeResponse.rotationLambdaARN();
-        if (Objects.nonNull(rotationLambdaArn)) {
-            describeSecretResp.put(
-                    Constants.SECRET_MNG_DESC_SECRET_ROTATION_LAMBDA_ARN, StringUtils.fromString(rotationLambdaArn));
-        }
-
-        RotationRulesType nativeRotationRules = nativeResponse.rotationRules();
-        if (Objects.nonNull(nativeRotationRules)) {
-            BMap<BString, Object> rotationRules = constructBRotationRules(nativeRotationRules);
-            describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_ROTATION_RULES, rotationRules);
-        }
-
-        if (nativeResponse.hasTags() && !nativeResponse.tags().isEmpty()) {
-            List<Tag> nativeTags = nativeResponse.tags();
-            BArray tags = ValueCreator.createArrayValue(TAG_ARR_TYPE);
-            nativeTags.forEach(t -> {
-                BMap<BString, Object> tag = constructBTag(t);
-                tags.append(tag);
-            });
-            describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_TAGS, tags);
-        }
-
-        if (nativeResponse.hasVersionIdsToStages() && !nativeResponse.versionIdsToStages().isEmpty()) {
-            BMap<BString, Object> versionToStages = constructBVersionIdsToStages(nativeResponse.versionIdsToStages());
-            describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_VERSION_TO_STAGES, versionToStages);
-        }
-        return describeSecretResp;
+        return cause;
     }
 
-    private static BMap<BString, Object> constructBVersionIdsToStages(Map<String, List<String>> versionIdsToStages) {
-        BMap<BString, Object> versionToStages = ValueCreator.createMapValue();
-        versionIdsToStages.forEach((k, v) -> {
-            if (Objects.isNull(v) || v.isEmpty()) {
-                BString[] stages = new BString[0];
-                versionToStages.put(StringUtils.fromString(k), ValueCreator.createArrayValue(stages));
-                return;
+    /**
+     * Cancels the provided source future once the provided dependent future is cancelled, so that cancelling the
+     * result of a decorated request, such as the losing request of a hedged request, also cancels the underlying
+     * request.
+     *
+     * @param dependent The future returned to the caller.
+     * @param source    The future of the underlying request.
+     * @param <T>       The type of the response.
+     * @return The dependent future.
+     */
+    public static <T> CompletableFuture<T> propagateCancellation(CompletableFuture<T> dependent,
+                                                                 CompletableFuture<?> source) {
+        dependent.whenComplete((value, error) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
             }
-            BString[] stages = new BString[v.size()];
-            v.stream().map(StringUtils::fromString).toList().toArray(stages);
-            versionToStages.put(StringUtils.fromString(k), ValueCreator.createArrayValue(stages));
         });
-        return versionToStages;
+        return dependent;
     }
 
-    private static BMap<BString, Object> constructBReplicationStatus(ReplicationStatusType rs) {
-        BMap<BString, Object> replicationStatusRec = ValueCreator
-                .createRecordValue(REPLICATION_STATUS_REC_TYPE);
-        String rsKmsKeyId = rs.kmsKeyId();
-        if (Objects.nonNull(rsKmsKeyId)) {
-            replicationStatusRec.put(
-                    Constants.SECRET_MNG_REPLICATION_STATUS_KMS_KEY_ID, StringUtils.fromString(rsKmsKeyId));
-        }
-        Instant rsLastAccessed = rs.lastAccessedDate();
-        if (Objects.nonNull(rsLastAccessed)) {
-            replicationStatusRec.put(
-                    Constants.SECRET_MNG_REPLICATION_STATUS_LAST_ACCESSED, new Utc(rsLastAccessed).build());
-        }
-        String rsRegion = rs.region();
-        if (Objects.nonNull(rsRegion)) {
-            replicationStatusRec.put(
-                    Constants.SECRET_MNG_REPLICATION_STATUS_RGN, StringUtils.fromString(rsRegion));
-        }
-        String rsStatus = rs.statusAsString();
-        if (Objects.nonNull(rsStatus)) {
-            replicationStatusRec.put(Constants.SECRET_MNG_REPLICATION_STATUS_STATUS,
-                    StringUtils.fromString(rsStatus));
-        }
-        String rsStatusMsg = rs.statusMessage();
-        if (Objects.nonNull(rsStatusMsg)) {
-            replicationStatusRec.put(
-                    Constants.SECRET_MNG_REPLICATION_STATUS_STATUS_MSG, StringUtils.fromString(rsStatusMsg));
-        }
-        return replicationStatusRec;
+    public static Duration toDuration(BDecimal seconds) {
+        return Duration.ofNanos(seconds.decimalValue().movePointRight(9).longValue());
     }
 
-    private static BMap<BString, Object> constructBRotationRules(RotationRulesType rotationRules) {
-        BMap<BString, Object> bRotationRules = ValueCreator.createRecordValue(
-                ModuleUtils.getModule(), Constants.SECRET_MNG_ROTATION_RULES_RECORD);
-        Long automaticallyAfterDays = rotationRules.automaticallyAfterDays();
-        if (Objects.nonNull(automaticallyAfterDays)) {
-            bRotationRules.put(
-                    Constants.SECRET_MNG_ROTATION_RULES_AUTOMATICALLY_AFTER_DAYS, automaticallyAfterDays);
-        }
-        String duration = rotationRules.duration();
-        if (Objects.nonNull(duration)) {
-            bRotationRules.put(Constants.SECRET_MNG_ROTATION_RULES_DURATION, StringUtils.fromString(duration));
-        }
-        String scheduledExpr = rotationRules.scheduleExpression();
-        if (Objects.nonNull(scheduledExpr)) {
-            bRotationRules.put(
-                    Constants.SECRET_MNG_ROTATION_RULES_SCHEDULE_EXPR, StringUtils.fromString(scheduledExpr));
-        }
-        return bRotationRules;
+    /**
+     * Converts a Ballerina `int` value to a Java {@code int}, saturating the values which are out of its range instead
+     * of truncating them, hence the range checks of the configurations also reject the too large values.
+     *
+     * @param value The Ballerina `int` value.
+     * @return The value, or the closest value within the range of a Java {@code int}.
+     */
+    public static int toSaturatedInt(long value) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
     }
 
-    private static BMap<BString, Object> constructBTag(Tag tag) {
-        BMap<BString, Object> bTag = ValueCreator.createRecordValue(TAG_REC_TYPE);
-        String nativeTagKey = tag.key();
-        if (Objects.nonNull(nativeTagKey)) {
-            bTag.put(Constants.SECRET_MNG_TAG_KEY, StringUtils.fromString(nativeTagKey));
-        }
-        String nativeTagValue = tag.value();
-        if (Objects.nonNull(nativeTagValue)) {
-            bTag.put(Constants.SECRET_MNG_TAG_VALUE, StringUtils.fromString(nativeTagValue));
+    /**
+     * Computes the number of bytes of the UTF-8 encoding of a string without encoding it.
+     *
+     * @param value The string.
+     * @return The length of the UTF-8 encoding of the string in bytes.
+     */
+    public static long utf8Length(String value) {
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() &&
+                    Character.isLowSurrogate(value.charAt(i + 1))) {
+                // a surrogate pair encodes a supplementary code point in four bytes
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
         }
-        return bTag;
+        return length;
     }
 
     public static GetSecretValueRequest toNativeGetSecretValueRequest(BString secretId,
@@ -277,40 +164,13 @@ public final class CommonUtils {
                     versionSelector.getStringValue(Constants.SECRET_MNG_SECRET_VERSION_SELECTOR_VERSION_ID).getValue());
         }
         if (versionSelector.containsKey(Constants.SECRET_MNG_SECRET_VERSION_SELECTOR_VERSION_STAGE)) {
-            builder.versionId(versionSelector.getStringValue(Constants.SECRET_MNG_SECRET_VERSION_SELECTOR_VERSION_STAGE)
-                    .getValue());
+            builder.versionStage(
+                    versionSelector.getStringValue(Constants.SECRET_MNG_SECRET_VERSION_SELECTOR_VERSION_STAGE)
+                            .getValue());
         }
         return builder.build();
     }
 
-    public static BMap<BString, Object> getSecretValueResponse(GetSecretValueResponse nativeResponse) {
-        SecretValue nativeSecretValue = new SecretValue(nativeResponse);
-        return getSecretValue(nativeSecretValue);
-    }
-
-    private static BMap<BString, Object> getSecretValue(SecretValue nativeSecret) {
-        BMap<BString, Object> secretValue = ValueCreator.createRecordValue(SECRET_VALUE_REC_TYPE);
-        secretValue.put(Constants.SECRET_MNG_SECRET_VALUE_ARN, StringUtils.fromString(nativeSecret.arn()));
-        secretValue.put(Constants.SECRET_MNG_SECRET_VALUE_CREATED, new Utc(nativeSecret.createdDate()).build());
-        secretValue.put(Constants.SECRET_MNG_SECRET_VALUE_NAME, StringUtils.fromString(nativeSecret.name()));
-
-        if (Objects.nonNull(nativeSecret.binaryValue())) {
-            secretValue.put(
-                    Constants.SECRET_MNG_SECRET_VALUE_VALUE, ValueCreator.createArrayValue(nativeSecret.binaryValue()));
-        } else {
-            secretValue.put(Constants.SECRET_MNG_SECRET_VALUE_VALUE, StringUtils.fromString(nativeSecret.strValue()));
-        }
-
-        secretValue.put(Constants.SECRET_MNG_SECRET_VALUE_VERSION_ID, StringUtils.fromString(nativeSecret.versionId()));
-
-        BString[] versionToStages = nativeSecret.versionStages().stream()
-                .map(StringUtils::fromString)
-                .toArray(BString[]::new);
-        secretValue.put(
-                Constants.SECRET_MNG_SECRET_VALUE_VERSION_STAGES, ValueCreator.createArrayValue(versionToStages));
-        return secretValue;
-    }
-
     @SuppressWarnings("unchecked")
     public static BatchGetSecretValueRequest toNativeBatchGetSecretValueRequest(BMap<BString, Object> request) {
         BatchGetSecretValueRequest.Builder builder = BatchGetSecretValueRequest.builder();
@@ -353,50 +213,60 @@ public final class CommonUtils {
         return builder.build();
     }
 
-    public static BMap<BString, Object> getBatchGetSecretValueResponse(BatchGetSecretValueResponse nativeResponse) {
-        BMap<BString, Object> batchGetSecretValueResponse = ValueCreator.createRecordValue(
-                ModuleUtils.getModule(), Constants.SECRET_MNG_BATCH_GET_SECRET_VALUE_RES_RECORD);
-
-        List<APIErrorType> nativeErrors = nativeResponse.errors();
-        if (Objects.nonNull(nativeErrors) && !nativeErrors.isEmpty()) {
-            BArray errors = ValueCreator.createArrayValue(API_ERR_ARR_TYPE);
-            nativeErrors.forEach(err -> {
-                BMap<BString, Object> apiError = getApiError(err);
-                errors.append(apiError);
-            });
-            batchGetSecretValueResponse.put(Constants.SECRET_MNG_BATCH_GET_SECRET_VALUE_RES_ERRORS, errors);
-        }
-
-        if (Objects.nonNull(nativeResponse.nextToken())) {
-            batchGetSecretValueResponse.put(Constants.SECRET_MNG_BATCH_GET_SECRET_VALUE_RES_NXT_TOKEN,
-                    StringUtils.fromString(nativeResponse.nextToken()));
-        }
+    public static AwsServiceException toNativeException(APIErrorType nativeError) {
+        AwsErrorDetails errorDetails = AwsErrorDetails.builder()
+                .serviceName(SECRETS_MANAGER_SERVICE)
+                .errorCode(nativeError.errorCode())
+                .errorMessage(nativeError.message())
+                .build();
+        return SecretsManagerException.builder()
+                .message(String.format("%s (secret: %s)", nativeError.message(), nativeError.secretId()))
+                .awsErrorDetails(errorDetails)
+                .build();
+    }
 
-        List<SecretValueEntry> nativeSecretValues = nativeResponse.secretValues();
-        if (Objects.nonNull(nativeSecretValues) && !nativeSecretValues.isEmpty()) {
-            BArray secretValues = ValueCreator.createArrayValue(SECRET_VALUE_ARR_TYPE);
-            nativeSecretValues.stream().map(SecretValue::new).forEach(sv -> {
-                BMap<BString, Object> secretValue = getSecretValue(sv);
-                secretValues.append(secretValue);
-            });
-            batchGetSecretValueResponse.put(
-                    Constants.SECRET_MNG_BATCH_GET_SECRET_VALUE_RES_SECRET_VALUES, secretValues);
-        }
+    /**
+     * Checks whether the provided secret ID, which could be a secret name, a complete ARN or a partial ARN, refers to
+     * the secret with the provided ARN and name.
+     *
+     * @param secretId   The secret ID provided by the user.
+     * @param secretArn  The ARN of the secret.
+     * @param secretName The name of the secret.
+     * @return {@code true} if the secret ID refers to the secret, {@code false} otherwise.
+     */
+    public static boolean isSecretIdOf(String secretId, String secretArn, String secretName) {
+        if (secretId.equals(secretName) || secretId.equals(secretArn)) {
+            return true;
+        }
+        if (Objects.isNull(secretArn)) {
+            return false;
+        }
+        // the replicas of a secret have the same ARN except for the region, hence an ARN of the primary secret
+        // refers to the secret values retrieved from a replica region
+        String regionalSecretId = withRegion(secretId, getRegion(secretArn));
+        return regionalSecretId.equals(secretArn) || (secretArn.length() ==
+                regionalSecretId.length() + SECRET_ARN_SUFFIX_LENGTH && secretArn.startsWith(regionalSecretId));
+    }
 
-        return batchGetSecretValueResponse;
+    /**
+     * Replaces the region of the provided secret ID, if it is a complete or a partial ARN of a secret.
+     *
+     * @param secretId The ARN or name of the secret.
+     * @param region   The region of the returned ARN.
+     * @return The ARN of the secret in the provided region, or the provided secret ID if it is not an ARN.
+     */
+    public static String withRegion(String secretId, String region) {
+        String[] arnParts = secretId.split(":", ARN_PARTS);
+        if (Objects.isNull(region) || arnParts.length != ARN_PARTS || !ARN_PREFIX.equals(arnParts[0]) ||
+                !SECRETS_MANAGER_ARN_SERVICE.equals(arnParts[2]) || region.equals(arnParts[3])) {
+            return secretId;
+        }
+        arnParts[3] = region;
+        return String.join(":", arnParts);
     }
 
-    public static BMap<BString, Object> getApiError(APIErrorType nativeError) {
-        BMap<BString, Object> apiError = ValueCreator.createRecordValue(API_ERR_REC_TYPE);
-        if (Objects.nonNull(nativeError.errorCode())) {
-            apiError.put(Constants.SECRET_MNG_API_ERR_ERR_CODE, StringUtils.fromString(nativeError.errorCode()));
-        }
-        if (Objects.nonNull(nativeError.message())) {
-            apiError.put(Constants.SECRET_MNG_API_ERR_MSG, StringUtils.fromString(nativeError.message()));
-        }
-        if (Objects.nonNull(nativeError.secretId())) {
-            apiError.put(Constants.SECRET_MNG_API_ERR_SECRET_ID, StringUtils.fromString(nativeError.secretId()));
-        }
-        return apiError;
+    private static String getRegion(String secretArn) {
+        String[] arnParts = secretArn.split(":", ARN_PARTS);
+        return arnParts.length == ARN_PARTS ? arnParts[3] : null;
     }
 }
@@ -23,31 +23,103 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import software.amazon.awssdk.regions.Region;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * {@code ConnectionConfig} contains the java representation of the Ballerina AWS Secret Manager client configurations.
  *
- * @param region The AWS region with which the connector should communicate.
- * @param auth   The authentication configurations for the AWS Secret Manager service
+ * @param region             The AWS region with which the connector should communicate.
+ * @param auth               The authentication configurations for the AWS Secret Manager service
+ * @param cache              The configurations for the in-memory secret value cache, or {@code null} if caching is
+ *                           disabled
+ * @param asyncClient        Whether to use the non-blocking AWS SDK client for the network calls
+ * @param httpClient         The configurations of the underlying HTTP client and the API call timeouts
+ * @param retry              The configurations of the client-side retry policy, or {@code null} if the AWS SDK
+ *                           retries should be used, unless the request rate is limited
+ * @param rateLimit          The configurations of the client-side rate limiter, or {@code null} if the request rate
+ *                           is not limited
+ * @param coalesceRequests   Whether to collapse the concurrent identical requests into a single in-flight request
+ * @param autoBatch          The configurations of the automatic batching of the concurrent `GetSecretValue` requests,
+ *                           or {@code null} if the requests are not batched
+ * @param snapshot           The configurations of the encrypted on-disk snapshot of the secret values, or
+ *                           {@code null} if the secret values are not persisted
+ * @param clearBinaryBuffers Whether to overwrite the binary secret values of the AWS SDK responses with zeros once
+ *                           they are converted to Ballerina values
+ * @param executor           The configurations of the executor which runs the requests of the blocking AWS SDK
+ *                           client
+ * @param endpointOverride   The endpoint to which the requests are sent instead of the regional AWS Secret Manager
+ *                           endpoint, or {@code null} if the regional endpoint should be used
+ * @param multiRegion        The configurations of the multi-region mode, or {@code null} if the requests are sent
+ *                           only to the provided region
+ * @param hedging            The configurations of the hedging of the slow requests, or {@code null} if the requests
+ *                           should not be hedged
+ * @param warmUp             The configurations of the warm-up performed when the client is initialized, or
+ *                           {@code null} if the client should not be warmed up
  */
-public record ConnectionConfig(Region region, AuthConfig auth) {
+public record ConnectionConfig(Region region, AuthConfig auth, CacheConfig cache, boolean asyncClient,
+                               HttpClientConfig httpClient, RetryConfig retry, RateLimitConfig rateLimit,
+                               boolean coalesceRequests, AutoBatchConfig autoBatch, SnapshotConfig snapshot,
+                               boolean clearBinaryBuffers, ExecutorConfig executor, URI endpointOverride,
+                               MultiRegionConfig multiRegion, HedgingConfig hedging, WarmUpConfig warmUp) {
     private static final List<Region> AWS_GLOBAL_REGIONS = List.of(
             Region.AWS_GLOBAL, Region.AWS_CN_GLOBAL, Region.AWS_US_GOV_GLOBAL, Region.AWS_ISO_GLOBAL,
             Region.AWS_ISO_B_GLOBAL);
     private static final BString REGION = StringUtils.fromString("region");
     private static final BString AUTH = StringUtils.fromString("auth");
+    private static final BString ROLE_ARN = StringUtils.fromString("roleArn");
+    private static final BString CACHE = StringUtils.fromString("cache");
+    private static final BString USE_ASYNC_CLIENT = StringUtils.fromString("useAsyncClient");
+    private static final BString HTTP_CLIENT = StringUtils.fromString("httpClient");
+    private static final BString RETRY_CONFIG = StringUtils.fromString("retryConfig");
+    private static final BString RATE_LIMIT = StringUtils.fromString("rateLimit");
+    private static final BString COALESCE_REQUESTS = StringUtils.fromString("coalesceRequests");
+    private static final BString AUTO_BATCH = StringUtils.fromString("autoBatch");
+    private static final BString SNAPSHOT = StringUtils.fromString("snapshot");
+    private static final BString CLEAR_BINARY_BUFFERS = StringUtils.fromString("clearBinaryBuffers");
+    private static final BString EXECUTOR = StringUtils.fromString("executor");
+    private static final BString ENDPOINT_OVERRIDE = StringUtils.fromString("endpointOverride");
+    private static final BString MULTI_REGION = StringUtils.fromString("multiRegion");
+    private static final BString HEDGING = StringUtils.fromString("hedging");
+    private static final BString WARM_UP = StringUtils.fromString("warmUp");
+
+    public ConnectionConfig {
+        // the prefetched secret values are kept only in the secret value cache and the snapshot
+        if (Objects.nonNull(warmUp) && !warmUp.prefetchSecrets().isEmpty() && Objects.isNull(cache) &&
+                Objects.isNull(snapshot)) {
+            throw new IllegalArgumentException(
+                    "The `prefetchSecrets` of the warm-up configurations require the `cache` or the `snapshot`");
+        }
+    }
 
     @SuppressWarnings("unchecked")
     public ConnectionConfig(BMap<BString, Object> configurations) {
         this(
                 getRegion(configurations),
-                getAuth(configurations.get(AUTH))
+                getAuth(configurations.get(AUTH)),
+                getCache(configurations),
+                configurations.getBooleanValue(USE_ASYNC_CLIENT),
+                getHttpClient(configurations),
+                getRetry(configurations),
+                getRateLimit(configurations),
+                configurations.getBooleanValue(COALESCE_REQUESTS),
+                getAutoBatch(configurations),
+                getSnapshot(configurations),
+                configurations.getBooleanValue(CLEAR_BINARY_BUFFERS),
+                new ExecutorConfig((BMap<BString, Object>) configurations.getMapValue(EXECUTOR)),
+                getEndpointOverride(configurations),
+                getMultiRegion(configurations),
+                getHedging(configurations),
+                getWarmUp(configurations)
         );
     }
 
     private static Region getRegion(BMap<BString, Object> configurations) {
-        String region = configurations.getStringValue(REGION).getValue();
+        return toRegion(configurations.getStringValue(REGION).getValue());
+    }
+
+    static Region toRegion(String region) {
         return AWS_GLOBAL_REGIONS.stream()
                 .filter(gr -> gr.id().equals(region)).findFirst().orElse(Region.of(region));
     }
@@ -55,9 +127,96 @@ public record ConnectionConfig(Region region, AuthConfig auth) {
     @SuppressWarnings("unchecked")
     private static AuthConfig getAuth(Object authConfig) {
         if (authConfig instanceof BMap) {
-            return new StaticAuthConfig((BMap<BString, Object>) authConfig);
+            BMap<BString, Object> authConfigMap = (BMap<BString, Object>) authConfig;
+            if (authConfigMap.containsKey(ROLE_ARN)) {
+                return new AssumeRoleAuthConfig(authConfigMap);
+            }
+            return new StaticAuthConfig(authConfigMap);
+        }
+        return new DefaultAuthConfig();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CacheConfig getCache(BMap<BString, Object> configurations) {
+        if (!configurations.containsKey(CACHE)) {
+            return null;
+        }
+        return new CacheConfig((BMap<BString, Object>) configurations.getMapValue(CACHE));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpClientConfig getHttpClient(BMap<BString, Object> configurations) {
+        if (!configurations.containsKey(HTTP_CLIENT)) {
+            return null;
+        }
+        return new HttpClientConfig((BMap<BString, Object>) configurations.getMapValue(HTTP_CLIENT));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RetryConfig getRetry(BMap<BString, Object> configurations) {
+        if (!configurations.containsKey(RETRY_CONFIG)) {
+            return null;
+        }
+        return new RetryConfig((BMap<BString, Object>) configurations.getMapValue(RETRY_CONFIG));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RateLimitConfig getRateLimit(BMap<BString, Object> configurations) {
+        if (!configurations.containsKey(RATE_LIMIT)) {
+            return null;
+        }
+        return new RateLimitConfig((BMap<BString, Object>) configurations.getMapValue(RATE_LIMIT));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AutoBatchConfig getAutoBatch(BMap<BString, Object> configurations) {
+        if (!configurations.containsKey(AUTO_BATCH)) {
+            return null;
+        }
+        return new AutoBatchConfig((BMap<BString, Object>) configurations.getMapValue(AUTO_BATCH));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SnapshotConfig getSnapshot(BMap<BString, Object> configurations) {
+        if (!configurations.containsKey(SNAPSHOT)) {
+            return null;
+        }
+        return new SnapshotConfig((BMap<BString, Object>) configurations.getMapValue(SNAPSHOT));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MultiRegionConfig getMultiRegion(BMap<BString, Object> configurations) {
+        if (!configurations.containsKey(MULTI_REGION)) {
+            return null;
+        }
+        return new MultiRegionConfig((BMap<BString, Object>) configurations.getMapValue(MULTI_REGION));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HedgingConfig getHedging(BMap<BString, Object> configurations) {
+        if (!configurations.containsKey(HEDGING)) {
+            return null;
+        }
+        return new HedgingConfig((BMap<BString, Object>) configurations.getMapValue(HEDGING));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static WarmUpConfig getWarmUp(BMap<BString, Object> configurations) {
+        if (!configurations.containsKey(WARM_UP)) {
+            return null;
+        }
+        return new WarmUpConfig((BMap<BString, Object>) configurations.getMapValue(WARM_UP));
+    }
+
+    private static URI getEndpointOverride(BMap<BString, Object> configurations) {
+        if (!configurations.containsKey(ENDPOINT_OVERRIDE)) {
+            return null;
+        }
+        URI endpoint = URI.create(configurations.getStringValue(ENDPOINT_OVERRIDE).getValue());
+        if (Objects.isNull(endpoint.getScheme()) || Objects.isNull(endpoint.getHost())) {
+            throw new IllegalArgumentException(
+                    "The `endpointOverride` must be an absolute URL with a scheme and a host");
         }
-        return new AuthConfig() {
-        };
+        return endpoint;
     }
 }
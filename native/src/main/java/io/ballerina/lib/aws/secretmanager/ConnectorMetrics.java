@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code ConnectorMetrics} records the instrumentation events of the AWS Secret Manager connector and publishes them
+ * to the Ballerina observability metrics, when metrics are enabled, and to the registered
+ * {@link SecretManagerMetricsListener}s.
+ */
+public final class ConnectorMetrics {
+    private static final String METRIC_PREFIX = "aws_secretmanager_";
+    private static final String OPERATION_TAG = "operation";
+    private static final String REGION_TAG = "region";
+    private static final String ERROR_CODE_TAG = "error_code";
+    private static final String CACHE_TAG = "cache";
+    private static final String EXECUTOR_TAG = "executor";
+    private static final String SNAPSHOT_OPERATION_TAG = "snapshot_operation";
+    private static final String ERROR_TYPE_TAG = "error_type";
+    private static final String THROTTLING_ERROR_TYPE = "Throttling";
+    private static final String CLIENT_ERROR_CODE = "ClientError";
+    private static final String SPAN_OPERATION_TAG = "aws.secretmanager.operation";
+    private static final String SPAN_SECRET_ID_TAG = "aws.secretmanager.secret_id";
+    private static final StatisticConfig[] SUMMARY_STATISTICS = {
+            StatisticConfig.builder()
+                    .expiry(Duration.ofSeconds(10))
+                    .buckets(2)
+                    .percentiles(StatisticConfig.DEFAULT.getPercentiles())
+                    .build(),
+            StatisticConfig.builder()
+                    .expiry(Duration.ofMinutes(1))
+                    .buckets(3)
+                    .percentiles(StatisticConfig.DEFAULT.getPercentiles())
+                    .build()
+    };
+
+    private static final List<SecretManagerMetricsListener> LISTENERS = loadListeners();
+    private static final Map<OperationKey, OperationMetrics> OPERATION_METRICS = new ConcurrentHashMap<>();
+    private static final Map<String, CacheMetrics> CACHE_METRICS = new ConcurrentHashMap<>();
+    private static final Map<String, ExecutorMetrics> EXECUTOR_METRICS = new ConcurrentHashMap<>();
+
+    private ConnectorMetrics() {
+    }
+
+    /**
+     * Checks whether the connector should be instrumented, which is when the Ballerina observability metrics are
+     * enabled or there is at least one registered listener.
+     *
+     * @return {@code true} if the connector should be instrumented, {@code false} otherwise.
+     */
+    public static boolean isEnabled() {
+        return ObserveUtils.isMetricsEnabled() || !LISTENERS.isEmpty();
+    }
+
+    /**
+     * Adds the AWS Secret Manager request details to the span of the current remote call, if tracing is enabled.
+     *
+     * @param env       The Ballerina runtime environment.
+     * @param operation The AWS Secret Manager operation name.
+     * @param secretId  The ARN or name of the secret, or {@code null} if the request is not for a single secret.
+     */
+    public static void addSpanTags(Environment env, String operation, String secretId) {
+        if (!ObserveUtils.isTracingEnabled()) {
+            return;
+        }
+        ObserverContext observerContext = ObserveUtils.getObserverContextOfCurrentFrame(env);
+        if (Objects.isNull(observerContext)) {
+            return;
+        }
+        observerContext.addTag(SPAN_OPERATION_TAG, operation);
+        if (Objects.nonNull(secretId)) {
+            observerContext.addTag(SPAN_SECRET_ID_TAG, secretId);
+        }
+    }
+
+    static void requestStarted(String operation, String region) {
+        if (ObserveUtils.isMetricsEnabled()) {
+            OperationMetrics metrics = getOperationMetrics(operation, region);
+            metrics.requests().increment();
+            metrics.inFlightRequests().increment();
+        }
+        for (SecretManagerMetricsListener listener : LISTENERS) {
+            try {
+                listener.onRequestStarted(operation, region);
+            } catch (RuntimeException e) {
+                // a failing listener should not fail the request
+            }
+        }
+    }
+
+    static void requestCompleted(String operation, String region, long startTimeInNanos, long payloadSizeInBytes,
+                                 Throwable error) {
+        Duration latency = Duration.ofNanos(System.nanoTime() - startTimeInNanos);
+        String errorCode = Objects.nonNull(error) ? getErrorCode(error) : null;
+        if (ObserveUtils.isMetricsEnabled()) {
+            OperationMetrics metrics = getOperationMetrics(operation, region);
+            metrics.inFlightRequests().decrement();
+            metrics.requestDuration().setValue(latency.toNanos() / 1e9);
+            if (Objects.nonNull(errorCode)) {
+                counter("request_errors_total", "Number of failed AWS Secret Manager requests",
+                        Set.of(new Tag(OPERATION_TAG, operation), new Tag(REGION_TAG, region),
+                                new Tag(ERROR_CODE_TAG, errorCode))).increment();
+            } else {
+                metrics.payloadSize().setValue(payloadSizeInBytes);
+            }
+        }
+        for (SecretManagerMetricsListener listener : LISTENERS) {
+            try {
+                listener.onRequestCompleted(operation, region, latency, payloadSizeInBytes, errorCode);
+            } catch (RuntimeException e) {
+                // a failing listener should not fail the request
+            }
+        }
+    }
+
+    static void attemptCompleted(String operation, String region, int attempt, Duration latency, int httpStatusCode,
+                                 String errorType) {
+        if (ObserveUtils.isMetricsEnabled()) {
+            OperationMetrics metrics = getOperationMetrics(operation, region);
+            if (Objects.nonNull(latency)) {
+                metrics.attemptDuration().setValue(latency.toNanos() / 1e9);
+            }
+            if (attempt > 1) {
+                metrics.retries().increment();
+            }
+            if (THROTTLING_ERROR_TYPE.equals(errorType)) {
+                metrics.throttledAttempts().increment();
+            }
+        }
+        for (SecretManagerMetricsListener listener : LISTENERS) {
+            try {
+                listener.onAttemptCompleted(operation, region, attempt, latency, httpStatusCode, errorType);
+            } catch (RuntimeException e) {
+                // a failing listener should not fail the request
+            }
+        }
+    }
+
+    static void requestRetried(String operation, String region, int retryCount, Throwable error) {
+        String errorCode = getErrorCode(error);
+        if (ObserveUtils.isMetricsEnabled()) {
+            getOperationMetrics(operation, region).retries().increment();
+        }
+        for (SecretManagerMetricsListener listener : LISTENERS) {
+            try {
+                listener.onRequestRetried(operation, region, retryCount, errorCode);
+            } catch (RuntimeException e) {
+                // a failing listener should not fail the request
+            }
+        }
+    }
+
+    static void requestHedged(String operation, String region, boolean hedgeWon) {
+        if (ObserveUtils.isMetricsEnabled()) {
+            OperationMetrics metrics = getOperationMetrics(operation, region);
+            metrics.hedgedRequests().increment();
+            if (hedgeWon) {
+                metrics.hedgeWins().increment();
+            }
+        }
+        for (SecretManagerMetricsListener listener : LISTENERS) {
+            try {
+                listener.onRequestHedged(operation, region, hedgeWon);
+            } catch (RuntimeException e) {
+                // a failing listener should not fail the request
+            }
+        }
+    }
+
+    static void cacheEvent(String cache, SecretManagerMetricsListener.CacheEvent event) {
+        if (ObserveUtils.isMetricsEnabled()) {
+            CacheMetrics metrics = CACHE_METRICS.computeIfAbsent(cache, ConnectorMetrics::createCacheMetrics);
+            switch (event) {
+                case HIT -> metrics.hits().increment();
+                case MISS -> metrics.misses().increment();
+                case EVICTION -> metrics.evictions().increment();
+            }
+        }
+        for (SecretManagerMetricsListener listener : LISTENERS) {
+            try {
+                listener.onCacheEvent(cache, event);
+            } catch (RuntimeException e) {
+                // a failing listener should not fail the request
+            }
+        }
+    }
+
+    static void snapshotError(SecretManagerMetricsListener.SnapshotOperation operation, Throwable error) {
+        String errorType = error.getClass().getSimpleName();
+        if (ObserveUtils.isMetricsEnabled()) {
+            counter("snapshot_errors_total", "Number of failed operations of the secret value snapshot",
+                    Set.of(new Tag(SNAPSHOT_OPERATION_TAG, operation.name().toLowerCase(Locale.ROOT)),
+                            new Tag(ERROR_TYPE_TAG, errorType))).increment();
+        }
+        for (SecretManagerMetricsListener listener : LISTENERS) {
+            try {
+                listener.onSnapshotError(operation, errorType);
+            } catch (RuntimeException e) {
+                // a failing listener should not fail the request
+            }
+        }
+    }
+
+    static void executorStateChanged(String executor, String region, int queueDepth, int activeThreads) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        ExecutorMetrics metrics = EXECUTOR_METRICS.computeIfAbsent(executor,
+                key -> createExecutorMetrics(key, region));
+        metrics.queueDepth().setValue(queueDepth);
+        metrics.activeThreads().setValue(activeThreads);
+    }
+
+    private static String getErrorCode(Throwable error) {
+        if (error instanceof RetriedRequestException retriedRequestException) {
+            error = retriedRequestException.getCause();
+        }
+        if (error instanceof AwsServiceException awsSvcExp && Objects.nonNull(awsSvcExp.awsErrorDetails()) &&
+                Objects.nonNull(awsSvcExp.awsErrorDetails().errorCode())) {
+            return awsSvcExp.awsErrorDetails().errorCode();
+        }
+        if (error instanceof SdkClientException) {
+            return CLIENT_ERROR_CODE;
+        }
+        return error.getClass().getSimpleName();
+    }
+
+    private static OperationMetrics getOperationMetrics(String operation, String region) {
+        return OPERATION_METRICS.computeIfAbsent(new OperationKey(operation, region), key -> {
+            Set<Tag> tags = Set.of(new Tag(OPERATION_TAG, key.operation()), new Tag(REGION_TAG, key.region()));
+            MetricRegistry registry = DefaultMetricRegistry.getInstance();
+            return new OperationMetrics(
+                    counter("requests_total", "Number of AWS Secret Manager requests", tags),
+                    registry.gauge(new MetricId(METRIC_PREFIX + "inflight_requests",
+                            "Number of in-flight AWS Secret Manager requests", tags)),
+                    registry.gauge(new MetricId(METRIC_PREFIX + "request_duration_seconds",
+                            "Duration of the AWS Secret Manager requests including retries", tags),
+                            SUMMARY_STATISTICS),
+                    registry.gauge(new MetricId(METRIC_PREFIX + "attempt_duration_seconds",
+                            "Duration of the individual AWS Secret Manager request attempts", tags),
+                            SUMMARY_STATISTICS),
+                    registry.gauge(new MetricId(METRIC_PREFIX + "response_payload_bytes",
+                            "Total size of the secret values in the AWS Secret Manager responses", tags),
+                            SUMMARY_STATISTICS),
+                    counter("retries_total", "Number of retried AWS Secret Manager request attempts", tags),
+                    counter("throttled_attempts_total", "Number of throttled AWS Secret Manager request attempts",
+                            tags),
+                    counter("hedged_requests_total", "Number of AWS Secret Manager requests sent a second time",
+                            tags),
+                    counter("hedge_wins_total",
+                            "Number of hedged AWS Secret Manager requests completed by the second request", tags));
+        });
+    }
+
+    private static CacheMetrics createCacheMetrics(String cache) {
+        Set<Tag> tags = Set.of(new Tag(CACHE_TAG, cache));
+        return new CacheMetrics(
+                counter("cache_hits_total", "Number of secret values served from memory", tags),
+                counter("cache_misses_total", "Number of secret values not found in memory", tags),
+                counter("cache_evictions_total", "Number of secret values evicted from memory", tags));
+    }
+
+    private static ExecutorMetrics createExecutorMetrics(String executor, String region) {
+        Set<Tag> tags = Set.of(new Tag(EXECUTOR_TAG, executor), new Tag(REGION_TAG, region));
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        return new ExecutorMetrics(
+                registry.gauge(new MetricId(METRIC_PREFIX + "executor_queue_depth",
+                        "Number of blocking AWS Secret Manager requests waiting for a thread", tags)),
+                registry.gauge(new MetricId(METRIC_PREFIX + "executor_active_threads",
+                        "Number of threads running blocking AWS Secret Manager requests", tags)));
+    }
+
+    private static Counter counter(String name, String description, Set<Tag> tags) {
+        return DefaultMetricRegistry.getInstance().counter(new MetricId(METRIC_PREFIX + name, description, tags));
+    }
+
+    private static List<SecretManagerMetricsListener> loadListeners() {
+        List<SecretManagerMetricsListener> listeners = new ArrayList<>();
+        ServiceLoader.load(SecretManagerMetricsListener.class, ConnectorMetrics.class.getClassLoader())
+                .forEach(listeners::add);
+        return Collections.unmodifiableList(listeners);
+    }
+
+    private record OperationKey(String operation, String region) {
+    }
+
+    private record OperationMetrics(Counter requests, Gauge inFlightRequests, Gauge requestDuration,
+                                    Gauge attemptDuration, Gauge payloadSize, Counter retries,
+                                    Counter throttledAttempts, Counter hedgedRequests, Counter hedgeWins) {
+    }
+
+    private record CacheMetrics(Counter hits, Counter misses, Counter evictions) {
+    }
+
+    private record ExecutorMetrics(Gauge queueDepth, Gauge activeThreads) {
+    }
+}
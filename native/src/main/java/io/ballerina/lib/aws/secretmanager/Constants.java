@@ -27,6 +27,20 @@ import io.ballerina.runtime.api.values.BString;
 public interface Constants {
     // Constants related to native data
     String NATIVE_CLIENT = "nativeClient";
+    String NATIVE_SECRET_CACHE = "nativeSecretCache";
+    String NATIVE_SECRET_REFRESHER = "nativeSecretRefresher";
+    String NATIVE_SINGLE_FLIGHT = "nativeSingleFlight";
+    String NATIVE_CLEAR_BINARY_BUFFERS = "nativeClearBinaryBuffers";
+    String NATIVE_DECODED_SECRET_CACHE = "nativeDecodedSecretCache";
+    String NATIVE_WARM_UP_REPORT = "nativeWarmUpReport";
+
+    // Constants related to AWS Secret Manager operation names
+    String DESCRIBE_SECRET_OPERATION = "DescribeSecret";
+    String GET_SECRET_VALUE_OPERATION = "GetSecretValue";
+    String BATCH_GET_SECRET_VALUE_OPERATION = "BatchGetSecretValue";
+
+    // Constants related to the Ballerina client methods
+    String VALIDATE_SECRET_VALUE_REQUEST_METHOD = "validateSecretValueRequest";
 
     // Constants related to AWS Secret Manager Error
     String SECRET_MNG_ERROR = "Error";
@@ -35,9 +49,11 @@ public interface Constants {
     BString SECRET_MNG_ERROR_DETAILS_HTTP_STATUS_TXT = StringUtils.fromString("httpStatusText");
     BString SECRET_MNG_ERROR_DETAILS_ERR_CODE = StringUtils.fromString("errorCode");
     BString SECRET_MNG_ERROR_DETAILS_ERR_MSG = StringUtils.fromString("errorMessage");
+    BString SECRET_MNG_ERROR_DETAILS_RETRY_COUNT = StringUtils.fromString("retryCount");
 
     // Constants related to Secret Manager `DescribeSecretResponse`
     String SECRET_MNG_DESC_SECRET_RECORD = "DescribeSecretResponse";
+    String SECRET_MNG_DESC_SECRET_PROJECTION_RECORD = "DescribeSecretProjection";
     BString SECRET_MNG_DESC_SECRET_ARN = StringUtils.fromString("arn");
     BString SECRET_MNG_DESC_SECRET_CREATED = StringUtils.fromString("createdDate");
     BString SECRET_MNG_DESC_SECRET_DELETED = StringUtils.fromString("deletedDate");
@@ -79,6 +95,7 @@ public interface Constants {
     // Constants related to Secret Manager `SecretVersionSelector`
     BString SECRET_MNG_SECRET_VERSION_SELECTOR_VERSION_ID = StringUtils.fromString("versionId");
     BString SECRET_MNG_SECRET_VERSION_SELECTOR_VERSION_STAGE = StringUtils.fromString("versionStage");
+    String AWS_CURRENT_VERSION_STAGE = "AWSCURRENT";
 
     // Constants related to Secret Manager `SecretValue`
     String SECRET_MNG_SECRET_VALUE_RECORD = "SecretValue";
@@ -110,4 +127,14 @@ public interface Constants {
     BString SECRET_MNG_API_ERR_ERR_CODE = StringUtils.fromString("errorCode");
     BString SECRET_MNG_API_ERR_MSG = StringUtils.fromString("message");
     BString SECRET_MNG_API_ERR_SECRET_ID = StringUtils.fromString("secretId");
+
+    // Constants related to Secret Manager `WarmUpReport`
+    String SECRET_MNG_WARM_UP_REPORT_RECORD = "WarmUpReport";
+    BString SECRET_MNG_WARM_UP_REPORT_CREDENTIALS_TIME = StringUtils.fromString("credentialsTime");
+    BString SECRET_MNG_WARM_UP_REPORT_CONNECTIONS_TIME = StringUtils.fromString("connectionsTime");
+    BString SECRET_MNG_WARM_UP_REPORT_PREFETCH_TIME = StringUtils.fromString("prefetchTime");
+    BString SECRET_MNG_WARM_UP_REPORT_TOTAL_TIME = StringUtils.fromString("totalTime");
+    BString SECRET_MNG_WARM_UP_REPORT_CONNECTIONS = StringUtils.fromString("connections");
+    BString SECRET_MNG_WARM_UP_REPORT_PREFETCHED_SECRETS = StringUtils.fromString("prefetchedSecrets");
+    BString SECRET_MNG_WARM_UP_REPORT_ERRORS = StringUtils.fromString("errors");
 }
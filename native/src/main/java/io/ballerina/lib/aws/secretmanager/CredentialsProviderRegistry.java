@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.auth.StsAssumeRoleCredentialsProvider;
+import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code CredentialsProviderRegistry} shares the AWS credentials providers among the native clients created with
+ * identical authentication configurations, so that the credentials are cached and refreshed once for all of them.
+ * <p>
+ * The temporary credentials of the default credential provider chain and of the assumed roles are refreshed on a
+ * background thread before they expire, and the credentials of a new provider are prefetched as soon as it is created.
+ * Hence, the requests use the cached credentials and do not wait for the instance metadata service or the AWS Security
+ * Token Service, unless the credentials could not be refreshed before they became stale.
+ * <p>
+ * The shared providers are reference counted and closed when the last native client using them is closed.
+ */
+public final class CredentialsProviderRegistry {
+    // the credentials are refreshed in the background once they expire within the prefetch time, and refreshed by
+    // the requests only once they expire within the stale time
+    private static final Duration PREFETCH_TIME = Duration.ofMinutes(5);
+    private static final Duration STALE_TIME = Duration.ofMinutes(1);
+    private static final Map<ProviderKey, SharedProvider> PROVIDERS = new HashMap<>();
+
+    private CredentialsProviderRegistry() {
+    }
+
+    /**
+     * Retrieves the shared credentials provider for the provided authentication configurations, creating it if there
+     * is no provider created with identical configurations.
+     *
+     * @param auth   The authentication configurations.
+     * @param region The AWS region of the native client, which is used to assume the roles.
+     * @return The shared credentials provider.
+     */
+    static AwsCredentialsProvider acquire(AuthConfig auth, Region region) {
+        ProviderKey key = new ProviderKey(auth, region);
+        synchronized (PROVIDERS) {
+            SharedProvider sharedProvider = PROVIDERS.get(key);
+            if (Objects.isNull(sharedProvider)) {
+                sharedProvider = createProvider(auth, region);
+                PROVIDERS.put(key, sharedProvider);
+                prefetch(sharedProvider.provider());
+            }
+            sharedProvider.references++;
+            return sharedProvider.provider();
+        }
+    }
+
+    /**
+     * Releases the shared credentials provider for the provided authentication configurations, closing it if it is
+     * not used by any other native client.
+     *
+     * @param auth   The authentication configurations.
+     * @param region The AWS region of the native client.
+     */
+    static void release(AuthConfig auth, Region region) {
+        ProviderKey key = new ProviderKey(auth, region);
+        SharedProvider sharedProvider;
+        synchronized (PROVIDERS) {
+            sharedProvider = PROVIDERS.get(key);
+            if (Objects.isNull(sharedProvider) || --sharedProvider.references > 0) {
+                return;
+            }
+            PROVIDERS.remove(key);
+        }
+        for (SdkAutoCloseable resource : sharedProvider.resources()) {
+            resource.close();
+        }
+    }
+
+    private static void prefetch(AwsCredentialsProvider provider) {
+        // a failed prefetch is retried by the first request, which reports the failure
+        NativeClientAdaptor.executeAsync(() -> CompletableFuture.completedFuture(provider.resolveCredentials()));
+    }
+
+    private static SharedProvider createProvider(AuthConfig auth, Region region) {
+        List<SdkAutoCloseable> resources = new ArrayList<>();
+        AwsCredentialsProvider provider = createProvider(auth, region, resources);
+        // the native clients are given a view of the provider which cannot be closed, so that closing a native
+        // client does not close a provider shared with the other native clients
+        return new SharedProvider(provider::resolveCredentials, resources);
+    }
+
+    private static AwsCredentialsProvider createProvider(AuthConfig auth, Region region,
+                                                         List<SdkAutoCloseable> resources) {
+        if (auth instanceof StaticAuthConfig staticAuth) {
+            AwsCredentials credentials = Objects.nonNull(staticAuth.sessionToken()) ?
+                    AwsSessionCredentials.create(
+                            staticAuth.accessKeyId(), staticAuth.secretAccessKey(), staticAuth.sessionToken()) :
+                    AwsBasicCredentials.create(staticAuth.accessKeyId(), staticAuth.secretAccessKey());
+            return StaticCredentialsProvider.create(credentials);
+        }
+        if (auth instanceof AssumeRoleAuthConfig assumeRoleAuth) {
+            StsClient stsClient = StsClient.builder()
+                    .httpClientBuilder(ApacheHttpClient.builder())
+                    .credentialsProvider(createProvider(assumeRoleAuth.sourceCredentials(), region, resources))
+                    .region(region).build();
+            resources.add(stsClient);
+            AssumeRoleRequest.Builder request = AssumeRoleRequest.builder()
+                    .roleArn(assumeRoleAuth.roleArn())
+                    .roleSessionName(assumeRoleAuth.roleSessionName())
+                    .durationSeconds((int) assumeRoleAuth.sessionDuration().toSeconds());
+            if (Objects.nonNull(assumeRoleAuth.externalId())) {
+                request.externalId(assumeRoleAuth.externalId());
+            }
+            StsAssumeRoleCredentialsProvider provider = StsAssumeRoleCredentialsProvider.builder()
+                    .stsClient(stsClient)
+                    .refreshRequest(request.build())
+                    .asyncCredentialUpdateEnabled(true)
+                    .prefetchTime(PREFETCH_TIME)
+                    .staleTime(STALE_TIME)
+                    .build();
+            // the provider is closed before the STS client which it uses
+            resources.add(0, provider);
+            return provider;
+        }
+        DefaultCredentialsProvider provider = DefaultCredentialsProvider.builder()
+                .asyncCredentialUpdateEnabled(true)
+                .build();
+        resources.add(provider);
+        return provider;
+    }
+
+    /**
+     * {@code ProviderKey} represents the configurations which identify a credentials provider.
+     *
+     * @param auth   The authentication configurations.
+     * @param region The AWS region used to assume the roles, or {@code null} if no role is assumed.
+     */
+    private record ProviderKey(AuthConfig auth, Region region) {
+
+        ProviderKey {
+            if (!(auth instanceof AssumeRoleAuthConfig)) {
+                region = null;
+            }
+        }
+    }
+
+    private static final class SharedProvider {
+        private final AwsCredentialsProvider provider;
+        private final List<SdkAutoCloseable> resources;
+        private int references = 0;
+
+        private SharedProvider(AwsCredentialsProvider provider, List<SdkAutoCloseable> resources) {
+            this.provider = provider;
+            this.resources = resources;
+        }
+
+        AwsCredentialsProvider provider() {
+            return provider;
+        }
+
+        List<SdkAutoCloseable> resources() {
+            return resources;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@code DecodedSecretCache} is an LRU cache of the read-only Ballerina values decoded from the JSON secret strings.
+ * <p>
+ * The entries are keyed by the ARN and the version ID of the secret together with the key path and the target type,
+ * hence a secret version is parsed and converted at most once for each path and type, and a rotated secret is decoded
+ * again as soon as its new version is retrieved. The secret value itself is retrieved as usual, so the cache only
+ * avoids the parsing and the conversion.
+ */
+final class DecodedSecretCache {
+    private static final int MAX_ENTRIES = 256;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<DecodedKey, Object> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    Object get(DecodedKey key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void put(DecodedKey key, Object value) {
+        lock.lock();
+        try {
+            entries.put(key, value);
+            if (entries.size() > MAX_ENTRIES) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@code DecodedKey} represents the key of a decoded secret value.
+     *
+     * @param arn        The ARN of the secret.
+     * @param versionId  The version ID of the secret.
+     * @param path       The key path of the decoded value, or {@code null} if the whole secret value is decoded.
+     * @param targetType The type to which the decoded value is converted.
+     */
+    record DecodedKey(String arn, String versionId, String path, Type targetType) {
+    }
+}
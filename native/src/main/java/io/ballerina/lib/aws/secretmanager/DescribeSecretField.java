@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * {@code DescribeSecretField} represents the fields of the Ballerina `secretmanager:DescribeSecretProjection` record,
+ * which could be requested with the `describeSecretProjection` API.
+ */
+public enum DescribeSecretField {
+    ARN(Constants.SECRET_MNG_DESC_SECRET_ARN),
+    CREATED_DATE(Constants.SECRET_MNG_DESC_SECRET_CREATED),
+    DELETED_DATE(Constants.SECRET_MNG_DESC_SECRET_DELETED),
+    DESCRIPTION(Constants.SECRET_MNG_DESC_SECRET_DESCRIPTION),
+    KMS_KEY_ID(Constants.SECRET_MNG_DESC_SECRET_KMS_KEY_ID),
+    LAST_ACCESSED_DATE(Constants.SECRET_MNG_DESC_SECRET_LAST_ACCESSED),
+    LAST_CHANGED_DATE(Constants.SECRET_MNG_DESC_SECRET_LAST_CHANGED),
+    LAST_ROTATED_DATE(Constants.SECRET_MNG_DESC_SECRET_LAST_ROTATED),
+    NAME(Constants.SECRET_MNG_DESC_SECRET_NAME),
+    NEXT_ROTATION_DATE(Constants.SECRET_MNG_DESC_SECRET_NXT_ROTATION),
+    OWNING_SERVICE(Constants.SECRET_MNG_DESC_SECRET_OWNING_SVC),
+    PRIMARY_REGION(Constants.SECRET_MNG_DESC_SECRET_PRIMARY_RGN),
+    REPLICATION_STATUS(Constants.SECRET_MNG_DESC_SECRET_REPLICATION_STATUS),
+    ROTATION_ENABLED(Constants.SECRET_MNG_DESC_SECRET_ROTATION_ENABLED),
+    ROTATION_LAMBDA_ARN(Constants.SECRET_MNG_DESC_SECRET_ROTATION_LAMBDA_ARN),
+    ROTATION_RULES(Constants.SECRET_MNG_DESC_SECRET_ROTATION_RULES),
+    TAGS(Constants.SECRET_MNG_DESC_SECRET_TAGS),
+    VERSION_TO_STAGES(Constants.SECRET_MNG_DESC_SECRET_VERSION_TO_STAGES);
+
+    private static final DescribeSecretField[] FIELDS = values();
+
+    private final BString fieldName;
+
+    DescribeSecretField(BString fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    BString fieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Resolves the provided Ballerina field names to the {@code DescribeSecretField} values.
+     *
+     * @param fields The Ballerina `secretmanager:DescribeSecretField` array.
+     * @return The requested fields.
+     */
+    public static Set<DescribeSecretField> fromFieldNames(BArray fields) {
+        Set<DescribeSecretField> requestedFields = EnumSet.noneOf(DescribeSecretField.class);
+        for (int i = 0; i < fields.size(); i++) {
+            BString fieldName = (BString) fields.get(i);
+            for (DescribeSecretField field : FIELDS) {
+                if (field.fieldName.equals(fieldName)) {
+                    requestedFields.add(field);
+                    break;
+                }
+            }
+        }
+        return requestedFields;
+    }
+}
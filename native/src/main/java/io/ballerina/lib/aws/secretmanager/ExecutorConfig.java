@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code ExecutorConfig} represents the configurations of the executor which runs the requests of the blocking AWS
+ * SDK client.
+ *
+ * @param virtualThreads Whether to run each request on a new virtual thread instead of a pool of platform threads.
+ * @param maxConcurrency The maximum number of requests executed concurrently.
+ * @param maxQueueSize   The maximum number of requests waiting for an execution slot.
+ * @param overflowPolicy The behaviour when a request is submitted while the queue is full.
+ * @param daemon         Whether the platform threads of the pool are daemon threads.
+ */
+public record ExecutorConfig(boolean virtualThreads, int maxConcurrency, int maxQueueSize,
+                             OverflowPolicy overflowPolicy, boolean daemon) {
+    private static final BString VIRTUAL_THREADS = StringUtils.fromString("virtualThreads");
+    private static final BString MAX_CONCURRENCY = StringUtils.fromString("maxConcurrency");
+    private static final BString MAX_QUEUE_SIZE = StringUtils.fromString("maxQueueSize");
+    private static final BString OVERFLOW_POLICY = StringUtils.fromString("overflowPolicy");
+    private static final BString DAEMON = StringUtils.fromString("daemon");
+
+    public ExecutorConfig {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException(
+                    "The `maxConcurrency` of the executor configurations must be a positive integer");
+        }
+        if (maxQueueSize < 0) {
+            throw new IllegalArgumentException(
+                    "The `maxQueueSize` of the executor configurations must not be negative");
+        }
+    }
+
+    public ExecutorConfig(BMap<BString, Object> executorConfig) {
+        this(
+                executorConfig.getBooleanValue(VIRTUAL_THREADS),
+                executorConfig.getIntValue(MAX_CONCURRENCY).intValue(),
+                executorConfig.getIntValue(MAX_QUEUE_SIZE).intValue(),
+                OverflowPolicy.valueOf(executorConfig.getStringValue(OVERFLOW_POLICY).getValue()),
+                executorConfig.getBooleanValue(DAEMON)
+        );
+    }
+
+    /**
+     * {@code OverflowPolicy} represents the behaviour of the executor when a request is submitted while the queue is
+     * full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The submitting thread waits until there is space in the queue.
+         */
+        BLOCK,
+        /**
+         * The request fails immediately with a {@link java.util.concurrent.RejectedExecutionException}.
+         */
+        REJECT
+    }
+}
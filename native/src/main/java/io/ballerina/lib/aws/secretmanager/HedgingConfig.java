@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.time.Duration;
+
+/**
+ * {@code HedgingConfig} represents the configurations of the hedging of the slow requests.
+ *
+ * @param percentile  The percentile of the observed latency after which a second request is sent.
+ * @param minDelay    The minimum delay before a second request is sent, which is also used until enough latencies
+ *                    are observed.
+ * @param budgetRatio The number of hedged requests allowed for each request.
+ */
+public record HedgingConfig(double percentile, Duration minDelay, double budgetRatio) {
+    private static final BString PERCENTILE = StringUtils.fromString("percentile");
+    private static final BString MIN_DELAY = StringUtils.fromString("minDelay");
+    private static final BString BUDGET_RATIO = StringUtils.fromString("budgetRatio");
+
+    public HedgingConfig {
+        if (percentile <= 0 || percentile >= 100) {
+            throw new IllegalArgumentException(
+                    "The `percentile` of the hedging configurations must be greater than 0 and less than 100");
+        }
+        if (minDelay.isNegative()) {
+            throw new IllegalArgumentException("The `minDelay` of the hedging configurations must not be negative");
+        }
+        if (budgetRatio < 0 || budgetRatio > 1) {
+            throw new IllegalArgumentException(
+                    "The `budgetRatio` of the hedging configurations must be between 0 and 1");
+        }
+    }
+
+    public HedgingConfig(BMap<BString, Object> hedgingConfig) {
+        this(
+                hedgingConfig.getFloatValue(PERCENTILE),
+                CommonUtils.toDuration((BDecimal) hedgingConfig.get(MIN_DELAY)),
+                hedgingConfig.getFloatValue(BUDGET_RATIO)
+        );
+    }
+}
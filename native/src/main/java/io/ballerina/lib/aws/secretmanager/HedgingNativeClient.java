@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretRequest;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretResponse;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * {@code HedgingNativeClient} is a {@link NativeClient} decorator which hedges the slow `DescribeSecret` and
+ * `GetSecretValue` requests.
+ * <p>
+ * If a request has not completed within the configured percentile of the recently observed latencies of the
+ * operation, an identical request is sent, the first successful response is used and the other request is cancelled.
+ * The hedged requests are limited by a budget which is replenished by the requests, hence they add at most the
+ * configured fraction to the request volume. The `BatchGetSecretValue` requests are not hedged.
+ * <p>
+ * This decorator wraps the native client directly, so that cancelling the losing request aborts the in-flight HTTP
+ * request of the non-blocking client, or removes the request from the queue of the blocking client.
+ */
+public final class HedgingNativeClient implements NativeClient {
+    private static final double MAX_HEDGE_TOKENS = 10;
+
+    private final NativeClient nativeClient;
+    private final double percentile;
+    private final long minDelayInNanos;
+    private final double budgetRatio;
+    private final String region;
+    private final LatencyTracker describeSecretLatency = new LatencyTracker();
+    private final LatencyTracker getSecretValueLatency = new LatencyTracker();
+    private double hedgeTokens = 0;
+
+    /**
+     * Creates a {@code HedgingNativeClient}.
+     *
+     * @param nativeClient The underlying native client.
+     * @param config       The hedging configurations.
+     * @param region       The AWS region of the client.
+     */
+    public HedgingNativeClient(NativeClient nativeClient, HedgingConfig config, String region) {
+        this.nativeClient = nativeClient;
+        this.percentile = config.percentile();
+        this.minDelayInNanos = config.minDelay().toNanos();
+        this.budgetRatio = config.budgetRatio();
+        this.region = region;
+    }
+
+    @Override
+    public CompletableFuture<DescribeSecretResponse> describeSecret(DescribeSecretRequest request) {
+        return execute(Constants.DESCRIBE_SECRET_OPERATION, describeSecretLatency,
+                () -> nativeClient.describeSecret(request));
+    }
+
+    @Override
+    public CompletableFuture<GetSecretValueResponse> getSecretValue(GetSecretValueRequest request) {
+        return execute(Constants.GET_SECRET_VALUE_OPERATION, getSecretValueLatency,
+                () -> nativeClient.getSecretValue(request));
+    }
+
+    @Override
+    public CompletableFuture<BatchGetSecretValueResponse> batchGetSecretValue(BatchGetSecretValueRequest request) {
+        return nativeClient.batchGetSecretValue(request);
+    }
+
+    private <T> CompletableFuture<T> execute(String operation, LatencyTracker latency,
+                                             Supplier<CompletableFuture<T>> request) {
+        depositHedgeToken();
+        HedgedRequest<T> hedgedRequest = new HedgedRequest<>(operation, latency, request);
+        hedgedRequest.start();
+        return hedgedRequest.result;
+    }
+
+    private synchronized void depositHedgeToken() {
+        hedgeTokens = Math.min(MAX_HEDGE_TOKENS, hedgeTokens + budgetRatio);
+    }
+
+    private synchronized boolean tryAcquireHedgeToken() {
+        if (hedgeTokens < 1) {
+            return false;
+        }
+        hedgeTokens -= 1;
+        return true;
+    }
+
+    private static void cancel(CompletableFuture<?> response) {
+        if (Objects.nonNull(response)) {
+            response.cancel(true);
+        }
+    }
+
+    @Override
+    public CompletableFuture<DescribeSecretResponse> openConnection(DescribeSecretRequest request) {
+        return nativeClient.openConnection(request);
+    }
+
+    @Override
+    public void close() {
+        nativeClient.close();
+    }
+
+    /**
+     * {@code HedgedRequest} tracks the initial and the hedged request sent on behalf of a single client request.
+     */
+    private final class HedgedRequest<T> {
+        private final String operation;
+        private final LatencyTracker latency;
+        private final Supplier<CompletableFuture<T>> request;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final long startTime = System.nanoTime();
+        private volatile CompletableFuture<T> initialResponse;
+        private volatile CompletableFuture<T> hedgedResponse;
+        private int inFlight = 0;
+
+        HedgedRequest(String operation, LatencyTracker latency, Supplier<CompletableFuture<T>> request) {
+            this.operation = operation;
+            this.latency = latency;
+            this.request = request;
+        }
+
+        void start() {
+            initialResponse = send(false);
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    cancel(initialResponse);
+                    cancel(hedgedResponse);
+                }
+            });
+            if (!initialResponse.isDone()) {
+                NativeClientAdaptor.schedule(this::hedge, latency.getHedgeDelay());
+            }
+        }
+
+        private void hedge() {
+            if (result.isDone()) {
+                return;
+            }
+            // the hedged request is sent on a connector worker thread, since sending a request can block the shared
+            // scheduler thread which only fires the hedge timer
+            NativeClientAdaptor.executeAsync(() -> {
+                if (!result.isDone() && tryAcquireHedgeToken()) {
+                    hedgedResponse = send(true);
+                    // the initial request could have completed while the hedged request was being sent
+                    if (result.isDone()) {
+                        hedgedResponse.cancel(true);
+                    }
+                }
+                return CompletableFuture.completedFuture(null);
+            });
+        }
+
+        private CompletableFuture<T> send(boolean hedged) {
+            synchronized (this) {
+                inFlight++;
+            }
+            CompletableFuture<T> response;
+            try {
+                response = request.get();
+            } catch (RuntimeException e) {
+                response = CompletableFuture.failedFuture(e);
+            }
+            response.whenComplete((value, error) -> onComplete(hedged, value, error));
+            return response;
+        }
+
+        private void onComplete(boolean hedged, T value, Throwable error) {
+            if (Objects.isNull(error)) {
+                if (!result.complete(value)) {
+                    return;
+                }
+                latency.record(System.nanoTime() - startTime);
+                CompletableFuture<T> losingResponse = hedged ? initialResponse : hedgedResponse;
+                if (Objects.nonNull(losingResponse)) {
+                    losingResponse.cancel(true);
+                }
+                if (Objects.nonNull(hedgedResponse)) {
+                    ConnectorMetrics.requestHedged(operation, region, hedged);
+                }
+                return;
+            }
+            boolean failed;
+            synchronized (this) {
+                inFlight--;
+                // a failure is reported only if the other request has also failed, or has not been sent
+                failed = inFlight == 0;
+            }
+            if (failed && result.completeExceptionally(CommonUtils.unwrap(error)) &&
+                    Objects.nonNull(hedgedResponse)) {
+                ConnectorMetrics.requestHedged(operation, region, false);
+            }
+        }
+    }
+
+    /**
+     * {@code LatencyTracker} tracks the recently observed latencies of an operation and derives the hedge delay from
+     * them.
+     */
+    private final class LatencyTracker {
+        private static final int MAX_SAMPLES = 512;
+        // the percentile is recomputed periodically, as sorting the samples on every request is too costly
+        private static final int RECOMPUTE_INTERVAL = 32;
+
+        private final long[] samples = new long[MAX_SAMPLES];
+        private int sampleCount = 0;
+        private int nextSample = 0;
+        private int samplesSinceRecompute = 0;
+        private volatile long hedgeDelayInNanos = minDelayInNanos;
+
+        long getHedgeDelay() {
+            return hedgeDelayInNanos;
+        }
+
+        synchronized void record(long latencyInNanos) {
+            samples[nextSample] = latencyInNanos;
+            nextSample = (nextSample + 1) % MAX_SAMPLES;
+            sampleCount = Math.min(sampleCount + 1, MAX_SAMPLES);
+            if (++samplesSinceRecompute < RECOMPUTE_INTERVAL) {
+                return;
+            }
+            samplesSinceRecompute = 0;
+            long[] sortedSamples = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(sortedSamples);
+            int index = Math.max(0, (int) Math.ceil(percentile / 100 * sampleCount) - 1);
+            hedgeDelayInNanos = Math.max(minDelayInNanos, sortedSamples[index]);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.time.Duration;
+
+/**
+ * {@code HttpClientConfig} represents the configurations of the underlying HTTP client and the API call timeouts.
+ * A {@code null} value indicates that the AWS SDK default should be used.
+ *
+ * @param maxConnections               The maximum number of connections allowed in the connection pool.
+ * @param connectionTimeout            The maximum time to wait while establishing a connection.
+ * @param socketTimeout                The maximum time to wait for data to be transferred over a connection.
+ * @param connectionTimeToLive         The maximum time a pooled connection is kept open before it is closed.
+ * @param connectionMaxIdleTime        The maximum time a connection can stay idle in the pool before it is closed.
+ * @param connectionAcquisitionTimeout The maximum time to wait to lease a connection from the pool.
+ * @param tcpKeepAlive                 Whether to enable the TCP keep-alive on the connections.
+ * @param apiCallAttemptTimeout        The maximum time for a single HTTP request attempt to complete.
+ * @param apiCallTimeout               The maximum time for an API call to complete, including all the retries.
+ */
+public record HttpClientConfig(Integer maxConnections, Duration connectionTimeout, Duration socketTimeout,
+                               Duration connectionTimeToLive, Duration connectionMaxIdleTime,
+                               Duration connectionAcquisitionTimeout, Boolean tcpKeepAlive,
+                               Duration apiCallAttemptTimeout, Duration apiCallTimeout) {
+    private static final BString MAX_CONNECTIONS = StringUtils.fromString("maxConnections");
+    private static final BString CONNECTION_TIMEOUT = StringUtils.fromString("connectionTimeout");
+    private static final BString SOCKET_TIMEOUT = StringUtils.fromString("socketTimeout");
+    private static final BString CONNECTION_TTL = StringUtils.fromString("connectionTimeToLive");
+    private static final BString CONNECTION_MAX_IDLE_TIME = StringUtils.fromString("connectionMaxIdleTime");
+    private static final BString CONNECTION_ACQUISITION_TIMEOUT = StringUtils.fromString(
+            "connectionAcquisitionTimeout");
+    private static final BString TCP_KEEP_ALIVE = StringUtils.fromString("tcpKeepAlive");
+    private static final BString API_CALL_ATTEMPT_TIMEOUT = StringUtils.fromString("apiCallAttemptTimeout");
+    private static final BString API_CALL_TIMEOUT = StringUtils.fromString("apiCallTimeout");
+
+    public HttpClientConfig(BMap<BString, Object> httpClientConfig) {
+        this(
+                httpClientConfig.containsKey(MAX_CONNECTIONS) ?
+                        httpClientConfig.getIntValue(MAX_CONNECTIONS).intValue() : null,
+                getDuration(httpClientConfig, CONNECTION_TIMEOUT),
+                getDuration(httpClientConfig, SOCKET_TIMEOUT),
+                getDuration(httpClientConfig, CONNECTION_TTL),
+                getDuration(httpClientConfig, CONNECTION_MAX_IDLE_TIME),
+                getDuration(httpClientConfig, CONNECTION_ACQUISITION_TIMEOUT),
+                httpClientConfig.containsKey(TCP_KEEP_ALIVE) ? httpClientConfig.getBooleanValue(TCP_KEEP_ALIVE) : null,
+                getDuration(httpClientConfig, API_CALL_ATTEMPT_TIMEOUT),
+                getDuration(httpClientConfig, API_CALL_TIMEOUT)
+        );
+    }
+
+    private static Duration getDuration(BMap<BString, Object> httpClientConfig, BString key) {
+        if (!httpClientConfig.containsKey(key)) {
+            return null;
+        }
+        return CommonUtils.toDuration((BDecimal) httpClientConfig.get(key));
+    }
+}
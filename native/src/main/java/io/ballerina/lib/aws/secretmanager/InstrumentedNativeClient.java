@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretRequest;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretResponse;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.SecretValueEntry;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@code InstrumentedNativeClient} is a {@link NativeClient} decorator which records the request count, in-flight
+ * requests, latency, errors and response payload size of each request using the {@link ConnectorMetrics}.
+ */
+public final class InstrumentedNativeClient implements NativeClient {
+    private final NativeClient nativeClient;
+    private final String region;
+
+    public InstrumentedNativeClient(NativeClient nativeClient, String region) {
+        this.nativeClient = nativeClient;
+        this.region = region;
+    }
+
+    @Override
+    public CompletableFuture<DescribeSecretResponse> describeSecret(DescribeSecretRequest request) {
+        return instrument(Constants.DESCRIBE_SECRET_OPERATION, () -> nativeClient.describeSecret(request),
+                response -> 0);
+    }
+
+    @Override
+    public CompletableFuture<GetSecretValueResponse> getSecretValue(GetSecretValueRequest request) {
+        return instrument(Constants.GET_SECRET_VALUE_OPERATION, () -> nativeClient.getSecretValue(request),
+                response -> payloadSize(response.secretString(), response.secretBinary()));
+    }
+
+    @Override
+    public CompletableFuture<BatchGetSecretValueResponse> batchGetSecretValue(BatchGetSecretValueRequest request) {
+        return instrument(Constants.BATCH_GET_SECRET_VALUE_OPERATION, () -> nativeClient.batchGetSecretValue(request),
+                response -> {
+                    long size = 0;
+                    if (response.hasSecretValues()) {
+                        for (SecretValueEntry entry : response.secretValues()) {
+                            size += payloadSize(entry.secretString(), entry.secretBinary());
+                        }
+                    }
+                    return size;
+                });
+    }
+
+    private <T> CompletableFuture<T> instrument(String operation, Supplier<CompletableFuture<T>> request,
+                                                ToLongFunction<T> payloadSize) {
+        long startTime = System.nanoTime();
+        ConnectorMetrics.requestStarted(operation, region);
+        CompletableFuture<T> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            ConnectorMetrics.requestCompleted(operation, region, startTime, 0, e);
+            throw e;
+        }
+        return CommonUtils.propagateCancellation(response.whenComplete((result, error) ->
+                ConnectorMetrics.requestCompleted(operation, region, startTime,
+                        Objects.nonNull(result) ? payloadSize.applyAsLong(result) : 0,
+                        Objects.nonNull(error) ? CommonUtils.unwrap(error) : null)), response);
+    }
+
+    private static long payloadSize(String secretString, SdkBytes secretBinary) {
+        if (Objects.nonNull(secretBinary)) {
+            return secretBinary.asByteBuffer().remaining();
+        }
+        return Objects.nonNull(secretString) ? CommonUtils.utf8Length(secretString) : 0;
+    }
+
+    @Override
+    public CompletableFuture<DescribeSecretResponse> openConnection(DescribeSecretRequest request) {
+        return nativeClient.openConnection(request);
+    }
+
+    @Override
+    public void close() {
+        nativeClient.close();
+    }
+}
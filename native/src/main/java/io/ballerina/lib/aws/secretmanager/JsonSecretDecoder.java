@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Objects;
+
+/**
+ * {@code JsonSecretDecoder} decodes the JSON secret strings into read-only Ballerina `json` values with the JSON parser
+ * of the Ballerina runtime.
+ * <p>
+ * When a key path is provided, only the value at the path is returned, hence only that value is converted to the
+ * target type of the caller.
+ */
+final class JsonSecretDecoder {
+
+    private JsonSecretDecoder() {
+    }
+
+    /**
+     * Decodes the value at the provided key path of the provided JSON document.
+     *
+     * @param json The JSON document.
+     * @param path The `.` separated keys of the value to decode, where a numeric key selects an array member, or
+     *             {@code null} to decode the whole document.
+     * @return The read-only Ballerina `json` value.
+     * @throws io.ballerina.runtime.api.values.BError If the JSON document is not valid.
+     * @throws IllegalArgumentException               If the JSON document does not contain a value at the provided
+     *                                                key path.
+     */
+    static Object decode(String json, String path) {
+        if (json.isBlank()) {
+            throw new IllegalArgumentException("The secret value is empty");
+        }
+        Object value = JsonUtils.parse(json);
+        if (Objects.nonNull(path)) {
+            for (String key : path.split("\\.", -1)) {
+                value = select(value, key, path);
+            }
+        }
+        if (value instanceof BRefValue refValue) {
+            refValue.freezeDirect();
+        }
+        return value;
+    }
+
+    private static Object select(Object value, String key, String path) {
+        if (value instanceof BMap<?, ?> object) {
+            BString member = StringUtils.fromString(key);
+            if (object.containsKey(member)) {
+                return object.get(member);
+            }
+        } else if (value instanceof BArray array) {
+            int index = toIndex(key);
+            if (index >= 0 && index < array.size()) {
+                return array.get(index);
+            }
+        }
+        throw new IllegalArgumentException(String.format("The secret value does not contain a value at `%s`", path));
+    }
+
+    private static int toIndex(String key) {
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
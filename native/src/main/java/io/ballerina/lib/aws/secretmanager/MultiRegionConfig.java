@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.regions.Region;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@code MultiRegionConfig} represents the configurations of the multi-region mode of the AWS Secret Manager client.
+ *
+ * @param replicaRegions   The regions of the replicas of the secrets.
+ * @param hedgeDelay       The delay after which a request which has not completed is also sent to the next region,
+ *                         or {@code null} if the requests are not hedged.
+ * @param hedgeBudgetRatio The maximum ratio of the requests which are hedged to the next region.
+ * @param latencySmoothing The weight of the latest latency sample in the moving average of the latency of a region.
+ * @param failureCooldown  The time for which a region is not preferred after a request to it fails with a timeout or
+ *                         a server error.
+ */
+public record MultiRegionConfig(List<Region> replicaRegions, Duration hedgeDelay, double hedgeBudgetRatio,
+                                double latencySmoothing, Duration failureCooldown) {
+    private static final BString REPLICA_REGIONS = StringUtils.fromString("replicaRegions");
+    private static final BString HEDGE_DELAY = StringUtils.fromString("hedgeDelay");
+    private static final BString HEDGE_BUDGET_RATIO = StringUtils.fromString("hedgeBudgetRatio");
+    private static final BString LATENCY_SMOOTHING = StringUtils.fromString("latencySmoothing");
+    private static final BString FAILURE_COOLDOWN = StringUtils.fromString("failureCooldown");
+
+    public MultiRegionConfig {
+        if (replicaRegions.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "The `replicaRegions` of the multi-region configurations must contain at least one region");
+        }
+        if (hedgeBudgetRatio < 0 || hedgeBudgetRatio > 1) {
+            throw new IllegalArgumentException(
+                    "The `hedgeBudgetRatio` of the multi-region configurations must be between 0 and 1");
+        }
+        if (latencySmoothing <= 0 || latencySmoothing > 1) {
+            throw new IllegalArgumentException(
+                    "The `latencySmoothing` of the multi-region configurations must be greater than 0 and at most 1");
+        }
+        if ((Objects.nonNull(hedgeDelay) && hedgeDelay.isNegative()) || failureCooldown.isNegative()) {
+            throw new IllegalArgumentException(
+                    "The `hedgeDelay` and `failureCooldown` of the multi-region configurations must not be negative");
+        }
+    }
+
+    public MultiRegionConfig(BMap<BString, Object> multiRegionConfig) {
+        this(
+                getRegions(multiRegionConfig.getArrayValue(REPLICA_REGIONS)),
+                multiRegionConfig.containsKey(HEDGE_DELAY) ?
+                        CommonUtils.toDuration((BDecimal) multiRegionConfig.get(HEDGE_DELAY)) : null,
+                multiRegionConfig.getFloatValue(HEDGE_BUDGET_RATIO),
+                multiRegionConfig.getFloatValue(LATENCY_SMOOTHING),
+                CommonUtils.toDuration((BDecimal) multiRegionConfig.get(FAILURE_COOLDOWN))
+        );
+    }
+
+    private static List<Region> getRegions(BArray regions) {
+        List<Region> nativeRegions = new ArrayList<>(regions.size());
+        for (String region : regions.getStringArray()) {
+            nativeRegions.add(ConnectionConfig.toRegion(region));
+        }
+        return List.copyOf(nativeRegions);
+    }
+}
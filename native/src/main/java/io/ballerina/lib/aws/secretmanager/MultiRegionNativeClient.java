@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretRequest;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretResponse;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.ResourceNotFoundException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * {@code MultiRegionNativeClient} is a {@link NativeClient} which sends the read requests to the primary region or to
+ * one of the replica regions of the secrets.
+ * <p>
+ * The requests are sent to the healthy region with the lowest exponentially weighted moving average of the observed
+ * latency, and the regions without an observed latency are used only after the ones with it. A request which fails
+ * with a timeout, a throttling or a server error is sent again to the next region, and the failed region is not
+ * preferred until the failure cooldown has elapsed. A request for a secret which is not found in a replica region is
+ * also sent to the next region, since the secret may not be replicated to that region.
+ * <p>
+ * If a hedge delay is configured, a request which has not completed within the delay is also sent to the next region,
+ * as long as the hedge budget allows it. The first successful response is used and the other requests are cancelled.
+ * A failure is reported only once none of the requests is in flight.
+ * <p>
+ * The ARNs in the requests are rewritten to the region to which each request is sent, since the replicas of a secret
+ * have the same ARN except for the region.
+ */
+public final class MultiRegionNativeClient implements NativeClient {
+    private static final double MAX_HEDGE_TOKENS = 10;
+
+    private final List<RegionalClient> regionalClients;
+    private final long hedgeDelayInNanos;
+    private final double hedgeBudgetRatio;
+    private final double latencySmoothing;
+    private final long failureCooldownInNanos;
+    private double hedgeTokens = 0;
+
+    /**
+     * Creates a {@code MultiRegionNativeClient}.
+     *
+     * @param regionalClients The native clients of the regions, starting with the primary region.
+     * @param config          The multi-region configurations.
+     */
+    public MultiRegionNativeClient(List<RegionalClient> regionalClients, MultiRegionConfig config) {
+        this.regionalClients = List.copyOf(regionalClients);
+        this.hedgeDelayInNanos = Objects.nonNull(config.hedgeDelay()) ? config.hedgeDelay().toNanos() : -1;
+        this.hedgeBudgetRatio = config.hedgeBudgetRatio();
+        this.latencySmoothing = config.latencySmoothing();
+        this.failureCooldownInNanos = config.failureCooldown().toNanos();
+    }
+
+    @Override
+    public CompletableFuture<DescribeSecretResponse> describeSecret(DescribeSecretRequest request) {
+        return execute(region -> region.nativeClient().describeSecret(request.toBuilder()
+                .secretId(CommonUtils.withRegion(request.secretId(), region.region())).build()));
+    }
+
+    @Override
+    public CompletableFuture<GetSecretValueResponse> getSecretValue(GetSecretValueRequest request) {
+        return execute(region -> region.nativeClient().getSecretValue(request.toBuilder()
+                .secretId(CommonUtils.withRegion(request.secretId(), region.region())).build()));
+    }
+
+    @Override
+    public CompletableFuture<BatchGetSecretValueResponse> batchGetSecretValue(BatchGetSecretValueRequest request) {
+        return execute(region -> {
+            if (!request.hasSecretIdList()) {
+                return region.nativeClient().batchGetSecretValue(request);
+            }
+            List<String> secretIds = new ArrayList<>(request.secretIdList().size());
+            for (String secretId : request.secretIdList()) {
+                secretIds.add(CommonUtils.withRegion(secretId, region.region()));
+            }
+            return region.nativeClient().batchGetSecretValue(request.toBuilder().secretIdList(secretIds).build());
+        });
+    }
+
+    @Override
+    public CompletableFuture<DescribeSecretResponse> openConnection(DescribeSecretRequest request) {
+        // the connections are opened to the primary region, to which the requests are sent until the latencies of
+        // the regions have been observed
+        RegionalClient primary = regionalClients.get(0);
+        return primary.nativeClient().openConnection(request.toBuilder()
+                .secretId(CommonUtils.withRegion(request.secretId(), primary.region())).build());
+    }
+
+    private <T> CompletableFuture<T> execute(Function<RegionalClient, CompletableFuture<T>> request) {
+        Attempts<T> attempts = new Attempts<>(rankRegions(), request);
+        attempts.result.whenComplete((value, error) -> {
+            if (attempts.result.isCancelled()) {
+                attempts.cancelAll();
+            }
+        });
+        attempts.next();
+        if (hedgeDelayInNanos >= 0) {
+            depositHedgeToken();
+            if (attempts.hasNext()) {
+                NativeClientAdaptor.schedule(attempts::hedge, hedgeDelayInNanos);
+            }
+        }
+        return attempts.result;
+    }
+
+    private synchronized void depositHedgeToken() {
+        hedgeTokens = Math.min(MAX_HEDGE_TOKENS, hedgeTokens + hedgeBudgetRatio);
+    }
+
+    private synchronized boolean tryAcquireHedgeToken() {
+        if (hedgeTokens < 1) {
+            return false;
+        }
+        hedgeTokens -= 1;
+        return true;
+    }
+
+    private List<RegionalClient> rankRegions() {
+        long now = System.nanoTime();
+        // the health and the latency are read once, since they can be updated by the completing requests
+        List<RegionRank> ranks = new ArrayList<>(regionalClients.size());
+        for (RegionalClient regionalClient : regionalClients) {
+            ranks.add(new RegionRank(regionalClient, regionalClient.isHealthy(now), regionalClient.latencyInNanos()));
+        }
+        // the regions without a measured latency are ranked after the measured ones, and the sort is stable, hence
+        // the primary region is preferred over the replicas with the same latency or without a measured latency
+        ranks.sort(Comparator.comparing((RegionRank rank) -> !rank.healthy())
+                .thenComparing(rank -> rank.latencyInNanos() == 0)
+                .thenComparingDouble(RegionRank::latencyInNanos));
+        List<RegionalClient> ranked = new ArrayList<>(ranks.size());
+        for (RegionRank rank : ranks) {
+            ranked.add(rank.regionalClient());
+        }
+        return ranked;
+    }
+
+    private static boolean isRegionalFailure(Throwable cause) {
+        return RetryingNativeClient.isTransient(cause) || cause instanceof ApiCallTimeoutException;
+    }
+
+    private static boolean isNotFound(Throwable cause) {
+        Throwable failure = cause instanceof RetriedRequestException ? cause.getCause() : cause;
+        return failure instanceof ResourceNotFoundException;
+    }
+
+    @Override
+    public void close() {
+        for (RegionalClient regionalClient : regionalClients) {
+            regionalClient.nativeClient().close();
+        }
+    }
+
+    /**
+     * {@code Attempts} tracks the requests sent to the regions on behalf of a single client request.
+     */
+    private final class Attempts<T> {
+        private final List<RegionalClient> candidates;
+        private final Function<RegionalClient, CompletableFuture<T>> request;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<CompletableFuture<T>> responses = new ArrayList<>();
+        private int nextCandidate = 0;
+        private int inFlight = 0;
+        private Throwable failure;
+        private boolean regionalFailure = false;
+
+        Attempts(List<RegionalClient> candidates, Function<RegionalClient, CompletableFuture<T>> request) {
+            this.candidates = candidates;
+            this.request = request;
+        }
+
+        synchronized boolean hasNext() {
+            return nextCandidate < candidates.size();
+        }
+
+        void hedge() {
+            if (result.isDone()) {
+                return;
+            }
+            // the hedged request is sent on a connector worker thread, since sending a request can block the shared
+            // scheduler thread which only fires the hedge timer
+            NativeClientAdaptor.executeAsync(() -> {
+                if (!result.isDone() && hasNext() && tryAcquireHedgeToken()) {
+                    next();
+                }
+                return CompletableFuture.completedFuture(null);
+            });
+        }
+
+        void next() {
+            RegionalClient regionalClient;
+            synchronized (this) {
+                if (nextCandidate >= candidates.size()) {
+                    return;
+                }
+                regionalClient = candidates.get(nextCandidate++);
+                inFlight++;
+            }
+            long startTime = System.nanoTime();
+            CompletableFuture<T> response;
+            try {
+                response = request.apply(regionalClient);
+            } catch (RuntimeException e) {
+                response = CompletableFuture.failedFuture(e);
+            }
+            synchronized (this) {
+                responses.add(response);
+            }
+            // the client request could have completed while this request was being sent
+            if (result.isDone()) {
+                response.cancel(true);
+            }
+            response.whenComplete((value, error) -> onComplete(regionalClient, startTime, value, error));
+        }
+
+        synchronized void cancelAll() {
+            for (CompletableFuture<T> response : responses) {
+                response.cancel(true);
+            }
+        }
+
+        private void onComplete(RegionalClient regionalClient, long startTime, T value, Throwable error) {
+            long now = System.nanoTime();
+            if (Objects.isNull(error)) {
+                regionalClient.onSuccess(now - startTime, latencySmoothing);
+                if (result.complete(value)) {
+                    // the requests still in flight in the other regions are no longer needed
+                    cancelAll();
+                }
+                return;
+            }
+            Throwable cause = CommonUtils.unwrap(error);
+            if (result.isDone()) {
+                // the request is cancelled, or another region has already responded
+                return;
+            }
+            boolean regional = isRegionalFailure(cause);
+            if (regional) {
+                regionalClient.onFailure(now + failureCooldownInNanos);
+            }
+            // a secret which is not found in a replica region may not be replicated to it, hence the request is sent
+            // to the next region, whereas a secret which is not found in the primary region does not exist
+            boolean notReplicated = isNotFound(cause) && regionalClient != regionalClients.get(0);
+            boolean failover;
+            Throwable reportedFailure = null;
+            synchronized (this) {
+                inFlight--;
+                // the failure of a request which is not specific to a region is preferred, as it is the actual
+                // result of the request
+                if (Objects.isNull(failure) || (regionalFailure && !regional && !notReplicated)) {
+                    failure = cause;
+                    regionalFailure = regional || notReplicated;
+                }
+                failover = (regional || notReplicated) && nextCandidate < candidates.size();
+                // a failure is reported only after the other in-flight requests have also failed
+                if (!failover && inFlight == 0) {
+                    reportedFailure = failure;
+                }
+            }
+            if (failover) {
+                next();
+            } else if (Objects.nonNull(reportedFailure)) {
+                result.completeExceptionally(reportedFailure);
+            }
+        }
+    }
+
+    private record RegionRank(RegionalClient regionalClient, boolean healthy, double latencyInNanos) {
+    }
+
+    /**
+     * {@code RegionalClient} holds the native client and the observed health of a single region.
+     */
+    public static final class RegionalClient {
+        private final String region;
+        private final NativeClient nativeClient;
+        private double latencyInNanos = 0;
+        private long unhealthyUntil;
+        private boolean unhealthy = false;
+
+        /**
+         * Creates a {@code RegionalClient}.
+         *
+         * @param region       The AWS region of the client.
+         * @param nativeClient The native client of the region.
+         */
+        public RegionalClient(String region, NativeClient nativeClient) {
+            this.region = region;
+            this.nativeClient = nativeClient;
+        }
+
+        String region() {
+            return region;
+        }
+
+        NativeClient nativeClient() {
+            return nativeClient;
+        }
+
+        synchronized double latencyInNanos() {
+            return latencyInNanos;
+        }
+
+        synchronized boolean isHealthy(long now) {
+            return !unhealthy || now - unhealthyUntil >= 0;
+        }
+
+        synchronized void onSuccess(long latency, double smoothing) {
+            latencyInNanos = latencyInNanos == 0 ? latency : smoothing * latency + (1 - smoothing) * latencyInNanos;
+            unhealthy = false;
+        }
+
+        synchronized void onFailure(long until) {
+            unhealthy = true;
+            unhealthyUntil = until;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretRequest;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretResponse;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code NativeClient} represents the AWS Secret Manager operations used by the Ballerina connector, independent of
+ * whether they are executed with the synchronous or the asynchronous AWS SDK client.
+ */
+public interface NativeClient extends AutoCloseable {
+
+    CompletableFuture<DescribeSecretResponse> describeSecret(DescribeSecretRequest request);
+
+    CompletableFuture<GetSecretValueResponse> getSecretValue(GetSecretValueRequest request);
+
+    CompletableFuture<BatchGetSecretValueResponse> batchGetSecretValue(BatchGetSecretValueRequest request);
+
+    /**
+     * Sends a `DescribeSecret` request with the AWS SDK client only to open a pooled connection. The decorators pass
+     * the request on to the client they wrap, hence it is not subject to the client-side retry policy, rate limiter,
+     * hedging, batching and metrics, which apply to the client requests.
+     *
+     * @param request The `DescribeSecret` request, which is expected to fail for a secret which does not exist.
+     * @return A future which is completed with the response of the service.
+     */
+    default CompletableFuture<DescribeSecretResponse> openConnection(DescribeSecretRequest request) {
+        return describeSecret(request);
+    }
+
+    @Override
+    void close();
+}
@@ -19,16 +19,15 @@
 package io.ballerina.lib.aws.secretmanager;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BRefValue;
 import io.ballerina.runtime.api.values.BString;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.AwsCredentials;
-import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
-import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
-import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+import io.ballerina.runtime.api.values.BTypedesc;
 import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
 import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
 import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretRequest;
@@ -36,54 +35,166 @@ import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretRespon
 import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
 import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Representation of {@link software.amazon.awssdk.services.secretsmanager.SecretsManagerClient} with
  * utility methods to invoke as inter-op functions.
+ * <p>
+ * The requests are executed through a {@link NativeClient} and the calling strand waits for the returned future
+ * within {@code env.yieldAndRun}. With the asynchronous client, the waiting strand does not hold a carrier thread,
+ * hence the number of threads stays the same regardless of the number of concurrent requests.
  */
 public class NativeClientAdaptor {
-    private static final ExecutorService EXECUTOR_SERVICE = Executors.newCachedThreadPool(
-            new AwsSecretMngThreadFactory());
+    // the tasks mostly wait, such as for a slot in the request queue of a blocking native client, hence each task runs
+    // on a virtual thread so that the waiting tasks do not hold platform threads, and no idle thread is retained once
+    // the clients are closed
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("balx-awssecretmng-client-worker-thread-", 1).factory());
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            new AwsSecretMngThreadFactory("balx-awssecretmng-client-scheduler-thread", true));
 
     private NativeClientAdaptor() {
     }
 
+    /**
+     * Executes the provided native request on a connector worker thread, so that the calling thread is not blocked
+     * while the request is submitted, which could wait for a slot in the request queue of the blocking native client.
+     *
+     * @param request The function which executes the native request.
+     * @param <T>     The type of the native response.
+     * @return A future which is completed with the native response.
+     */
+    static <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> request) {
+        return CompletableFuture.supplyAsync(request, EXECUTOR_SERVICE).thenCompose(Function.identity());
+    }
+
+    /**
+     * Executes the provided native request on a connector worker thread after the provided delay, without blocking
+     * any thread during the delay.
+     *
+     * @param request      The function which executes the native request.
+     * @param delayInNanos The delay (in nanoseconds) before executing the request.
+     * @param <T>          The type of the native response.
+     * @return A future which is completed with the native response.
+     */
+    static <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> request, long delayInNanos) {
+        Executor delayedExecutor = CompletableFuture.delayedExecutor(
+                delayInNanos, TimeUnit.NANOSECONDS, EXECUTOR_SERVICE);
+        return CompletableFuture.supplyAsync(request, delayedExecutor).thenCompose(Function.identity());
+    }
+
+    /**
+     * Schedules the provided background task on the connector scheduler thread. The task should not block, as the
+     * scheduler thread is shared by all the clients.
+     *
+     * @param task         The background task.
+     * @param delayInNanos The delay (in nanoseconds) before executing the task.
+     * @return The scheduled task, which can be used to cancel it.
+     */
+    static ScheduledFuture<?> schedule(Runnable task, long delayInNanos) {
+        return SCHEDULER.schedule(task, delayInNanos, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Creates an AWS Secret Manager native client with the provided configurations.
      *
+     * @param env                 The Ballerina runtime environment.
      * @param bAwsSecretMngClient The Ballerina AWS Secret Manager client object.
      * @param configurations      AWS Secret Manager client connection configurations.
      * @return A Ballerina `secretmanager:Error` if failed to initialize the native client with the provided
      * configurations.
      */
-    public static Object init(BObject bAwsSecretMngClient, BMap<BString, Object> configurations) {
+    public static Object init(Environment env, BObject bAwsSecretMngClient, BMap<BString, Object> configurations) {
+        ConnectionConfig connectionConfig;
+        NativeClient nativeClient;
         try {
-            ConnectionConfig connectionConfig = new ConnectionConfig(configurations);
-            AwsCredentialsProvider credentialsProvider = getCredentialsProvider(connectionConfig.auth());
-            SecretsManagerClient nativeClient = SecretsManagerClient.builder()
-                    .credentialsProvider(credentialsProvider)
-                    .region(connectionConfig.region()).build();
+            connectionConfig = new ConnectionConfig(configurations);
+            nativeClient = NativeClientRegistry.acquire(connectionConfig);
+        } catch (Exception e) {
+            return createInitError(e);
+        }
+        try {
+            boolean clearBinaryBuffers = connectionConfig.clearBinaryBuffers();
             bAwsSecretMngClient.addNativeData(Constants.NATIVE_CLIENT, nativeClient);
+            bAwsSecretMngClient.addNativeData(Constants.NATIVE_CLEAR_BINARY_BUFFERS, clearBinaryBuffers);
+            bAwsSecretMngClient.addNativeData(Constants.NATIVE_DECODED_SECRET_CACHE, new DecodedSecretCache());
+            bAwsSecretMngClient.addNativeData(
+                    Constants.NATIVE_SECRET_REFRESHER, new SecretRefresher(nativeClient, clearBinaryBuffers));
+            if (connectionConfig.coalesceRequests()) {
+                bAwsSecretMngClient.addNativeData(Constants.NATIVE_SINGLE_FLIGHT, new SingleFlight());
+            }
+            SecretValueCache cache = null;
+            if (Objects.nonNull(connectionConfig.cache())) {
+                cache = new SecretValueCache(connectionConfig.cache(), clearBinaryBuffers);
+                bAwsSecretMngClient.addNativeData(Constants.NATIVE_SECRET_CACHE, cache);
+            }
+            if (Objects.nonNull(connectionConfig.warmUp())) {
+                SecretValueCache secretCache = cache;
+                return env.yieldAndRun(() -> warmUp(bAwsSecretMngClient, connectionConfig, nativeClient, secretCache));
+            }
         } catch (Exception e) {
-            String errorMsg = String.format("Error occurred while initializing the AWS secret manager client: %s",
-                    e.getMessage());
-            return CommonUtils.createError(errorMsg, e);
+            // the client is not usable, hence the shared native client is released
+            nativeClient.close();
+            return createInitError(e);
         }
         return null;
     }
 
-    private static AwsCredentialsProvider getCredentialsProvider(AuthConfig auth) {
-        if (auth instanceof StaticAuthConfig staticAuth) {
-            AwsCredentials credentials = Objects.nonNull(staticAuth.sessionToken()) ?
-                    AwsSessionCredentials.create(
-                            staticAuth.accessKeyId(), staticAuth.secretAccessKey(), staticAuth.sessionToken()) :
-                    AwsBasicCredentials.create(staticAuth.accessKeyId(), staticAuth.secretAccessKey());
-            return StaticCredentialsProvider.create(credentials);
+    private static Object createInitError(Exception e) {
+        String errorMsg = String.format("Error occurred while initializing the AWS secret manager client: %s",
+                e.getMessage());
+        return CommonUtils.createError(errorMsg, e);
+    }
+
+    private static Object warmUp(BObject bAwsSecretMngClient, ConnectionConfig connectionConfig,
+                                 NativeClient nativeClient, SecretValueCache cache) {
+        Exception cause;
+        try {
+            WarmUpConfig warmUpConfig = connectionConfig.warmUp();
+            ClientWarmUp.Report report = ClientWarmUp.run(warmUpConfig, connectionConfig, nativeClient, cache);
+            BMap<BString, Object> warmUpReport = ResponseMapper.getWarmUpReport(report);
+            warmUpReport.freezeDirect();
+            bAwsSecretMngClient.addNativeData(Constants.NATIVE_WARM_UP_REPORT, warmUpReport);
+            if (!warmUpConfig.failOnError() || report.errors().isEmpty()) {
+                return null;
+            }
+            cause = new IllegalStateException(String.join(", ", report.errors()));
+        } catch (Exception e) {
+            cause = e;
         }
-        return DefaultCredentialsProvider.create();
+        // the client is not usable, hence the shared native client is released
+        nativeClient.close();
+        String errorMsg = String.format("Error occurred while warming up the AWS secret manager client: %s",
+                cause.getMessage());
+        return CommonUtils.createError(errorMsg, cause);
+    }
+
+    /**
+     * Retrieves the report of the warm-up performed when the client was initialized.
+     *
+     * @param bAwsSecretMngClient The Ballerina AWS Secret Manager client object.
+     * @return The read-only Ballerina `secretmanager:WarmUpReport`, or {@code null} if the warm-up is not configured.
+     */
+    public static Object getWarmUpReport(BObject bAwsSecretMngClient) {
+        return bAwsSecretMngClient.getNativeData(Constants.NATIVE_WARM_UP_REPORT);
+    }
+
+    static boolean isClearBinaryBuffers(BObject bAwsSecretMngClient) {
+        return (boolean) bAwsSecretMngClient.getNativeData(Constants.NATIVE_CLEAR_BINARY_BUFFERS);
     }
 
     /**
@@ -97,22 +208,68 @@ public class NativeClientAdaptor {
      * Secret Manager `secretmanager:DescribeSecretResponse`.
      */
     public static Object describeSecret(Environment env, BObject bAwsSecretMngClient, BString secretId) {
-        SecretsManagerClient nativeClient = (SecretsManagerClient) bAwsSecretMngClient
-                .getNativeData(Constants.NATIVE_CLIENT);
+        NativeClient nativeClient = (NativeClient) bAwsSecretMngClient.getNativeData(Constants.NATIVE_CLIENT);
         DescribeSecretRequest describeSecretRequest = DescribeSecretRequest.builder().secretId(secretId.getValue())
                 .build();
+        ConnectorMetrics.addSpanTags(env, Constants.DESCRIBE_SECRET_OPERATION, secretId.getValue());
+        SingleFlight singleFlight = (SingleFlight) bAwsSecretMngClient.getNativeData(Constants.NATIVE_SINGLE_FLIGHT);
         return env.yieldAndRun(() -> {
-            try {
-                DescribeSecretResponse describeSecretResponse = nativeClient.describeSecret(describeSecretRequest);
-                return CommonUtils.getDescribeSecretResponse(describeSecretResponse);
-            } catch (Exception e) {
-                String errorMsg = String.format("Error occurred while executing describe-secret request: %s",
-                        e.getMessage());
-                return CommonUtils.createError(errorMsg, e);
+            if (Objects.nonNull(singleFlight)) {
+                return singleFlight.execute(describeSecretRequest,
+                        () -> executeDescribeSecret(nativeClient, describeSecretRequest));
             }
+            return executeDescribeSecret(nativeClient, describeSecretRequest);
         });
     }
 
+    private static Object executeDescribeSecret(NativeClient nativeClient,
+                                                DescribeSecretRequest describeSecretRequest) {
+        return executeDescribeSecret(nativeClient, describeSecretRequest, ResponseMapper::getDescribeSecretResponse);
+    }
+
+    /**
+     * Retrieves the selected details of a secret. Only the requested fields are converted to Ballerina values.
+     *
+     * @param env                 The Ballerina runtime environment.
+     * @param bAwsSecretMngClient The Ballerina AWS Secret Manager client object.
+     * @param secretId            The ARN or name of the secret.
+     * @param fields              The fields of the secret details to retrieve.
+     * @return A Ballerina `secretmanager:Error` if there was an error while processing the request or else the AWS
+     * Secret Manager `secretmanager:DescribeSecretProjection`.
+     */
+    public static Object describeSecretProjection(Environment env, BObject bAwsSecretMngClient, BString secretId,
+                                                  BArray fields) {
+        NativeClient nativeClient = (NativeClient) bAwsSecretMngClient.getNativeData(Constants.NATIVE_CLIENT);
+        DescribeSecretRequest describeSecretRequest = DescribeSecretRequest.builder().secretId(secretId.getValue())
+                .build();
+        Set<DescribeSecretField> requestedFields = DescribeSecretField.fromFieldNames(fields);
+        ConnectorMetrics.addSpanTags(env, Constants.DESCRIBE_SECRET_OPERATION, secretId.getValue());
+        SingleFlight singleFlight = (SingleFlight) bAwsSecretMngClient.getNativeData(Constants.NATIVE_SINGLE_FLIGHT);
+        Function<DescribeSecretResponse, Object> mapper =
+                response -> ResponseMapper.getDescribeSecretProjection(response, requestedFields);
+        return env.yieldAndRun(() -> {
+            if (Objects.nonNull(singleFlight)) {
+                // the result depends on the requested fields, hence only the identical projections are coalesced
+                return singleFlight.execute(List.of(describeSecretRequest, requestedFields),
+                        () -> executeDescribeSecret(nativeClient, describeSecretRequest, mapper));
+            }
+            return executeDescribeSecret(nativeClient, describeSecretRequest, mapper);
+        });
+    }
+
+    private static Object executeDescribeSecret(NativeClient nativeClient, DescribeSecretRequest describeSecretRequest,
+                                                Function<DescribeSecretResponse, Object> mapper) {
+        try {
+            DescribeSecretResponse describeSecretResponse = nativeClient.describeSecret(describeSecretRequest).join();
+            return mapper.apply(describeSecretResponse);
+        } catch (Exception e) {
+            Throwable cause = CommonUtils.unwrap(e);
+            String errorMsg = String.format("Error occurred while executing describe-secret request: %s",
+                    cause.getMessage());
+            return CommonUtils.createError(errorMsg, cause);
+        }
+    }
+
     /**
      * Retrieves the contents of the encrypted fields from the specified version of a secret.
      *
@@ -125,22 +282,115 @@ public class NativeClientAdaptor {
      */
     public static Object getSecretValue(Environment env, BObject bAwsSecretMngClient, BString secretId,
                                         BMap<BString, Object> versionSelector) {
-        SecretsManagerClient nativeClient = (SecretsManagerClient) bAwsSecretMngClient
-                .getNativeData(Constants.NATIVE_CLIENT);
+        NativeClient nativeClient = (NativeClient) bAwsSecretMngClient.getNativeData(Constants.NATIVE_CLIENT);
+        ConnectorMetrics.addSpanTags(env, Constants.GET_SECRET_VALUE_OPERATION, secretId.getValue());
+        SecretRefresher refresher = (SecretRefresher) bAwsSecretMngClient.getNativeData(
+                Constants.NATIVE_SECRET_REFRESHER);
+        if (SecretRefresher.isCurrentVersion(versionSelector)) {
+            // watched secrets are served from memory without yielding the strand
+            BMap<BString, Object> watchedSecretValue = refresher.getSecretValue(secretId.getValue());
+            if (Objects.nonNull(watchedSecretValue)) {
+                return watchedSecretValue;
+            }
+        }
+        SecretValueCache cache = (SecretValueCache) bAwsSecretMngClient.getNativeData(Constants.NATIVE_SECRET_CACHE);
+        SingleFlight singleFlight = (SingleFlight) bAwsSecretMngClient.getNativeData(Constants.NATIVE_SINGLE_FLIGHT);
+        boolean clearBinaryBuffers = isClearBinaryBuffers(bAwsSecretMngClient);
         GetSecretValueRequest getSecretValueRequest = CommonUtils.toNativeGetSecretValueRequest(
                 secretId, versionSelector);
         return env.yieldAndRun(() -> {
-            try {
-                GetSecretValueResponse getSecretValueResponse = nativeClient.getSecretValue(getSecretValueRequest);
-                return CommonUtils.getSecretValueResponse(getSecretValueResponse);
-            } catch (Exception e) {
-                String errorMsg = String.format("Error occurred while executing get-secret-value request: %s",
-                        e.getMessage());
-                return CommonUtils.createError(errorMsg, e);
+            if (Objects.nonNull(singleFlight)) {
+                return singleFlight.execute(getSecretValueRequest, () -> executeGetSecretValue(
+                        nativeClient, cache, clearBinaryBuffers, secretId, versionSelector, getSecretValueRequest));
             }
+            return executeGetSecretValue(
+                    nativeClient, cache, clearBinaryBuffers, secretId, versionSelector, getSecretValueRequest);
         });
     }
 
+    private static Object executeGetSecretValue(NativeClient nativeClient, SecretValueCache cache,
+                                                boolean clearBinaryBuffers, BString secretId,
+                                                BMap<BString, Object> versionSelector,
+                                                GetSecretValueRequest getSecretValueRequest) {
+        try {
+            if (Objects.nonNull(cache)) {
+                DescribeSecretRequest describeSecretRequest = DescribeSecretRequest.builder()
+                        .secretId(secretId.getValue()).build();
+                return cache.get(new SecretValueCache.CacheKey(secretId, versionSelector),
+                        () -> nativeClient.getSecretValue(getSecretValueRequest).join(),
+                        () -> nativeClient.describeSecret(describeSecretRequest).join());
+            }
+            GetSecretValueResponse getSecretValueResponse = nativeClient.getSecretValue(getSecretValueRequest).join();
+            return ResponseMapper.getSecretValueResponse(getSecretValueResponse, clearBinaryBuffers);
+        } catch (Exception e) {
+            Throwable cause = CommonUtils.unwrap(e);
+            String errorMsg = String.format("Error occurred while executing get-secret-value request: %s",
+                    cause.getMessage());
+            return CommonUtils.createError(errorMsg, cause);
+        }
+    }
+
+    /**
+     * Retrieves a JSON secret and converts its `secretString`, or the value at the provided key path within it, to the
+     * provided type. The decoded values are cached by the secret version, hence a secret version is parsed and
+     * converted only once for each key path and type.
+     *
+     * @param env                 The Ballerina runtime environment.
+     * @param bAwsSecretMngClient The Ballerina AWS Secret Manager client object.
+     * @param secretId            The ARN or name of the secret.
+     * @param path                The `.` separated key path of the value to decode, or {@code null} to decode the
+     *                            whole secret value.
+     * @param versionSelector     The Ballerina AWS Secret Manager `SecretVersionSelector`.
+     * @param targetType          The type to which the decoded value is converted.
+     * @return A Ballerina `secretmanager:Error` if there was an error while processing the request or decoding the
+     * secret value, or else the read-only decoded value.
+     */
+    public static Object getSecretValueAs(Environment env, BObject bAwsSecretMngClient, BString secretId, Object path,
+                                          BMap<BString, Object> versionSelector, BTypedesc targetType) {
+        // a function with an inferred `typedesc` parameter must be external, hence the request is validated by
+        // calling back into the `validateSecretValueRequest` method of the client
+        Object validationError = env.yieldAndRun(() -> env.getRuntime().callMethod(bAwsSecretMngClient,
+                Constants.VALIDATE_SECRET_VALUE_REQUEST_METHOD, null, secretId, versionSelector));
+        if (validationError instanceof BError) {
+            return validationError;
+        }
+        Object secretValue = getSecretValue(env, bAwsSecretMngClient, secretId, versionSelector);
+        if (secretValue instanceof BError) {
+            return secretValue;
+        }
+        @SuppressWarnings("unchecked")
+        BMap<BString, Object> secretValueRecord = (BMap<BString, Object>) secretValue;
+        if (!(secretValueRecord.get(Constants.SECRET_MNG_SECRET_VALUE_VALUE) instanceof BString secretString)) {
+            return CommonUtils.createError("Error occurred while decoding the secret value: the secret value is binary",
+                    new IllegalArgumentException("A binary secret value cannot be decoded as JSON"));
+        }
+        String keyPath = path instanceof BString bPath ? bPath.getValue() : null;
+        DecodedSecretCache decodedSecrets = (DecodedSecretCache) bAwsSecretMngClient.getNativeData(
+                Constants.NATIVE_DECODED_SECRET_CACHE);
+        DecodedSecretCache.DecodedKey key = new DecodedSecretCache.DecodedKey(
+                secretValueRecord.getStringValue(Constants.SECRET_MNG_SECRET_VALUE_ARN).getValue(),
+                secretValueRecord.getStringValue(Constants.SECRET_MNG_SECRET_VALUE_VERSION_ID).getValue(),
+                keyPath, targetType.getDescribingType());
+        Object decoded = decodedSecrets.get(key);
+        if (Objects.nonNull(decoded)) {
+            return decoded;
+        }
+        try {
+            decoded = ValueUtils.convert(JsonSecretDecoder.decode(secretString.getValue(), keyPath),
+                    targetType.getDescribingType());
+        } catch (Exception e) {
+            String errorMsg = String.format("Error occurred while decoding the secret value: %s", e.getMessage());
+            return CommonUtils.createError(errorMsg, e);
+        }
+        if (decoded instanceof BRefValue refValue) {
+            refValue.freezeDirect();
+        }
+        if (Objects.nonNull(decoded)) {
+            decodedSecrets.put(key, decoded);
+        }
+        return decoded;
+    }
+
     /**
      * Retrieves the contents of the encrypted fields for up to 20 secrets.
      *
@@ -152,22 +402,105 @@ public class NativeClientAdaptor {
      */
     public static Object batchGetSecretValue(Environment env, BObject bAwsSecretMngClient,
                                              BMap<BString, Object> request) {
-        SecretsManagerClient nativeClient = (SecretsManagerClient) bAwsSecretMngClient
-                .getNativeData(Constants.NATIVE_CLIENT);
+        NativeClient nativeClient = (NativeClient) bAwsSecretMngClient.getNativeData(Constants.NATIVE_CLIENT);
         BatchGetSecretValueRequest batchGetSecretValueRequest = CommonUtils.toNativeBatchGetSecretValueRequest(request);
+        boolean clearBinaryBuffers = isClearBinaryBuffers(bAwsSecretMngClient);
+        ConnectorMetrics.addSpanTags(env, Constants.BATCH_GET_SECRET_VALUE_OPERATION, null);
         return env.yieldAndRun(() -> {
             try {
                 BatchGetSecretValueResponse getSecretValueResponse = nativeClient
-                        .batchGetSecretValue(batchGetSecretValueRequest);
-                return CommonUtils.getBatchGetSecretValueResponse(getSecretValueResponse);
+                        .batchGetSecretValue(batchGetSecretValueRequest).join();
+                return ResponseMapper.getBatchGetSecretValueResponse(getSecretValueResponse, clearBinaryBuffers);
             } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
                 String errorMsg = String.format("Error occurred while executing batch-get-secret-value request: %s",
-                        e.getMessage());
-                return CommonUtils.createError(errorMsg, e);
+                        cause.getMessage());
+                return CommonUtils.createError(errorMsg, cause);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the contents of the encrypted fields for any number of secrets. The secret IDs are split into
+     * batch-get-secret-value requests of up to 20 secrets, which are executed concurrently.
+     *
+     * @param env                 The Ballerina runtime environment.
+     * @param bAwsSecretMngClient The Ballerina AWS Secret Manager client object.
+     * @param secretIds           The ARNs or names of the secrets.
+     * @param maxConcurrency      The maximum number of batch-get-secret-value requests executed concurrently.
+     * @param maxRetries          The maximum number of retries for the secrets which failed with a transient error.
+     * @return A Ballerina `secretmanager:Error` if there was an error while processing the request or else a map of
+     * `secretmanager:SecretValue` or `secretmanager:ApiError` keyed by the secret ID.
+     */
+    public static Object getSecretValues(Environment env, BObject bAwsSecretMngClient, BArray secretIds,
+                                         long maxConcurrency, long maxRetries) {
+        NativeClient nativeClient = (NativeClient) bAwsSecretMngClient.getNativeData(Constants.NATIVE_CLIENT);
+        List<String> nativeSecretIds = toNativeSecretIds(secretIds);
+        BulkSecretValueRetriever retriever = new BulkSecretValueRetriever(
+                nativeClient, CommonUtils.toSaturatedInt(maxConcurrency), CommonUtils.toSaturatedInt(maxRetries),
+                isClearBinaryBuffers(bAwsSecretMngClient));
+        return env.yieldAndRun(() -> {
+            try {
+                Map<String, Object> results = retriever.retrieve(nativeSecretIds).join();
+                return ResponseMapper.getSecretValues(nativeSecretIds, results);
+            } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
+                String errorMsg = String.format("Error occurred while executing get-secret-values request: %s",
+                        cause.getMessage());
+                return CommonUtils.createError(errorMsg, cause);
             }
         });
     }
 
+    /**
+     * Starts watching the provided secrets. The current versions of the secrets are loaded before returning, and then
+     * refreshed in the background at the provided interval. The get-secret-value requests for the current version of
+     * a watched secret are served from memory.
+     *
+     * @param env                 The Ballerina runtime environment.
+     * @param bAwsSecretMngClient The Ballerina AWS Secret Manager client object.
+     * @param secretIds           The ARNs or names of the secrets.
+     * @param refreshInterval     The interval in seconds at which the secrets are refreshed.
+     * @return A Ballerina `secretmanager:Error` if there was an error while loading the secrets.
+     */
+    public static Object watchSecrets(Environment env, BObject bAwsSecretMngClient, BArray secretIds,
+                                      BDecimal refreshInterval) {
+        SecretRefresher refresher = (SecretRefresher) bAwsSecretMngClient.getNativeData(
+                Constants.NATIVE_SECRET_REFRESHER);
+        List<String> nativeSecretIds = toNativeSecretIds(secretIds);
+        return env.yieldAndRun(() -> {
+            try {
+                refresher.watch(nativeSecretIds, CommonUtils.toDuration(refreshInterval)).join();
+                return null;
+            } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
+                String errorMsg = String.format("Error occurred while loading the watched secrets: %s",
+                        cause.getMessage());
+                return CommonUtils.createError(errorMsg, cause);
+            }
+        });
+    }
+
+    /**
+     * Stops watching the provided secrets.
+     *
+     * @param bAwsSecretMngClient The Ballerina AWS Secret Manager client object.
+     * @param secretIds           The ARNs or names of the secrets.
+     */
+    public static void unwatchSecrets(BObject bAwsSecretMngClient, BArray secretIds) {
+        SecretRefresher refresher = (SecretRefresher) bAwsSecretMngClient.getNativeData(
+                Constants.NATIVE_SECRET_REFRESHER);
+        refresher.unwatch(toNativeSecretIds(secretIds));
+    }
+
+    private static List<String> toNativeSecretIds(BArray secretIds) {
+        List<String> nativeSecretIds = new ArrayList<>(secretIds.size());
+        for (int i = 0; i < secretIds.size(); i++) {
+            nativeSecretIds.add(((BString) secretIds.get(i)).getValue());
+        }
+        return nativeSecretIds;
+    }
+
     /**
      * Closes the AWS Secret Manager client native resources.
      *
@@ -175,9 +508,15 @@ public class NativeClientAdaptor {
      * @return A Ballerina `secretmanager:Error` if failed to close the underlying resources.
      */
     public static Object close(BObject bAwsSecretMngClient) {
-        SecretsManagerClient nativeClient = (SecretsManagerClient) bAwsSecretMngClient
-                .getNativeData(Constants.NATIVE_CLIENT);
+        NativeClient nativeClient = (NativeClient) bAwsSecretMngClient.getNativeData(Constants.NATIVE_CLIENT);
+        SecretValueCache cache = (SecretValueCache) bAwsSecretMngClient.getNativeData(Constants.NATIVE_SECRET_CACHE);
+        SecretRefresher refresher = (SecretRefresher) bAwsSecretMngClient.getNativeData(
+                Constants.NATIVE_SECRET_REFRESHER);
         try {
+            refresher.close();
+            if (Objects.nonNull(cache)) {
+                cache.invalidateAll();
+            }
             nativeClient.close();
         } catch (Exception e) {
             String errorMsg = String.format("Error occurred while closing the AWS secret manager client: %s",
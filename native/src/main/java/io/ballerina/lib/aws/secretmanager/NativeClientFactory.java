@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerAsyncClient;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerAsyncClientBuilder;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClientBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@code NativeClientFactory} creates the {@link NativeClient} for the provided AWS Secret Manager client
+ * configurations.
+ */
+public final class NativeClientFactory {
+
+    private NativeClientFactory() {
+    }
+
+    public static NativeClient createClient(ConnectionConfig connectionConfig,
+                                            AwsCredentialsProvider credentialsProvider) {
+        NativeClient nativeClient;
+        MultiRegionConfig multiRegion = connectionConfig.multiRegion();
+        if (Objects.nonNull(multiRegion)) {
+            // each region has its own retry policy, rate limiter and metrics, hence a request is sent to the next
+            // region only after it has failed in a region
+            List<MultiRegionNativeClient.RegionalClient> regionalClients = new ArrayList<>();
+            for (Region region : getRegions(connectionConfig.region(), multiRegion)) {
+                regionalClients.add(new MultiRegionNativeClient.RegionalClient(region.id(),
+                        createRegionalClient(connectionConfig, region, credentialsProvider)));
+            }
+            nativeClient = new MultiRegionNativeClient(regionalClients, multiRegion);
+        } else {
+            nativeClient = createRegionalClient(connectionConfig, connectionConfig.region(), credentialsProvider);
+        }
+        if (Objects.nonNull(connectionConfig.autoBatch())) {
+            // the batches are sent through the inner clients, hence each batch is a single request for the
+            // metrics, the retry policy and the rate limiter
+            nativeClient = new BatchingNativeClient(nativeClient, connectionConfig.autoBatch());
+        }
+        if (Objects.nonNull(connectionConfig.snapshot())) {
+            // the snapshot is the outermost decorator, hence the snapshot values are served without waiting for a
+            // batch window, a rate limiter or a retry
+            nativeClient = new SnapshotNativeClient(nativeClient, connectionConfig.snapshot());
+        }
+        return nativeClient;
+    }
+
+    private static List<Region> getRegions(Region primaryRegion, MultiRegionConfig multiRegion) {
+        List<Region> regions = new ArrayList<>();
+        regions.add(primaryRegion);
+        for (Region replicaRegion : multiRegion.replicaRegions()) {
+            if (!regions.contains(replicaRegion)) {
+                regions.add(replicaRegion);
+            }
+        }
+        return regions;
+    }
+
+    private static NativeClient createRegionalClient(ConnectionConfig connectionConfig, Region region,
+                                                     AwsCredentialsProvider credentialsProvider) {
+        NativeClient nativeClient = createNativeClient(connectionConfig, region, credentialsProvider);
+        if (Objects.nonNull(connectionConfig.hedging())) {
+            // the hedging wraps the native client directly, so that the losing requests can be cancelled, and each
+            // attempt of the retry policy is hedged independently
+            nativeClient = new HedgingNativeClient(nativeClient, connectionConfig.hedging(), region.id());
+        }
+        if (Objects.nonNull(connectionConfig.retry()) || Objects.nonNull(connectionConfig.rateLimit())) {
+            nativeClient = new RetryingNativeClient(nativeClient, connectionConfig.retry(),
+                    connectionConfig.rateLimit(), region.id());
+        }
+        if (ConnectorMetrics.isEnabled()) {
+            nativeClient = new InstrumentedNativeClient(nativeClient, region.id());
+        }
+        return nativeClient;
+    }
+
+    private static NativeClient createNativeClient(ConnectionConfig connectionConfig, Region region,
+                                                   AwsCredentialsProvider credentialsProvider) {
+        HttpClientConfig httpClientConfig = connectionConfig.httpClient();
+        ClientOverrideConfiguration overrideConfig = getOverrideConfiguration(connectionConfig, region);
+        if (connectionConfig.asyncClient()) {
+            SecretsManagerAsyncClientBuilder builder = SecretsManagerAsyncClient.builder()
+                    .httpClientBuilder(getAsyncHttpClientBuilder(httpClientConfig))
+                    .overrideConfiguration(overrideConfig)
+                    .credentialsProvider(credentialsProvider)
+                    .region(region);
+            if (Objects.nonNull(connectionConfig.endpointOverride())) {
+                builder.endpointOverride(connectionConfig.endpointOverride());
+            }
+            return new AsyncNativeClient(builder.build());
+        }
+        SecretsManagerClientBuilder builder = SecretsManagerClient.builder()
+                .httpClientBuilder(getHttpClientBuilder(httpClientConfig))
+                .overrideConfiguration(overrideConfig)
+                .credentialsProvider(credentialsProvider)
+                .region(region);
+        if (Objects.nonNull(connectionConfig.endpointOverride())) {
+            builder.endpointOverride(connectionConfig.endpointOverride());
+        }
+        return new SyncNativeClient(builder.build(),
+                new BlockingRequestExecutor(connectionConfig.executor(), region.id()));
+    }
+
+    private static ClientOverrideConfiguration getOverrideConfiguration(ConnectionConfig connectionConfig,
+                                                                        Region region) {
+        ClientOverrideConfiguration.Builder builder = ClientOverrideConfiguration.builder();
+        if (ConnectorMetrics.isEnabled()) {
+            // the AWS SDK collects the attempt-level metrics only if there is a metric publisher
+            builder.addMetricPublisher(new SdkMetricPublisher(region.id()));
+        }
+        if (Objects.nonNull(connectionConfig.retry()) || Objects.nonNull(connectionConfig.rateLimit())) {
+            // the requests are retried by the `RetryingNativeClient`, which charges each attempt to the rate limiter
+            builder.retryStrategy(AwsRetryStrategy.doNotRetry());
+        }
+        HttpClientConfig httpClientConfig = connectionConfig.httpClient();
+        if (Objects.isNull(httpClientConfig)) {
+            return builder.build();
+        }
+        if (Objects.nonNull(httpClientConfig.apiCallAttemptTimeout())) {
+            builder.apiCallAttemptTimeout(httpClientConfig.apiCallAttemptTimeout());
+        }
+        if (Objects.nonNull(httpClientConfig.apiCallTimeout())) {
+            builder.apiCallTimeout(httpClientConfig.apiCallTimeout());
+        }
+        return builder.build();
+    }
+
+    private static ApacheHttpClient.Builder getHttpClientBuilder(HttpClientConfig httpClientConfig) {
+        ApacheHttpClient.Builder builder = ApacheHttpClient.builder();
+        if (Objects.isNull(httpClientConfig)) {
+            return builder;
+        }
+        if (Objects.nonNull(httpClientConfig.maxConnections())) {
+            builder.maxConnections(httpClientConfig.maxConnections());
+        }
+        if (Objects.nonNull(httpClientConfig.connectionTimeout())) {
+            builder.connectionTimeout(httpClientConfig.connectionTimeout());
+        }
+        if (Objects.nonNull(httpClientConfig.socketTimeout())) {
+            builder.socketTimeout(httpClientConfig.socketTimeout());
+        }
+        if (Objects.nonNull(httpClientConfig.connectionTimeToLive())) {
+            builder.connectionTimeToLive(httpClientConfig.connectionTimeToLive());
+        }
+        if (Objects.nonNull(httpClientConfig.connectionMaxIdleTime())) {
+            builder.connectionMaxIdleTime(httpClientConfig.connectionMaxIdleTime());
+        }
+        if (Objects.nonNull(httpClientConfig.connectionAcquisitionTimeout())) {
+            builder.connectionAcquisitionTimeout(httpClientConfig.connectionAcquisitionTimeout());
+        }
+        if (Objects.nonNull(httpClientConfig.tcpKeepAlive())) {
+            builder.tcpKeepAlive(httpClientConfig.tcpKeepAlive());
+        }
+        return builder;
+    }
+
+    private static NettyNioAsyncHttpClient.Builder getAsyncHttpClientBuilder(HttpClientConfig httpClientConfig) {
+        NettyNioAsyncHttpClient.Builder builder = NettyNioAsyncHttpClient.builder();
+        if (Objects.isNull(httpClientConfig)) {
+            return builder;
+        }
+        if (Objects.nonNull(httpClientConfig.maxConnections())) {
+            builder.maxConcurrency(httpClientConfig.maxConnections());
+        }
+        if (Objects.nonNull(httpClientConfig.connectionTimeout())) {
+            builder.connectionTimeout(httpClientConfig.connectionTimeout());
+        }
+        if (Objects.nonNull(httpClientConfig.socketTimeout())) {
+            builder.readTimeout(httpClientConfig.socketTimeout());
+            builder.writeTimeout(httpClientConfig.socketTimeout());
+        }
+        if (Objects.nonNull(httpClientConfig.connectionTimeToLive())) {
+            builder.connectionTimeToLive(httpClientConfig.connectionTimeToLive());
+        }
+        if (Objects.nonNull(httpClientConfig.connectionMaxIdleTime())) {
+            builder.connectionMaxIdleTime(httpClientConfig.connectionMaxIdleTime());
+        }
+        if (Objects.nonNull(httpClientConfig.connectionAcquisitionTimeout())) {
+            builder.connectionAcquisitionTimeout(httpClientConfig.connectionAcquisitionTimeout());
+        }
+        if (Objects.nonNull(httpClientConfig.tcpKeepAlive())) {
+            builder.tcpKeepAlive(httpClientConfig.tcpKeepAlive());
+        }
+        return builder;
+    }
+}
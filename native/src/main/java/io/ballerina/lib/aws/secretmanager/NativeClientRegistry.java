@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretRequest;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretResponse;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code NativeClientRegistry} shares the {@link NativeClient} instances among the Ballerina AWS Secret Manager
+ * clients created with identical connection configurations, so that they share the same HTTP connection pool, TLS
+ * context and credentials provider.
+ * <p>
+ * The shared clients are reference counted and the underlying native client is closed only when the last Ballerina
+ * client using it is closed.
+ */
+public final class NativeClientRegistry {
+    private static final String CLIENT_CLOSED_ERROR = "The AWS secret manager client has already been closed";
+    private static final Map<ClientKey, SharedClient> CLIENTS = new HashMap<>();
+
+    private NativeClientRegistry() {
+    }
+
+    /**
+     * Retrieves a {@link NativeClient} for the provided connection configurations, creating the underlying native
+     * client if there is no client created with identical configurations.
+     *
+     * @param connectionConfig The AWS Secret Manager client connection configurations.
+     * @return A {@link NativeClient} which releases the shared native client when it is closed.
+     */
+    public static NativeClient acquire(ConnectionConfig connectionConfig) {
+        ClientKey key = new ClientKey(connectionConfig);
+        synchronized (CLIENTS) {
+            SharedClient sharedClient = CLIENTS.get(key);
+            if (Objects.isNull(sharedClient)) {
+                AwsCredentialsProvider credentialsProvider =
+                        CredentialsProviderRegistry.acquire(key.auth(), key.region());
+                try {
+                    sharedClient = new SharedClient(key,
+                            NativeClientFactory.createClient(connectionConfig, credentialsProvider));
+                } catch (RuntimeException e) {
+                    CredentialsProviderRegistry.release(key.auth(), key.region());
+                    throw e;
+                }
+                CLIENTS.put(key, sharedClient);
+            }
+            sharedClient.references++;
+            return new ClientReference(sharedClient);
+        }
+    }
+
+    private static void release(SharedClient sharedClient) {
+        synchronized (CLIENTS) {
+            sharedClient.references--;
+            if (sharedClient.references > 0) {
+                return;
+            }
+            CLIENTS.remove(sharedClient.key);
+        }
+        sharedClient.nativeClient.close();
+        CredentialsProviderRegistry.release(sharedClient.key.auth(), sharedClient.key.region());
+    }
+
+    /**
+     * {@code ClientKey} represents the configurations which identify a native client.
+     *
+     * @param region      The AWS region with which the native client communicates.
+     * @param auth        The authentication configurations of the native client.
+     * @param asyncClient Whether the native client is non-blocking.
+     * @param httpClient  The configurations of the underlying HTTP client.
+     * @param retry       The configurations of the client-side retry policy.
+     * @param rateLimit   The configurations of the client-side rate limiter.
+     * @param autoBatch   The configurations of the automatic request batching.
+     * @param snapshot    The configurations of the on-disk secret value snapshot.
+     * @param executor    The configurations of the executor of the blocking requests.
+     * @param endpoint    The endpoint override of the native client.
+     * @param multiRegion The configurations of the multi-region mode of the native client.
+     * @param hedging     The configurations of the hedging of the slow requests.
+     */
+    private record ClientKey(Region region, AuthConfig auth, boolean asyncClient, HttpClientConfig httpClient,
+                             RetryConfig retry, RateLimitConfig rateLimit, AutoBatchConfig autoBatch,
+                             SnapshotConfig snapshot, ExecutorConfig executor, URI endpoint,
+                             MultiRegionConfig multiRegion, HedgingConfig hedging) {
+
+        ClientKey(ConnectionConfig connectionConfig) {
+            this(connectionConfig.region(), connectionConfig.auth(), connectionConfig.asyncClient(),
+                    connectionConfig.httpClient(), connectionConfig.retry(), connectionConfig.rateLimit(),
+                    connectionConfig.autoBatch(), connectionConfig.snapshot(), connectionConfig.executor(),
+                    connectionConfig.endpointOverride(), connectionConfig.multiRegion(),
+                    connectionConfig.hedging());
+        }
+    }
+
+    private static final class SharedClient {
+        private final ClientKey key;
+        private final NativeClient nativeClient;
+        private int references = 0;
+
+        private SharedClient(ClientKey key, NativeClient nativeClient) {
+            this.key = key;
+            this.nativeClient = nativeClient;
+        }
+    }
+
+    private static final class ClientReference implements NativeClient {
+        private final SharedClient sharedClient;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        private ClientReference(SharedClient sharedClient) {
+            this.sharedClient = sharedClient;
+        }
+
+        @Override
+        public CompletableFuture<DescribeSecretResponse> describeSecret(DescribeSecretRequest request) {
+            if (closed.get()) {
+                return CompletableFuture.failedFuture(new IllegalStateException(CLIENT_CLOSED_ERROR));
+            }
+            return sharedClient.nativeClient.describeSecret(request);
+        }
+
+        @Override
+        public CompletableFuture<GetSecretValueResponse> getSecretValue(GetSecretValueRequest request) {
+            if (closed.get()) {
+                return CompletableFuture.failedFuture(new IllegalStateException(CLIENT_CLOSED_ERROR));
+            }
+            return sharedClient.nativeClient.getSecretValue(request);
+        }
+
+        @Override
+        public CompletableFuture<BatchGetSecretValueResponse> batchGetSecretValue(
+                BatchGetSecretValueRequest request) {
+            if (closed.get()) {
+                return CompletableFuture.failedFuture(new IllegalStateException(CLIENT_CLOSED_ERROR));
+            }
+            return sharedClient.nativeClient.batchGetSecretValue(request);
+        }
+
+        @Override
+        public CompletableFuture<DescribeSecretResponse> openConnection(DescribeSecretRequest request) {
+            if (closed.get()) {
+                return CompletableFuture.failedFuture(new IllegalStateException(CLIENT_CLOSED_ERROR));
+            }
+            return sharedClient.nativeClient.openConnection(request);
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(sharedClient);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.time.Duration;
+
+/**
+ * {@code RateLimitConfig} represents the configurations of the client-side rate limiter.
+ *
+ * @param describeSecretRate      The maximum number of `DescribeSecret` requests per second.
+ * @param getSecretValueRate      The maximum number of `GetSecretValue` requests per second.
+ * @param batchGetSecretValueRate The maximum number of `BatchGetSecretValue` requests per second.
+ * @param adaptive                Whether to reduce the request rate when the requests are throttled.
+ * @param maxWait                 The maximum time a request is delayed by the rate limiter.
+ */
+public record RateLimitConfig(double describeSecretRate, double getSecretValueRate, double batchGetSecretValueRate,
+                              boolean adaptive, Duration maxWait) {
+    private static final BString DESCRIBE_SECRET_RATE = StringUtils.fromString("describeSecretRate");
+    private static final BString GET_SECRET_VALUE_RATE = StringUtils.fromString("getSecretValueRate");
+    private static final BString BATCH_GET_SECRET_VALUE_RATE = StringUtils.fromString("batchGetSecretValueRate");
+    private static final BString ADAPTIVE = StringUtils.fromString("adaptive");
+    private static final BString MAX_WAIT = StringUtils.fromString("maxWait");
+
+    public RateLimitConfig {
+        if (describeSecretRate <= 0 || getSecretValueRate <= 0 || batchGetSecretValueRate <= 0) {
+            throw new IllegalArgumentException("The request rates of the rate limit configurations must be positive");
+        }
+        if (maxWait.isNegative() || maxWait.isZero()) {
+            throw new IllegalArgumentException("The `maxWait` of the rate limit configurations must be positive");
+        }
+    }
+
+    public RateLimitConfig(BMap<BString, Object> rateLimitConfig) {
+        this(
+                ((BDecimal) rateLimitConfig.get(DESCRIBE_SECRET_RATE)).floatValue(),
+                ((BDecimal) rateLimitConfig.get(GET_SECRET_VALUE_RATE)).floatValue(),
+                ((BDecimal) rateLimitConfig.get(BATCH_GET_SECRET_VALUE_RATE)).floatValue(),
+                rateLimitConfig.getBooleanValue(ADAPTIVE),
+                CommonUtils.toDuration((BDecimal) rateLimitConfig.get(MAX_WAIT))
+        );
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code RecordTypes} holds the types of the Ballerina records created by the connector.
+ * <p>
+ * The types are the record types declared in the connector module, which are resolved once from values created by
+ * name, so that the records created from them are of the declared types. The module is only known once it is
+ * initialized at run time, hence the types are kept apart from the conversion utilities, so that this is the only
+ * class which has to be initialized at run time in a GraalVM native image, and the types are resolved on the first
+ * conversion instead of when the utilities are loaded.
+ */
+final class RecordTypes {
+    static final RecordType ERROR_DETAILS_REC_TYPE = getRecordType(Constants.SECRET_MNG_ERROR_DETAILS);
+    static final RecordType DESC_SECRET_REC_TYPE = getRecordType(Constants.SECRET_MNG_DESC_SECRET_RECORD);
+    static final RecordType DESC_SECRET_PROJECTION_REC_TYPE = getRecordType(
+            Constants.SECRET_MNG_DESC_SECRET_PROJECTION_RECORD);
+    static final RecordType ROTATION_RULES_REC_TYPE = getRecordType(Constants.SECRET_MNG_ROTATION_RULES_RECORD);
+    static final RecordType BATCH_GET_SECRET_VALUE_RES_REC_TYPE = getRecordType(
+            Constants.SECRET_MNG_BATCH_GET_SECRET_VALUE_RES_RECORD);
+    static final RecordType REPLICATION_STATUS_REC_TYPE = getRecordType(
+            Constants.SECRET_MNG_REPLICATION_STATUS_RECORD);
+    static final ArrayType REPLICATION_STATUS_ARR_TYPE = TypeCreator.createArrayType(REPLICATION_STATUS_REC_TYPE);
+    static final RecordType TAG_REC_TYPE = getRecordType(Constants.SECRET_MNG_TAG_RECORD);
+    static final ArrayType TAG_ARR_TYPE = TypeCreator.createArrayType(TAG_REC_TYPE);
+    static final RecordType API_ERR_REC_TYPE = getRecordType(Constants.SECRET_MNG_API_ERR_RECORD);
+    static final ArrayType API_ERR_ARR_TYPE = TypeCreator.createArrayType(API_ERR_REC_TYPE);
+    static final RecordType SECRET_VALUE_REC_TYPE = getRecordType(Constants.SECRET_MNG_SECRET_VALUE_RECORD);
+    static final ArrayType SECRET_VALUE_ARR_TYPE = TypeCreator.createArrayType(SECRET_VALUE_REC_TYPE);
+    static final MapType SECRET_VALUE_OR_API_ERR_MAP_TYPE = TypeCreator.createMapType(
+            TypeCreator.createUnionType(SECRET_VALUE_REC_TYPE, API_ERR_REC_TYPE));
+    static final RecordType WARM_UP_REPORT_REC_TYPE = getRecordType(Constants.SECRET_MNG_WARM_UP_REPORT_RECORD);
+
+    private RecordTypes() {
+    }
+
+    private static RecordType getRecordType(String recordName) {
+        BMap<BString, Object> recordValue = ValueCreator.createRecordValue(ModuleUtils.getModule(), recordName);
+        return (RecordType) TypeUtils.getImpliedType(recordValue.getType());
+    }
+}
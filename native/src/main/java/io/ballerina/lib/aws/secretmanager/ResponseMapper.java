@@ -0,0 +1,433 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.time.nativeimpl.Utc;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.secretsmanager.model.APIErrorType;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretResponse;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.ReplicationStatusType;
+import software.amazon.awssdk.services.secretsmanager.model.RotationRulesType;
+import software.amazon.awssdk.services.secretsmanager.model.SecretValueEntry;
+import software.amazon.awssdk.services.secretsmanager.model.StatusType;
+import software.amazon.awssdk.services.secretsmanager.model.Tag;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code ResponseMapper} converts the AWS SDK responses to the Ballerina AWS Secret Manager records.
+ * <p>
+ * The record and array types are resolved once, the Ballerina arrays are created with their final size, and the
+ * values of the small fixed vocabularies in the responses (version stages, region IDs, replication statuses and owning
+ * services) are interned, hence a conversion only allocates the values which are specific to the response.
+ */
+public final class ResponseMapper {
+    // the interned values are bounded, as the version stages could also be custom labels
+    private static final int MAX_INTERNED_VALUES = 1024;
+    private static final Map<String, BString> INTERNED_VALUES = new ConcurrentHashMap<>();
+
+    static {
+        for (String versionStage : List.of(Constants.AWS_CURRENT_VERSION_STAGE, "AWSPENDING", "AWSPREVIOUS")) {
+            intern(versionStage);
+        }
+        for (Region region : Region.regions()) {
+            intern(region.id());
+        }
+        for (StatusType status : StatusType.knownValues()) {
+            intern(status.toString());
+        }
+    }
+
+    private ResponseMapper() {
+    }
+
+    private static BString intern(String value) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        BString interned = INTERNED_VALUES.get(value);
+        if (Objects.nonNull(interned)) {
+            return interned;
+        }
+        BString bValue = StringUtils.fromString(value);
+        if (INTERNED_VALUES.size() < MAX_INTERNED_VALUES) {
+            INTERNED_VALUES.putIfAbsent(value, bValue);
+        }
+        return bValue;
+    }
+
+    private static BArray internAll(List<String> values) {
+        int size = Objects.nonNull(values) ? values.size() : 0;
+        BString[] bValues = new BString[size];
+        for (int i = 0; i < size; i++) {
+            bValues[i] = intern(values.get(i));
+        }
+        return ValueCreator.createArrayValue(bValues);
+    }
+
+    public static BMap<BString, Object> getDescribeSecretResponse(DescribeSecretResponse nativeResponse) {
+        BMap<BString, Object> describeSecretResp = ValueCreator.createRecordValue(RecordTypes.DESC_SECRET_REC_TYPE);
+        describeSecretResp.put(
+                Constants.SECRET_MNG_DESC_SECRET_ARN, StringUtils.fromString(nativeResponse.arn()));
+        describeSecretResp.put(
+                Constants.SECRET_MNG_DESC_SECRET_CREATED, new Utc(nativeResponse.createdDate()).build());
+
+        Instant deletedDate = nativeResponse.deletedDate();
+        if (Objects.nonNull(deletedDate)) {
+            describeSecretResp.put(
+                    Constants.SECRET_MNG_DESC_SECRET_DELETED, new Utc(deletedDate).build());
+        }
+
+        describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_DESCRIPTION,
+                StringUtils.fromString(nativeResponse.description()));
+
+        String kmsKeyId = nativeResponse.kmsKeyId();
+        if (Objects.nonNull(kmsKeyId)) {
+            describeSecretResp.put(
+                    Constants.SECRET_MNG_DESC_SECRET_KMS_KEY_ID, StringUtils.fromString(kmsKeyId));
+        }
+
+        Instant lastAccessed = nativeResponse.lastAccessedDate();
+        if (Objects.nonNull(lastAccessed)) {
+            describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_LAST_ACCESSED, new Utc(lastAccessed).build());
+        }
+
+        Instant lastChanged = nativeResponse.lastChangedDate();
+        if (Objects.nonNull(lastChanged)) {
+            describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_LAST_CHANGED, new Utc(lastChanged).build());
+        }
+
+        Instant lastRotated = nativeResponse.lastRotatedDate();
+        if (Objects.nonNull(lastRotated)) {
+            describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_LAST_ROTATED, new Utc(lastRotated).build());
+        }
+
+        describeSecretResp.put(
+                Constants.SECRET_MNG_DESC_SECRET_NAME, StringUtils.fromString(nativeResponse.name()));
+
+        Instant nextRotation = nativeResponse.nextRotationDate();
+        if (Objects.nonNull(nextRotation)) {
+            describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_NXT_ROTATION, new Utc(nextRotation).build());
+        }
+
+        describeSecretResp.put(
+                Constants.SECRET_MNG_DESC_SECRET_OWNING_SVC, intern(nativeResponse.owningService()));
+        describeSecretResp.put(
+                Constants.SECRET_MNG_DESC_SECRET_PRIMARY_RGN, intern(nativeResponse.primaryRegion()));
+
+        if (nativeResponse.hasReplicationStatus() && !nativeResponse.replicationStatus().isEmpty()) {
+            BArray replicationStatus = constructBReplicationStatuses(nativeResponse.replicationStatus());
+            describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_REPLICATION_STATUS, replicationStatus);
+        }
+
+        boolean rotationEnabled = Objects.nonNull(nativeResponse.rotationEnabled()) && nativeResponse.rotationEnabled();
+        describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_ROTATION_ENABLED, rotationEnabled);
+
+        String rotationLambdaArn = nativeResponse.rotationLambdaARN();
+        if (Objects.nonNull(rotationLambdaArn)) {
+            describeSecretResp.put(
+                    Constants.SECRET_MNG_DESC_SECRET_ROTATION_LAMBDA_ARN, StringUtils.fromString(rotationLambdaArn));
+        }
+
+        RotationRulesType nativeRotationRules = nativeResponse.rotationRules();
+        if (Objects.nonNull(nativeRotationRules)) {
+            BMap<BString, Object> rotationRules = constructBRotationRules(nativeRotationRules);
+            describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_ROTATION_RULES, rotationRules);
+        }
+
+        if (nativeResponse.hasTags() && !nativeResponse.tags().isEmpty()) {
+            BArray tags = constructBTags(nativeResponse.tags());
+            describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_TAGS, tags);
+        }
+
+        if (nativeResponse.hasVersionIdsToStages() && !nativeResponse.versionIdsToStages().isEmpty()) {
+            BMap<BString, Object> versionToStages = constructBVersionIdsToStages(nativeResponse.versionIdsToStages());
+            describeSecretResp.put(Constants.SECRET_MNG_DESC_SECRET_VERSION_TO_STAGES, versionToStages);
+        }
+        return describeSecretResp;
+    }
+
+    /**
+     * Converts only the requested fields of the provided secret details to a Ballerina
+     * `secretmanager:DescribeSecretProjection` record. The fields which do not have a value are omitted.
+     *
+     * @param nativeResponse The secret details.
+     * @param fields         The requested fields.
+     * @return The Ballerina `secretmanager:DescribeSecretProjection` record.
+     */
+    public static BMap<BString, Object> getDescribeSecretProjection(DescribeSecretResponse nativeResponse,
+                                                                    Set<DescribeSecretField> fields) {
+        BMap<BString, Object> projection = ValueCreator.createRecordValue(RecordTypes.DESC_SECRET_PROJECTION_REC_TYPE);
+        for (DescribeSecretField field : fields) {
+            Object value = switch (field) {
+                case ARN -> StringUtils.fromString(nativeResponse.arn());
+                case CREATED_DATE -> toUtc(nativeResponse.createdDate());
+                case DELETED_DATE -> toUtc(nativeResponse.deletedDate());
+                case DESCRIPTION -> StringUtils.fromString(nativeResponse.description());
+                case KMS_KEY_ID -> StringUtils.fromString(nativeResponse.kmsKeyId());
+                case LAST_ACCESSED_DATE -> toUtc(nativeResponse.lastAccessedDate());
+                case LAST_CHANGED_DATE -> toUtc(nativeResponse.lastChangedDate());
+                case LAST_ROTATED_DATE -> toUtc(nativeResponse.lastRotatedDate());
+                case NAME -> StringUtils.fromString(nativeResponse.name());
+                case NEXT_ROTATION_DATE -> toUtc(nativeResponse.nextRotationDate());
+                case OWNING_SERVICE -> intern(nativeResponse.owningService());
+                case PRIMARY_REGION -> intern(nativeResponse.primaryRegion());
+                case REPLICATION_STATUS -> nativeResponse.hasReplicationStatus() ?
+                        constructBReplicationStatuses(nativeResponse.replicationStatus()) : null;
+                case ROTATION_ENABLED -> nativeResponse.rotationEnabled();
+                case ROTATION_LAMBDA_ARN -> StringUtils.fromString(nativeResponse.rotationLambdaARN());
+                case ROTATION_RULES -> Objects.nonNull(nativeResponse.rotationRules()) ?
+                        constructBRotationRules(nativeResponse.rotationRules()) : null;
+                case TAGS -> nativeResponse.hasTags() ? constructBTags(nativeResponse.tags()) : null;
+                case VERSION_TO_STAGES -> nativeResponse.hasVersionIdsToStages() ?
+                        constructBVersionIdsToStages(nativeResponse.versionIdsToStages()) : null;
+            };
+            if (Objects.nonNull(value)) {
+                projection.put(field.fieldName(), value);
+            }
+        }
+        return projection;
+    }
+
+    private static Object toUtc(Instant instant) {
+        return Objects.nonNull(instant) ? new Utc(instant).build() : null;
+    }
+
+    private static BMap<BString, Object> constructBVersionIdsToStages(Map<String, List<String>> versionIdsToStages) {
+        BMap<BString, Object> versionToStages = ValueCreator.createMapValue();
+        for (Map.Entry<String, List<String>> versionIdToStages : versionIdsToStages.entrySet()) {
+            versionToStages.put(StringUtils.fromString(versionIdToStages.getKey()),
+                    internAll(versionIdToStages.getValue()));
+        }
+        return versionToStages;
+    }
+
+    private static BArray constructBReplicationStatuses(List<ReplicationStatusType> nativeReplicationStatus) {
+        BArray replicationStatus = ValueCreator.createArrayValue(
+                RecordTypes.REPLICATION_STATUS_ARR_TYPE, nativeReplicationStatus.size());
+        for (int i = 0; i < nativeReplicationStatus.size(); i++) {
+            replicationStatus.add(i, constructBReplicationStatus(nativeReplicationStatus.get(i)));
+        }
+        return replicationStatus;
+    }
+
+    private static BMap<BString, Object> constructBReplicationStatus(ReplicationStatusType rs) {
+        BMap<BString, Object> replicationStatusRec = ValueCreator
+                .createRecordValue(RecordTypes.REPLICATION_STATUS_REC_TYPE);
+        String rsKmsKeyId = rs.kmsKeyId();
+        if (Objects.nonNull(rsKmsKeyId)) {
+            replicationStatusRec.put(
+                    Constants.SECRET_MNG_REPLICATION_STATUS_KMS_KEY_ID, StringUtils.fromString(rsKmsKeyId));
+        }
+        Instant rsLastAccessed = rs.lastAccessedDate();
+        if (Objects.nonNull(rsLastAccessed)) {
+            replicationStatusRec.put(
+                    Constants.SECRET_MNG_REPLICATION_STATUS_LAST_ACCESSED, new Utc(rsLastAccessed).build());
+        }
+        String rsRegion = rs.region();
+        if (Objects.nonNull(rsRegion)) {
+            replicationStatusRec.put(Constants.SECRET_MNG_REPLICATION_STATUS_RGN, intern(rsRegion));
+        }
+        String rsStatus = rs.statusAsString();
+        if (Objects.nonNull(rsStatus)) {
+            replicationStatusRec.put(Constants.SECRET_MNG_REPLICATION_STATUS_STATUS, intern(rsStatus));
+        }
+        String rsStatusMsg = rs.statusMessage();
+        if (Objects.nonNull(rsStatusMsg)) {
+            replicationStatusRec.put(
+                    Constants.SECRET_MNG_REPLICATION_STATUS_STATUS_MSG, StringUtils.fromString(rsStatusMsg));
+        }
+        return replicationStatusRec;
+    }
+
+    private static BMap<BString, Object> constructBRotationRules(RotationRulesType rotationRules) {
+        BMap<BString, Object> bRotationRules = ValueCreator.createRecordValue(RecordTypes.ROTATION_RULES_REC_TYPE);
+        Long automaticallyAfterDays = rotationRules.automaticallyAfterDays();
+        if (Objects.nonNull(automaticallyAfterDays)) {
+            bRotationRules.put(
+                    Constants.SECRET_MNG_ROTATION_RULES_AUTOMATICALLY_AFTER_DAYS, automaticallyAfterDays);
+        }
+        String duration = rotationRules.duration();
+        if (Objects.nonNull(duration)) {
+            bRotationRules.put(Constants.SECRET_MNG_ROTATION_RULES_DURATION, StringUtils.fromString(duration));
+        }
+        String scheduledExpr = rotationRules.scheduleExpression();
+        if (Objects.nonNull(scheduledExpr)) {
+            bRotationRules.put(
+                    Constants.SECRET_MNG_ROTATION_RULES_SCHEDULE_EXPR, StringUtils.fromString(scheduledExpr));
+        }
+        return bRotationRules;
+    }
+
+    private static BArray constructBTags(List<Tag> nativeTags) {
+        BArray tags = ValueCreator.createArrayValue(RecordTypes.TAG_ARR_TYPE, nativeTags.size());
+        for (int i = 0; i < nativeTags.size(); i++) {
+            tags.add(i, constructBTag(nativeTags.get(i)));
+        }
+        return tags;
+    }
+
+    private static BMap<BString, Object> constructBTag(Tag tag) {
+        BMap<BString, Object> bTag = ValueCreator.createRecordValue(RecordTypes.TAG_REC_TYPE);
+        String nativeTagKey = tag.key();
+        if (Objects.nonNull(nativeTagKey)) {
+            bTag.put(Constants.SECRET_MNG_TAG_KEY, StringUtils.fromString(nativeTagKey));
+        }
+        String nativeTagValue = tag.value();
+        if (Objects.nonNull(nativeTagValue)) {
+            bTag.put(Constants.SECRET_MNG_TAG_VALUE, StringUtils.fromString(nativeTagValue));
+        }
+        return bTag;
+    }
+
+    public static BMap<BString, Object> getSecretValueResponse(GetSecretValueResponse nativeResponse,
+                                                               boolean clearBinaryBuffer) {
+        SecretValue nativeSecretValue = new SecretValue(nativeResponse);
+        return getSecretValue(nativeSecretValue, clearBinaryBuffer);
+    }
+
+    public static BMap<BString, Object> getSecretValue(SecretValue nativeSecret) {
+        return getSecretValue(nativeSecret, false);
+    }
+
+    /**
+     * Converts the provided secret value to a Ballerina `secretmanager:SecretValue` record. A binary secret value is
+     * copied once from the AWS SDK response buffer, directly into the Ballerina `byte[]`.
+     *
+     * @param nativeSecret      The secret value.
+     * @param clearBinaryBuffer Whether to overwrite the AWS SDK response buffer with zeros after the conversion.
+     * @return The Ballerina `secretmanager:SecretValue` record.
+     */
+    public static BMap<BString, Object> getSecretValue(SecretValue nativeSecret, boolean clearBinaryBuffer) {
+        BMap<BString, Object> secretValue = ValueCreator.createRecordValue(RecordTypes.SECRET_VALUE_REC_TYPE);
+        secretValue.put(Constants.SECRET_MNG_SECRET_VALUE_ARN, StringUtils.fromString(nativeSecret.arn()));
+        secretValue.put(Constants.SECRET_MNG_SECRET_VALUE_CREATED, new Utc(nativeSecret.createdDate()).build());
+        secretValue.put(Constants.SECRET_MNG_SECRET_VALUE_NAME, StringUtils.fromString(nativeSecret.name()));
+
+        if (Objects.nonNull(nativeSecret.binaryValue())) {
+            // the Ballerina array is backed by the provided copy, hence this is the only copy of the secret value
+            secretValue.put(Constants.SECRET_MNG_SECRET_VALUE_VALUE,
+                    ValueCreator.createArrayValue(nativeSecret.binaryValue().asByteArray()));
+            if (clearBinaryBuffer) {
+                nativeSecret.clearBinaryValue();
+            }
+        } else {
+            secretValue.put(Constants.SECRET_MNG_SECRET_VALUE_VALUE, StringUtils.fromString(nativeSecret.strValue()));
+        }
+
+        secretValue.put(Constants.SECRET_MNG_SECRET_VALUE_VERSION_ID, StringUtils.fromString(nativeSecret.versionId()));
+        secretValue.put(Constants.SECRET_MNG_SECRET_VALUE_VERSION_STAGES, internAll(nativeSecret.versionStages()));
+        return secretValue;
+    }
+
+    public static BMap<BString, Object> getBatchGetSecretValueResponse(BatchGetSecretValueResponse nativeResponse,
+                                                                       boolean clearBinaryBuffers) {
+        BMap<BString, Object> batchGetSecretValueResponse = ValueCreator.createRecordValue(
+                RecordTypes.BATCH_GET_SECRET_VALUE_RES_REC_TYPE);
+
+        if (nativeResponse.hasErrors() && !nativeResponse.errors().isEmpty()) {
+            List<APIErrorType> nativeErrors = nativeResponse.errors();
+            BArray errors = ValueCreator.createArrayValue(RecordTypes.API_ERR_ARR_TYPE, nativeErrors.size());
+            for (int i = 0; i < nativeErrors.size(); i++) {
+                errors.add(i, getApiError(nativeErrors.get(i)));
+            }
+            batchGetSecretValueResponse.put(Constants.SECRET_MNG_BATCH_GET_SECRET_VALUE_RES_ERRORS, errors);
+        }
+
+        if (Objects.nonNull(nativeResponse.nextToken())) {
+            batchGetSecretValueResponse.put(Constants.SECRET_MNG_BATCH_GET_SECRET_VALUE_RES_NXT_TOKEN,
+                    StringUtils.fromString(nativeResponse.nextToken()));
+        }
+
+        if (nativeResponse.hasSecretValues() && !nativeResponse.secretValues().isEmpty()) {
+            List<SecretValueEntry> nativeSecretValues = nativeResponse.secretValues();
+            BArray secretValues = ValueCreator.createArrayValue(
+                    RecordTypes.SECRET_VALUE_ARR_TYPE, nativeSecretValues.size());
+            for (int i = 0; i < nativeSecretValues.size(); i++) {
+                secretValues.add(i, getSecretValue(new SecretValue(nativeSecretValues.get(i)), clearBinaryBuffers));
+            }
+            batchGetSecretValueResponse.put(
+                    Constants.SECRET_MNG_BATCH_GET_SECRET_VALUE_RES_SECRET_VALUES, secretValues);
+        }
+
+        return batchGetSecretValueResponse;
+    }
+
+    public static BMap<BString, Object> getApiError(APIErrorType nativeError) {
+        BMap<BString, Object> apiError = ValueCreator.createRecordValue(RecordTypes.API_ERR_REC_TYPE);
+        if (Objects.nonNull(nativeError.errorCode())) {
+            apiError.put(Constants.SECRET_MNG_API_ERR_ERR_CODE, intern(nativeError.errorCode()));
+        }
+        if (Objects.nonNull(nativeError.message())) {
+            apiError.put(Constants.SECRET_MNG_API_ERR_MSG, StringUtils.fromString(nativeError.message()));
+        }
+        if (Objects.nonNull(nativeError.secretId())) {
+            apiError.put(Constants.SECRET_MNG_API_ERR_SECRET_ID, StringUtils.fromString(nativeError.secretId()));
+        }
+        return apiError;
+    }
+
+    public static BMap<BString, Object> getSecretValues(List<String> secretIds, Map<String, Object> results) {
+        BMap<BString, Object> secretValues = ValueCreator.createMapValue(RecordTypes.SECRET_VALUE_OR_API_ERR_MAP_TYPE);
+        for (String secretId : secretIds) {
+            Object result = results.get(secretId);
+            if (Objects.nonNull(result)) {
+                secretValues.put(StringUtils.fromString(secretId), result);
+            }
+        }
+        return secretValues;
+    }
+
+    static BMap<BString, Object> getWarmUpReport(ClientWarmUp.Report nativeReport) {
+        BMap<BString, Object> warmUpReport = ValueCreator.createRecordValue(RecordTypes.WARM_UP_REPORT_REC_TYPE);
+        warmUpReport.put(Constants.SECRET_MNG_WARM_UP_REPORT_CREDENTIALS_TIME,
+                toSeconds(nativeReport.credentialsTime()));
+        warmUpReport.put(Constants.SECRET_MNG_WARM_UP_REPORT_CONNECTIONS_TIME,
+                toSeconds(nativeReport.connectionsTime()));
+        warmUpReport.put(Constants.SECRET_MNG_WARM_UP_REPORT_PREFETCH_TIME, toSeconds(nativeReport.prefetchTime()));
+        warmUpReport.put(Constants.SECRET_MNG_WARM_UP_REPORT_TOTAL_TIME, toSeconds(nativeReport.totalTime()));
+        warmUpReport.put(Constants.SECRET_MNG_WARM_UP_REPORT_CONNECTIONS, (long) nativeReport.connections());
+        warmUpReport.put(Constants.SECRET_MNG_WARM_UP_REPORT_PREFETCHED_SECRETS,
+                (long) nativeReport.prefetchedSecrets());
+        BString[] errors = new BString[nativeReport.errors().size()];
+        for (int i = 0; i < errors.length; i++) {
+            errors[i] = StringUtils.fromString(nativeReport.errors().get(i));
+        }
+        warmUpReport.put(Constants.SECRET_MNG_WARM_UP_REPORT_ERRORS, ValueCreator.createArrayValue(errors));
+        return warmUpReport;
+    }
+
+    private static BDecimal toSeconds(long nanos) {
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(nanos, 9));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.time.Duration;
+
+/**
+ * {@code RetryConfig} represents the configurations of the client-side retry policy.
+ *
+ * @param maxAttempts The maximum number of attempts for a request, including the initial attempt.
+ * @param baseDelay   The base delay of the full-jitter exponential backoff.
+ * @param maxDelay    The maximum delay before a retry.
+ * @param budgetRatio The number of retries allowed for each successful request.
+ */
+public record RetryConfig(int maxAttempts, Duration baseDelay, Duration maxDelay, double budgetRatio) {
+    private static final BString MAX_ATTEMPTS = StringUtils.fromString("maxAttempts");
+    private static final BString BASE_DELAY = StringUtils.fromString("baseDelay");
+    private static final BString MAX_DELAY = StringUtils.fromString("maxDelay");
+    private static final BString BUDGET_RATIO = StringUtils.fromString("budgetRatio");
+
+    /**
+     * The retry policy applied when the request rate is limited but no retry policy is provided, which has the
+     * defaults of the Ballerina retry configurations.
+     */
+    static final RetryConfig DEFAULT = new RetryConfig(3, Duration.ofMillis(100), Duration.ofSeconds(20), 0.1);
+
+    public RetryConfig {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("The `maxAttempts` of the retry configurations must be positive");
+        }
+        if (baseDelay.isNegative() || maxDelay.isNegative()) {
+            throw new IllegalArgumentException(
+                    "The `baseDelay` and `maxDelay` of the retry configurations must not be negative");
+        }
+        if (budgetRatio < 0) {
+            throw new IllegalArgumentException("The `budgetRatio` of the retry configurations must not be negative");
+        }
+    }
+
+    public RetryConfig(BMap<BString, Object> retryConfig) {
+        this(
+                retryConfig.getIntValue(MAX_ATTEMPTS).intValue(),
+                CommonUtils.toDuration((BDecimal) retryConfig.get(BASE_DELAY)),
+                CommonUtils.toDuration((BDecimal) retryConfig.get(MAX_DELAY)),
+                retryConfig.getFloatValue(BUDGET_RATIO)
+        );
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretRequest;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretResponse;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * {@code RetryingNativeClient} is a {@link NativeClient} decorator which applies the client-side rate limiter and the
+ * retry policy to the requests.
+ * <p>
+ * Throttled, server-side and I/O failures are retried with a full-jitter exponential backoff, as long as the retry
+ * budget allows it. The retry budget is replenished by the successful requests, hence the retries are limited to a
+ * fraction of the traffic when most of the requests fail. The requests exceeding the rate limit, and the retries, are
+ * delayed without blocking the calling thread. Each attempt, including the retries, is charged to the rate limiter,
+ * hence the AWS SDK retries are disabled for the clients using this decorator.
+ */
+public final class RetryingNativeClient implements NativeClient {
+    private static final double MIN_RETRY_TOKENS = 10;
+    private static final double MAX_RETRY_TOKENS = 100;
+
+    private final NativeClient nativeClient;
+    private final RetryConfig retryConfig;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final String region;
+    private double retryTokens = MIN_RETRY_TOKENS;
+
+    /**
+     * Creates a {@code RetryingNativeClient}.
+     *
+     * @param nativeClient The underlying native client.
+     * @param retryConfig  The retry policy configurations, or {@code null} if the default retry policy should be used.
+     * @param rateLimit    The rate limiter configurations, or {@code null} if the request rate should not be limited.
+     * @param region       The AWS region of the client.
+     */
+    public RetryingNativeClient(NativeClient nativeClient, RetryConfig retryConfig, RateLimitConfig rateLimit,
+                                String region) {
+        this.nativeClient = nativeClient;
+        this.retryConfig = Objects.requireNonNullElse(retryConfig, RetryConfig.DEFAULT);
+        this.rateLimiter = Objects.nonNull(rateLimit) ? new AdaptiveRateLimiter(rateLimit) : null;
+        this.region = region;
+    }
+
+    @Override
+    public CompletableFuture<DescribeSecretResponse> describeSecret(DescribeSecretRequest request) {
+        return execute(Constants.DESCRIBE_SECRET_OPERATION, () -> nativeClient.describeSecret(request));
+    }
+
+    @Override
+    public CompletableFuture<GetSecretValueResponse> getSecretValue(GetSecretValueRequest request) {
+        return execute(Constants.GET_SECRET_VALUE_OPERATION, () -> nativeClient.getSecretValue(request));
+    }
+
+    @Override
+    public CompletableFuture<BatchGetSecretValueResponse> batchGetSecretValue(BatchGetSecretValueRequest request) {
+        return execute(Constants.BATCH_GET_SECRET_VALUE_OPERATION, () -> nativeClient.batchGetSecretValue(request));
+    }
+
+    private <T> CompletableFuture<T> execute(String operation, Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(operation, request, 0, 0, result);
+        return result;
+    }
+
+    private <T> void attempt(String operation, Supplier<CompletableFuture<T>> request, int retryCount,
+                             long backoffInNanos, CompletableFuture<T> result) {
+        long reservation = Objects.nonNull(rateLimiter) ? rateLimiter.reserve(operation) : 0;
+        if (reservation < 0) {
+            result.completeExceptionally(new RetriedRequestException(new RejectedExecutionException(
+                    "The request rate limit of the AWS secret manager client is exceeded"), retryCount));
+            return;
+        }
+        long delay = backoffInNanos + reservation;
+        // a request which is cancelled during the delay is not sent
+        Supplier<CompletableFuture<T>> send = () -> result.isDone() ?
+                CompletableFuture.failedFuture(new CancellationException()) : request.get();
+        CompletableFuture<T> response = delay > 0 ? NativeClientAdaptor.executeAsync(send, delay) : send.get();
+        CommonUtils.propagateCancellation(result, response);
+        response.whenComplete((value, error) -> {
+            if (Objects.isNull(error)) {
+                onSuccess(operation);
+                result.complete(value);
+                return;
+            }
+            if (result.isDone()) {
+                // the request is cancelled, hence it is not retried
+                return;
+            }
+            Throwable cause = CommonUtils.unwrap(error);
+            boolean throttled = isThrottled(cause);
+            if (throttled && Objects.nonNull(rateLimiter)) {
+                rateLimiter.onThrottled(operation);
+            }
+            if (retryCount + 1 < retryConfig.maxAttempts() &&
+                    (throttled || isRetryable(cause)) && tryAcquireRetryToken()) {
+                ConnectorMetrics.requestRetried(operation, region, retryCount + 1, cause);
+                attempt(operation, request, retryCount + 1, getBackoff(retryCount), result);
+                return;
+            }
+            result.completeExceptionally(new RetriedRequestException(cause, retryCount));
+        });
+    }
+
+    private void onSuccess(String operation) {
+        if (Objects.nonNull(rateLimiter)) {
+            rateLimiter.onSuccess(operation);
+        }
+        synchronized (this) {
+            retryTokens = Math.min(MAX_RETRY_TOKENS, retryTokens + retryConfig.budgetRatio());
+        }
+    }
+
+    private synchronized boolean tryAcquireRetryToken() {
+        if (retryTokens < 1) {
+            return false;
+        }
+        retryTokens -= 1;
+        return true;
+    }
+
+    private long getBackoff(int retryCount) {
+        long baseDelay = retryConfig.baseDelay().toNanos();
+        long maxDelay = retryConfig.maxDelay().toNanos();
+        long backoff = retryCount < Long.numberOfLeadingZeros(baseDelay) - 1 ?
+                Math.min(maxDelay, baseDelay << retryCount) : maxDelay;
+        return backoff > 0 ? ThreadLocalRandom.current().nextLong(backoff + 1) : 0;
+    }
+
+    private static boolean isThrottled(Throwable cause) {
+        return cause instanceof SdkServiceException serviceException && serviceException.isThrottlingException();
+    }
+
+    /**
+     * Checks whether the provided request failure is caused by the service being throttled or unavailable, rather
+     * than by the request itself.
+     *
+     * @param cause The request failure.
+     * @return {@code true} if the failure is transient, {@code false} otherwise.
+     */
+    static boolean isTransient(Throwable cause) {
+        Throwable failure = cause instanceof RetriedRequestException ? cause.getCause() : cause;
+        return isThrottled(failure) || isRetryable(failure);
+    }
+
+    private static boolean isRetryable(Throwable cause) {
+        if (cause instanceof SdkServiceException serviceException) {
+            return serviceException.statusCode() >= 500;
+        }
+        return cause instanceof ApiCallAttemptTimeoutException ||
+                (cause instanceof SdkClientException && cause.getCause() instanceof IOException);
+    }
+
+    @Override
+    public CompletableFuture<DescribeSecretResponse> openConnection(DescribeSecretRequest request) {
+        return nativeClient.openConnection(request);
+    }
+
+    @Override
+    public void close() {
+        nativeClient.close();
+    }
+}
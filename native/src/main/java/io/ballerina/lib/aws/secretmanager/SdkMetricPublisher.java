@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@code SdkMetricPublisher} is an AWS SDK {@link MetricPublisher} which reports the attempt-level timings collected
+ * by the AWS SDK, such as the service call duration and the HTTP status of each retry, to the
+ * {@link ConnectorMetrics}.
+ */
+public final class SdkMetricPublisher implements MetricPublisher {
+    private static final String API_CALL_ATTEMPT = "ApiCallAttempt";
+
+    private final String region;
+
+    public SdkMetricPublisher(String region) {
+        this.region = region;
+    }
+
+    @Override
+    public void publish(MetricCollection apiCallMetrics) {
+        String operation = first(apiCallMetrics.metricValues(CoreMetric.OPERATION_NAME));
+        if (Objects.isNull(operation)) {
+            return;
+        }
+        int attempt = 0;
+        Iterator<MetricCollection> attempts = apiCallMetrics.childrenWithName(API_CALL_ATTEMPT).iterator();
+        while (attempts.hasNext()) {
+            MetricCollection attemptMetrics = attempts.next();
+            attempt++;
+            Duration latency = first(attemptMetrics.metricValues(CoreMetric.SERVICE_CALL_DURATION));
+            Integer httpStatusCode = first(attemptMetrics.metricValues(HttpMetric.HTTP_STATUS_CODE));
+            String errorType = first(attemptMetrics.metricValues(CoreMetric.ERROR_TYPE));
+            ConnectorMetrics.attemptCompleted(operation, region, attempt, latency,
+                    Objects.nonNull(httpStatusCode) ? httpStatusCode : -1, errorType);
+        }
+    }
+
+    private static <T> T first(List<T> values) {
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import java.time.Duration;
+
+/**
+ * {@code SecretManagerMetricsListener} receives the instrumentation events of the AWS Secret Manager connector.
+ * <p>
+ * Listeners are discovered using the {@link java.util.ServiceLoader}, hence a listener is registered by adding its
+ * fully qualified class name to the {@code META-INF/services/io.ballerina.lib.aws.secretmanager
+ * .SecretManagerMetricsListener} file of a jar in the Ballerina application classpath. The events are delivered on
+ * the threads executing the requests, hence the listeners should not block.
+ */
+public interface SecretManagerMetricsListener {
+
+    /**
+     * Invoked when a request is sent to the AWS Secret Manager.
+     *
+     * @param operation The AWS Secret Manager operation name (e.g. {@code GetSecretValue}).
+     * @param region    The AWS region of the client.
+     */
+    default void onRequestStarted(String operation, String region) {
+    }
+
+    /**
+     * Invoked when a request to the AWS Secret Manager is completed, including all the attempts.
+     *
+     * @param operation          The AWS Secret Manager operation name.
+     * @param region             The AWS region of the client.
+     * @param latency            The time taken to complete the request.
+     * @param payloadSizeInBytes The total size of the secret values in the response.
+     * @param errorCode          The AWS error code if the request failed, or {@code null} if it succeeded.
+     */
+    default void onRequestCompleted(String operation, String region, Duration latency, long payloadSizeInBytes,
+                                    String errorCode) {
+    }
+
+    /**
+     * Invoked for each HTTP attempt of a request, as reported by the AWS SDK.
+     *
+     * @param operation      The AWS Secret Manager operation name.
+     * @param region         The AWS region of the client.
+     * @param attempt        The attempt number, starting from 1.
+     * @param latency        The time taken by the service call of the attempt.
+     * @param httpStatusCode The HTTP status code of the attempt, or {@code -1} if no response was received.
+     * @param errorType      The AWS SDK error type (e.g. {@code Throttling}) if the attempt failed, or {@code null}.
+     */
+    default void onAttemptCompleted(String operation, String region, int attempt, Duration latency,
+                                    int httpStatusCode, String errorType) {
+    }
+
+    /**
+     * Invoked when a failed request is retried by the client-side retry policy.
+     *
+     * @param operation  The AWS Secret Manager operation name.
+     * @param region     The AWS region of the client.
+     * @param retryCount The number of the retry, starting from 1.
+     * @param errorCode  The AWS error code of the failed attempt.
+     */
+    default void onRequestRetried(String operation, String region, int retryCount, String errorCode) {
+    }
+
+    /**
+     * Invoked when a request which was sent a second time by the hedging policy is completed.
+     *
+     * @param operation The AWS Secret Manager operation name.
+     * @param region    The AWS region of the client.
+     * @param hedgeWon  Whether the request was completed by the second request.
+     */
+    default void onRequestHedged(String operation, String region, boolean hedgeWon) {
+    }
+
+    /**
+     * Invoked for the lookups and evictions of the in-memory secret values.
+     *
+     * @param cache The name of the in-memory store (e.g. {@code cache}).
+     * @param event The cache event.
+     */
+    default void onCacheEvent(String cache, CacheEvent event) {
+    }
+
+    /**
+     * Invoked when the encrypted on-disk snapshot of the secret values cannot be loaded, updated or written. The
+     * requests are still served, but the snapshot may not have the latest secret values.
+     *
+     * @param operation The snapshot operation which failed.
+     * @param errorType The type of the failure (e.g. {@code AccessDeniedException}).
+     */
+    default void onSnapshotError(SnapshotOperation operation, String errorType) {
+    }
+
+    /**
+     * Represents the events of the in-memory secret value stores.
+     */
+    enum CacheEvent {
+        HIT, MISS, EVICTION
+    }
+
+    /**
+     * Represents the operations of the encrypted on-disk snapshot of the secret values.
+     */
+    enum SnapshotOperation {
+        LOAD, STORE, READ, WRITE
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.SecretValueEntry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@code SecretRefresher} keeps the current versions of the watched secrets in memory and refreshes them in the
+ * background before they become stale.
+ * <p>
+ * The watched secrets are refreshed in batches of up to 20 secrets using `BatchGetSecretValue` requests. Each batch is
+ * rescheduled with a random jitter of the refresh interval, so that the refreshes of different batches and clients
+ * are spread over time. Once a secret is loaded, callers are always served from memory. A failed refresh keeps the
+ * last known value and the refresh is retried in the next interval.
+ */
+public final class SecretRefresher implements AutoCloseable {
+    static final String CACHE_NAME = "watch";
+
+    private static final double JITTER_RATIO = 0.1;
+
+    private final NativeClient nativeClient;
+    private final boolean clearBinaryBuffers;
+    private final Map<String, RefreshTask> watchedSecrets = new ConcurrentHashMap<>();
+    private final Map<String, BMap<BString, Object>> secretValues = new ConcurrentHashMap<>();
+    private volatile boolean closed = false;
+
+    public SecretRefresher(NativeClient nativeClient, boolean clearBinaryBuffers) {
+        this.nativeClient = nativeClient;
+        this.clearBinaryBuffers = clearBinaryBuffers;
+    }
+
+    /**
+     * Starts watching the provided secrets. The returned future is completed once the current versions of all the
+     * secrets are loaded, after which the secrets are refreshed in the background.
+     *
+     * @param secretIds       The ARNs or names of the secrets.
+     * @param refreshInterval The interval at which the secrets are refreshed.
+     * @return A future which is completed once the secrets are loaded, or completed exceptionally if any of the
+     * secrets could not be loaded, in which case the secrets which were not watched before are not watched, and the
+     * others are refreshed as before.
+     */
+    public CompletableFuture<Void> watch(List<String> secretIds, Duration refreshInterval) {
+        List<String> distinctSecretIds = new ArrayList<>(new LinkedHashSet<>(secretIds));
+        List<RefreshTask> tasks = new ArrayList<>();
+        Map<String, RefreshTask> previousTasks = new HashMap<>();
+        for (int i = 0; i < distinctSecretIds.size(); i += BulkSecretValueRetriever.MAX_BATCH_SIZE) {
+            List<String> batch = distinctSecretIds.subList(
+                    i, Math.min(i + BulkSecretValueRetriever.MAX_BATCH_SIZE, distinctSecretIds.size()));
+            RefreshTask task = new RefreshTask(batch, refreshInterval.toNanos());
+            for (String secretId : batch) {
+                RefreshTask previousTask = watchedSecrets.put(secretId, task);
+                if (Objects.nonNull(previousTask)) {
+                    previousTasks.put(secretId, previousTask);
+                }
+            }
+            tasks.add(task);
+        }
+        CompletableFuture<?>[] initialLoads = new CompletableFuture<?>[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            initialLoads[i] = tasks.get(i).refresh(true);
+        }
+        return CompletableFuture.allOf(initialLoads).whenComplete((ignored, error) -> {
+            if (Objects.nonNull(error)) {
+                rollback(tasks, previousTasks);
+                return;
+            }
+            tasks.forEach(RefreshTask::scheduleNext);
+        });
+    }
+
+    private void rollback(List<RefreshTask> tasks, Map<String, RefreshTask> previousTasks) {
+        for (RefreshTask task : tasks) {
+            for (String secretId : task.secretIds) {
+                // the secrets which were watched again or unwatched in the meantime are left as they are
+                watchedSecrets.computeIfPresent(secretId, (key, currentTask) -> {
+                    if (currentTask != task) {
+                        return currentTask;
+                    }
+                    RefreshTask previousTask = previousTasks.get(key);
+                    if (Objects.isNull(previousTask)) {
+                        secretValues.remove(key);
+                    }
+                    return previousTask;
+                });
+            }
+        }
+        new HashSet<>(previousTasks.values()).forEach(RefreshTask::resume);
+    }
+
+    /**
+     * Stops watching the provided secrets and removes their values from memory.
+     *
+     * @param secretIds The ARNs or names of the secrets.
+     */
+    public void unwatch(List<String> secretIds) {
+        for (String secretId : secretIds) {
+            watchedSecrets.computeIfPresent(secretId, (key, task) -> {
+                secretValues.remove(key);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Retrieves the in-memory value of a watched secret.
+     *
+     * @param secretId The ARN or name of the secret.
+     * @return The read-only Ballerina `secretmanager:SecretValue` record, or {@code null} if the secret is not watched.
+     */
+    public BMap<BString, Object> getSecretValue(String secretId) {
+        BMap<BString, Object> secretValue = secretValues.get(secretId);
+        if (Objects.nonNull(secretValue)) {
+            ConnectorMetrics.cacheEvent(CACHE_NAME, SecretManagerMetricsListener.CacheEvent.HIT);
+        }
+        return secretValue;
+    }
+
+    /**
+     * Checks whether the provided version selector refers to the current version of a secret, which is the version
+     * kept in memory for the watched secrets.
+     *
+     * @param versionSelector The Ballerina AWS Secret Manager `SecretVersionSelector`.
+     * @return {@code true} if the version selector refers to the current version, {@code false} otherwise.
+     */
+    public static boolean isCurrentVersion(BMap<BString, Object> versionSelector) {
+        if (versionSelector.containsKey(Constants.SECRET_MNG_SECRET_VERSION_SELECTOR_VERSION_ID)) {
+            return false;
+        }
+        return !versionSelector.containsKey(Constants.SECRET_MNG_SECRET_VERSION_SELECTOR_VERSION_STAGE) ||
+                Constants.AWS_CURRENT_VERSION_STAGE.equals(versionSelector.getStringValue(
+                        Constants.SECRET_MNG_SECRET_VERSION_SELECTOR_VERSION_STAGE).getValue());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        new HashSet<>(watchedSecrets.values()).forEach(RefreshTask::cancel);
+        watchedSecrets.clear();
+        secretValues.clear();
+    }
+
+    private final class RefreshTask {
+        private final List<String> secretIds;
+        private final long refreshIntervalInNanos;
+        private volatile ScheduledFuture<?> scheduledRefresh;
+        private boolean stopped = false;
+
+        RefreshTask(List<String> secretIds, long refreshIntervalInNanos) {
+            this.secretIds = secretIds;
+            this.refreshIntervalInNanos = refreshIntervalInNanos;
+        }
+
+        CompletableFuture<Void> refresh(boolean initialLoad) {
+            List<String> activeSecretIds = getActiveSecretIds();
+            if (activeSecretIds.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            BatchGetSecretValueRequest request = BatchGetSecretValueRequest.builder()
+                    .secretIdList(activeSecretIds).build();
+            return NativeClientAdaptor.executeAsync(() -> nativeClient.batchGetSecretValue(request))
+                    .thenAccept(response -> update(activeSecretIds, response, initialLoad));
+        }
+
+        private void update(List<String> activeSecretIds, BatchGetSecretValueResponse response, boolean initialLoad) {
+            if (initialLoad && response.hasErrors() && !response.errors().isEmpty()) {
+                throw CommonUtils.toNativeException(response.errors().get(0));
+            }
+            if (!response.hasSecretValues()) {
+                return;
+            }
+            for (SecretValueEntry entry : response.secretValues()) {
+                BMap<BString, Object> secretValue = ResponseMapper.getSecretValue(
+                        new SecretValue(entry), clearBinaryBuffers);
+                secretValue.freezeDirect();
+                for (String secretId : activeSecretIds) {
+                    if (CommonUtils.isSecretIdOf(secretId, entry.arn(), entry.name())) {
+                        // the value is only updated if the secret was not unwatched while the refresh was in progress
+                        watchedSecrets.computeIfPresent(secretId, (key, task) -> {
+                            if (task == this) {
+                                secretValues.put(key, secretValue);
+                            }
+                            return task;
+                        });
+                    }
+                }
+            }
+        }
+
+        synchronized void scheduleNext() {
+            if (closed) {
+                return;
+            }
+            if (getActiveSecretIds().isEmpty()) {
+                // all the secrets were unwatched or taken over by another watch, which may be rolled back
+                stopped = true;
+                return;
+            }
+            double jitter = 1 + JITTER_RATIO * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+            long delay = (long) (refreshIntervalInNanos * jitter);
+            scheduledRefresh = NativeClientAdaptor.schedule(
+                    () -> refresh(false).whenComplete((ignored, error) -> scheduleNext()), delay);
+        }
+
+        synchronized void resume() {
+            if (stopped) {
+                stopped = false;
+                scheduleNext();
+            }
+        }
+
+        void cancel() {
+            ScheduledFuture<?> refresh = scheduledRefresh;
+            if (Objects.nonNull(refresh)) {
+                refresh.cancel(false);
+            }
+        }
+
+        private List<String> getActiveSecretIds() {
+            List<String> activeSecretIds = new ArrayList<>(secretIds.size());
+            for (String secretId : secretIds) {
+                if (watchedSecrets.get(secretId) == this) {
+                    activeSecretIds.add(secretId);
+                }
+            }
+            return activeSecretIds;
+        }
+    }
+}
@@ -0,0 +1,432 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * {@code SecretSnapshot} is an encrypted on-disk store of the secret values retrieved from the AWS Secret Manager.
+ * <p>
+ * The snapshot file consists of a header, an index and the sealed entries. Each entry is encrypted separately with
+ * AES-GCM, hence only the index is read when the snapshot is loaded, and an entry is read from the memory-mapped
+ * file and decrypted only when it is requested. The index holds an HMAC of the request key instead of the secret ID,
+ * so that the snapshot does not disclose the names of the secrets.
+ * <p>
+ * The snapshot is written to a temporary file in the same directory, which then atomically replaces the snapshot
+ * file, hence a reader never observes a partially written snapshot. The entries older than the maximum staleness are
+ * pruned when the snapshot is loaded and written, and the snapshot keeps at most 4096 entries.
+ */
+public final class SecretSnapshot {
+    private static final int MAGIC = 0x42534D53;
+    private static final int FORMAT_VERSION = 1;
+    private static final int KEY_HASH_LENGTH = 32;
+    private static final int NONCE_LENGTH = 12;
+    private static final int TAG_LENGTH_IN_BITS = 128;
+    private static final int MAX_ENTRIES = 4096;
+    private static final int INDEX_ENTRY_LENGTH = KEY_HASH_LENGTH + Long.BYTES + Long.BYTES + Integer.BYTES;
+    private static final byte[] HEADER_AAD = "balx-awssecretmng-snapshot".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INDEX_KEY_LABEL = "balx-awssecretmng-snapshot-index".getBytes(StandardCharsets.UTF_8);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Path path;
+    private final SnapshotConfig config;
+    private final SecretKey encryptionKey;
+    private final SecretKey indexKey;
+    private final Map<String, SnapshotEntry> entries = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private volatile boolean dirty = false;
+
+    /**
+     * Creates a {@code SecretSnapshot} and loads the index of the existing snapshot file. A snapshot file which cannot
+     * be read, or which was written with a different encryption key, is ignored and replaced on the next write.
+     *
+     * @param config The snapshot configurations.
+     * @throws GeneralSecurityException If the encryption key cannot be used with the AES-GCM and HMAC algorithms.
+     */
+    public SecretSnapshot(SnapshotConfig config) throws GeneralSecurityException {
+        this.path = config.path();
+        this.config = config;
+        this.encryptionKey = new SecretKeySpec(config.encryptionKey(), "AES");
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(config.encryptionKey(), "HmacSHA256"));
+        this.indexKey = new SecretKeySpec(mac.doFinal(INDEX_KEY_LABEL), "HmacSHA256");
+        try {
+            load();
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            ConnectorMetrics.snapshotError(SecretManagerMetricsListener.SnapshotOperation.LOAD, e);
+            entries.clear();
+        }
+        prune();
+    }
+
+    private void load() throws IOException, GeneralSecurityException {
+        ByteBuffer snapshot;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            snapshot = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            return;
+        }
+        if (snapshot.getInt() != MAGIC || snapshot.getInt() != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot format");
+        }
+        // the header contains an empty message sealed with the encryption key, which verifies the key
+        ByteBuffer keyCheck = snapshot.slice(snapshot.position(), NONCE_LENGTH + TAG_LENGTH_IN_BITS / 8);
+        open(keyCheck, HEADER_AAD);
+        snapshot.position(snapshot.position() + keyCheck.remaining());
+        int entryCount = snapshot.getInt();
+        byte[] keyHash = new byte[KEY_HASH_LENGTH];
+        for (int i = 0; i < entryCount; i++) {
+            snapshot.get(keyHash);
+            long fetchedAt = snapshot.getLong();
+            long offset = snapshot.getLong();
+            int length = snapshot.getInt();
+            // the sealed entry is a view of the mapped file, hence it is read from the disk only when it is used
+            entries.put(HexFormat.of().formatHex(keyHash),
+                    new SnapshotEntry(fetchedAt, snapshot.slice((int) offset, length), null));
+        }
+    }
+
+    /**
+     * Retrieves the snapshot entry of the provided request key.
+     *
+     * @param key The request key.
+     * @return The snapshot entry, or {@code null} if there is no entry for the key.
+     */
+    public SnapshotEntry get(String key) {
+        return entries.get(hash(key));
+    }
+
+    /**
+     * Adds the secret value retrieved for the provided request key to the snapshot, unless the snapshot already has
+     * an entry for the same version of the secret which is not nearly stale. Hence, retrieving an unchanged secret
+     * value again neither encrypts it nor changes the snapshot file. The snapshot file is updated only when the
+     * snapshot is written.
+     *
+     * @param key      The request key.
+     * @param response The secret value retrieved from the AWS Secret Manager.
+     * @return {@code true} if the snapshot is updated, {@code false} otherwise.
+     */
+    public boolean put(String key, GetSecretValueResponse response) {
+        String keyHash = hash(key);
+        SnapshotEntry currentEntry = entries.get(keyHash);
+        if (Objects.nonNull(currentEntry) && !config.isNearlyStale(currentEntry.age())) {
+            String currentVersionId = getVersionId(keyHash, currentEntry);
+            if (Objects.nonNull(currentVersionId) && currentVersionId.equals(response.versionId())) {
+                return false;
+            }
+        }
+        try {
+            byte[] sealed = seal(serialize(response), HexFormat.of().parseHex(keyHash));
+            entries.put(keyHash,
+                    new SnapshotEntry(System.currentTimeMillis(), ByteBuffer.wrap(sealed), response.versionId()));
+            dirty = true;
+            if (entries.size() > MAX_ENTRIES) {
+                prune();
+            }
+            return true;
+        } catch (IOException | GeneralSecurityException e) {
+            // the secret value is still returned to the caller even if it cannot be added to the snapshot
+            ConnectorMetrics.snapshotError(SecretManagerMetricsListener.SnapshotOperation.STORE, e);
+            return false;
+        }
+    }
+
+    private String getVersionId(String keyHash, SnapshotEntry entry) {
+        if (Objects.nonNull(entry.versionId())) {
+            return entry.versionId();
+        }
+        // the version of an entry loaded from the snapshot file is known only once the entry is decrypted
+        try {
+            String versionId = deserialize(open(entry.sealed(), HexFormat.of().parseHex(keyHash))).versionId();
+            entries.replace(keyHash, entry, new SnapshotEntry(entry.fetchedAt(), entry.sealed(), versionId));
+            return versionId;
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            ConnectorMetrics.snapshotError(SecretManagerMetricsListener.SnapshotOperation.READ, e);
+            return null;
+        }
+    }
+
+    /**
+     * Removes the entry of the provided request key from the snapshot. The snapshot file is updated only when the
+     * snapshot is written.
+     *
+     * @param key The request key.
+     * @return {@code true} if there was an entry for the key, {@code false} otherwise.
+     */
+    public boolean remove(String key) {
+        if (Objects.isNull(entries.remove(hash(key)))) {
+            return false;
+        }
+        dirty = true;
+        return true;
+    }
+
+    /**
+     * Removes the entries which are older than the maximum staleness, as they are never served, and then the oldest
+     * entries beyond {@link #MAX_ENTRIES}, so that the entries of the secrets which are no longer requested do not
+     * accumulate in the snapshot.
+     */
+    private void prune() {
+        if (entries.values().removeIf(entry -> !config.isServable(entry.age()))) {
+            dirty = true;
+        }
+        int excessEntries = entries.size() - MAX_ENTRIES;
+        if (excessEntries <= 0) {
+            return;
+        }
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().fetchedAt()))
+                .limit(excessEntries)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(entries::remove);
+        dirty = true;
+    }
+
+    /**
+     * Decrypts the secret value of the provided snapshot entry.
+     *
+     * @param key   The request key of the entry.
+     * @param entry The snapshot entry.
+     * @return The secret value, or {@code null} if the entry cannot be decrypted.
+     */
+    public GetSecretValueResponse read(String key, SnapshotEntry entry) {
+        try {
+            return deserialize(open(entry.sealed(), HexFormat.of().parseHex(hash(key))));
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            ConnectorMetrics.snapshotError(SecretManagerMetricsListener.SnapshotOperation.READ, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the snapshot to the disk if it has changed since the last write.
+     *
+     * @throws IOException If the snapshot file cannot be written.
+     */
+    public void write() throws IOException {
+        synchronized (writeLock) {
+            prune();
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+            try {
+                writeSnapshot();
+            } catch (IOException | GeneralSecurityException e) {
+                dirty = true;
+                throw e instanceof IOException ioException ? ioException : new IOException(e);
+            }
+        }
+    }
+
+    private void writeSnapshot() throws IOException, GeneralSecurityException {
+        List<Map.Entry<String, SnapshotEntry>> snapshotEntries = new ArrayList<>(entries.entrySet());
+        byte[] keyCheck = seal(new byte[0], HEADER_AAD);
+        int headerLength = Integer.BYTES * 2 + keyCheck.length + Integer.BYTES;
+        long offset = headerLength + (long) INDEX_ENTRY_LENGTH * snapshotEntries.size();
+        ByteBuffer header = ByteBuffer.allocate((int) offset);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).put(keyCheck).putInt(snapshotEntries.size());
+        for (Map.Entry<String, SnapshotEntry> entry : snapshotEntries) {
+            int length = entry.getValue().sealed().remaining();
+            header.put(HexFormat.of().parseHex(entry.getKey())).putLong(entry.getValue().fetchedAt())
+                    .putLong(offset).putInt(length);
+            offset += length;
+        }
+        if (offset > Integer.MAX_VALUE) {
+            throw new IOException("The snapshot exceeds the maximum supported size");
+        }
+        header.flip();
+        Path directory = path.getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                writeFully(channel, header);
+                for (Map.Entry<String, SnapshotEntry> entry : snapshotEntries) {
+                    writeFully(channel, entry.getValue().sealed().duplicate());
+                }
+                channel.force(true);
+            }
+            Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private String hash(String key) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(indexKey);
+            return HexFormat.of().formatHex(mac.doFinal(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            // the algorithm and the key are verified when the snapshot is created
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] seal(byte[] plainText, byte[] associatedData) throws GeneralSecurityException {
+        byte[] nonce = new byte[NONCE_LENGTH];
+        RANDOM.nextBytes(nonce);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_LENGTH_IN_BITS, nonce));
+        cipher.updateAAD(associatedData);
+        byte[] cipherText = cipher.doFinal(plainText);
+        return ByteBuffer.allocate(NONCE_LENGTH + cipherText.length).put(nonce).put(cipherText).array();
+    }
+
+    private byte[] open(ByteBuffer sealed, byte[] associatedData) throws GeneralSecurityException {
+        ByteBuffer input = sealed.duplicate();
+        byte[] nonce = new byte[NONCE_LENGTH];
+        input.get(nonce);
+        byte[] cipherText = new byte[input.remaining()];
+        input.get(cipherText);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_LENGTH_IN_BITS, nonce));
+        cipher.updateAAD(associatedData);
+        return cipher.doFinal(cipherText);
+    }
+
+    private static byte[] serialize(GetSecretValueResponse response) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            writeString(output, response.arn());
+            writeString(output, response.name());
+            writeString(output, response.versionId());
+            writeString(output, response.secretString());
+            writeBytes(output, Objects.nonNull(response.secretBinary()) ?
+                    response.secretBinary().asByteArrayUnsafe() : null);
+            List<String> versionStages = response.hasVersionStages() ? response.versionStages() : List.of();
+            output.writeInt(versionStages.size());
+            for (String versionStage : versionStages) {
+                writeString(output, versionStage);
+            }
+            output.writeBoolean(Objects.nonNull(response.createdDate()));
+            if (Objects.nonNull(response.createdDate())) {
+                output.writeLong(response.createdDate().getEpochSecond());
+                output.writeInt(response.createdDate().getNano());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static GetSecretValueResponse deserialize(byte[] serialized) throws IOException {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(serialized))) {
+            GetSecretValueResponse.Builder response = GetSecretValueResponse.builder()
+                    .arn(readString(input))
+                    .name(readString(input))
+                    .versionId(readString(input))
+                    .secretString(readString(input));
+            byte[] secretBinary = readBytes(input);
+            if (Objects.nonNull(secretBinary)) {
+                response.secretBinary(SdkBytes.fromByteArrayUnsafe(secretBinary));
+            }
+            int versionStageCount = input.readInt();
+            List<String> versionStages = new ArrayList<>(versionStageCount);
+            for (int i = 0; i < versionStageCount; i++) {
+                versionStages.add(readString(input));
+            }
+            response.versionStages(versionStages);
+            if (input.readBoolean()) {
+                response.createdDate(Instant.ofEpochSecond(input.readLong(), input.readInt()));
+            }
+            return response.build();
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        writeBytes(output, Objects.nonNull(value) ? value.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    private static void writeBytes(DataOutputStream output, byte[] value) throws IOException {
+        if (Objects.isNull(value)) {
+            output.writeInt(-1);
+            return;
+        }
+        output.writeInt(value.length);
+        output.write(value);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        byte[] value = readBytes(input);
+        return Objects.nonNull(value) ? new String(value, StandardCharsets.UTF_8) : null;
+    }
+
+    private static byte[] readBytes(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        input.readFully(value);
+        return value;
+    }
+
+    /**
+     * {@code SnapshotEntry} represents an encrypted entry of the snapshot.
+     *
+     * @param fetchedAt The time (in milliseconds since the epoch) the secret value was retrieved.
+     * @param sealed    The encrypted secret value, prefixed with the nonce.
+     * @param versionId The version ID of the secret value, or {@code null} if the entry is loaded from the snapshot
+     *                  file and has not been decrypted yet.
+     */
+    public record SnapshotEntry(long fetchedAt, ByteBuffer sealed, String versionId) {
+
+        long age() {
+            return System.currentTimeMillis() - fetchedAt;
+        }
+    }
+}
@@ -18,10 +18,12 @@
 
 package io.ballerina.lib.aws.secretmanager;
 
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
 import software.amazon.awssdk.services.secretsmanager.model.SecretValueEntry;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -31,12 +33,13 @@ import java.util.Objects;
  * @param arn           The ARN of the secret.
  * @param createdDate   The date and time that this version of the secret was created.
  * @param name          The friendly name of the secret.
- * @param binaryValue   The decrypted secret value in Binary format.
+ * @param binaryValue   The decrypted secret value in Binary format. This is the buffer of the AWS SDK response, which
+ *                      is copied only when the Ballerina `byte[]` is created.
  * @param strValue      The decrypted secret value in String format.
  * @param versionId     The unique identifier of this version of the secret.
  * @param versionStages A list of all the staging labels currently attached to this version of the secret.
  */
-public record SecretValue(String arn, Instant createdDate, String name, byte[] binaryValue, String strValue,
+public record SecretValue(String arn, Instant createdDate, String name, SdkBytes binaryValue, String strValue,
                           String versionId, List<String> versionStages) {
 
     public SecretValue(SecretValueEntry nativeEntry) {
@@ -44,7 +47,7 @@ public record SecretValue(String arn, Instant createdDate, String name, byte[] b
                 nativeEntry.arn(),
                 nativeEntry.createdDate(),
                 nativeEntry.name(),
-                Objects.nonNull(nativeEntry.secretBinary()) ? nativeEntry.secretBinary().asByteArray() : null,
+                nativeEntry.secretBinary(),
                 nativeEntry.secretString(),
                 nativeEntry.versionId(),
                 nativeEntry.versionStages()
@@ -56,10 +59,20 @@ public record SecretValue(String arn, Instant createdDate, String name, byte[] b
                 nativeResponse.arn(),
                 nativeResponse.createdDate(),
                 nativeResponse.name(),
-                Objects.nonNull(nativeResponse.secretBinary()) ? nativeResponse.secretBinary().asByteArray() : null,
+                nativeResponse.secretBinary(),
                 nativeResponse.secretString(),
                 nativeResponse.versionId(),
                 nativeResponse.versionStages()
         );
     }
+
+    /**
+     * Overwrites the binary secret value of the AWS SDK response with zeros, so that the secret material is not kept
+     * in memory until the response is garbage collected.
+     */
+    public void clearBinaryValue() {
+        if (Objects.nonNull(binaryValue)) {
+            Arrays.fill(binaryValue.asByteArrayUnsafe(), (byte) 0);
+        }
+    }
 }
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretResponse;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * {@code SecretValueCache} is an in-memory LRU cache of the Ballerina `secretmanager:SecretValue` records, bounded by
+ * the number of entries and the total size of the cached secret values.
+ * <p>
+ * Entries are keyed by the secret ID together with the requested version ID and version stage. The cached records
+ * are frozen, hence a cache hit hands out the already built Ballerina record without any network call or conversion.
+ * Concurrent misses for the same key are collapsed into a single in-flight fetch.
+ * <p>
+ * When the cache is rotation-aware, an expired entry of the current version of a secret is revalidated using the
+ * secret metadata, and the secret value is fetched again only if the `AWSCURRENT` version of the secret has changed.
+ * The entries of such secrets expire no later than the next scheduled rotation of the secret.
+ */
+public final class SecretValueCache {
+    static final String CACHE_NAME = "cache";
+
+    private final long ttlInNanos;
+    private final int maxEntries;
+    private final long maxSizeInBytes;
+    private final boolean rotationAware;
+    private final boolean clearBinaryBuffers;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<CacheKey, CompletableFuture<BMap<BString, Object>>> inFlightFetches = new ConcurrentHashMap<>();
+    private long sizeInBytes = 0;
+
+    public SecretValueCache(CacheConfig config, boolean clearBinaryBuffers) {
+        this.ttlInNanos = config.ttl().toNanos();
+        this.maxEntries = config.maxEntries();
+        this.maxSizeInBytes = config.maxSizeInBytes();
+        this.rotationAware = config.rotationAware();
+        this.clearBinaryBuffers = clearBinaryBuffers;
+    }
+
+    /**
+     * Retrieves the secret value for the provided key from the cache, or fetches it using the provided fetcher if
+     * there is no valid cache entry.
+     *
+     * @param key       The cache key.
+     * @param fetcher   The function used to fetch the secret value from the AWS Secret Manager.
+     * @param describer The function used to fetch the secret metadata from the AWS Secret Manager, which is used to
+     *                  revalidate the expired entries of a rotation-aware cache.
+     * @return The read-only Ballerina `secretmanager:SecretValue` record.
+     */
+    public BMap<BString, Object> get(CacheKey key, Supplier<GetSecretValueResponse> fetcher,
+                                     Supplier<DescribeSecretResponse> describer) {
+        BMap<BString, Object> cached = lookup(key);
+        if (Objects.nonNull(cached)) {
+            ConnectorMetrics.cacheEvent(CACHE_NAME, SecretManagerMetricsListener.CacheEvent.HIT);
+            return cached;
+        }
+        ConnectorMetrics.cacheEvent(CACHE_NAME, SecretManagerMetricsListener.CacheEvent.MISS);
+        CompletableFuture<BMap<BString, Object>> fetch = new CompletableFuture<>();
+        CompletableFuture<BMap<BString, Object>> inFlightFetch = inFlightFetches.putIfAbsent(key, fetch);
+        if (Objects.nonNull(inFlightFetch)) {
+            return inFlightFetch.join();
+        }
+        try {
+            BMap<BString, Object> secretValue = fetch(key, fetcher, describer);
+            fetch.complete(secretValue);
+            return secretValue;
+        } catch (RuntimeException e) {
+            fetch.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightFetches.remove(key, fetch);
+        }
+    }
+
+    private BMap<BString, Object> fetch(CacheKey key, Supplier<GetSecretValueResponse> fetcher,
+                                        Supplier<DescribeSecretResponse> describer) {
+        // the entry could have been populated by a fetch which completed after the initial lookup
+        BMap<BString, Object> cached = lookup(key);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+        CacheEntry expiredEntry = null;
+        DescribeSecretResponse metadata = null;
+        if (rotationAware && key.isCurrentVersion()) {
+            expiredEntry = getEntry(key);
+            metadata = describe(describer);
+        }
+        long expiresAt = getExpiry(metadata);
+        if (Objects.nonNull(expiredEntry) && Objects.nonNull(metadata) &&
+                Objects.equals(expiredEntry.versionId(), getCurrentVersionId(metadata))) {
+            put(key, new CacheEntry(expiredEntry.value(), expiredEntry.versionId(), expiredEntry.sizeInBytes(),
+                    expiresAt));
+            return expiredEntry.value();
+        }
+        SecretValue nativeSecretValue = new SecretValue(fetcher.get());
+        long sizeInBytes = estimateSize(nativeSecretValue);
+        BMap<BString, Object> secretValue = ResponseMapper.getSecretValue(nativeSecretValue, clearBinaryBuffers);
+        secretValue.freezeDirect();
+        put(key, new CacheEntry(secretValue, nativeSecretValue.versionId(), sizeInBytes, expiresAt));
+        return secretValue;
+    }
+
+    private static DescribeSecretResponse describe(Supplier<DescribeSecretResponse> describer) {
+        try {
+            return describer.get();
+        } catch (RuntimeException e) {
+            // the secret value is fetched again if the metadata is not available
+            return null;
+        }
+    }
+
+    private long getExpiry(DescribeSecretResponse metadata) {
+        long ttl = ttlInNanos;
+        Instant nextRotationDate = Objects.nonNull(metadata) ? metadata.nextRotationDate() : null;
+        if (Objects.nonNull(nextRotationDate)) {
+            long untilNextRotation = Duration.between(Instant.now(), nextRotationDate).toNanos();
+            if (untilNextRotation > 0) {
+                ttl = Math.min(ttl, untilNextRotation);
+            }
+        }
+        return System.nanoTime() + ttl;
+    }
+
+    private static String getCurrentVersionId(DescribeSecretResponse metadata) {
+        if (!metadata.hasVersionIdsToStages()) {
+            return null;
+        }
+        for (Map.Entry<String, List<String>> versionToStages : metadata.versionIdsToStages().entrySet()) {
+            if (versionToStages.getValue().contains(Constants.AWS_CURRENT_VERSION_STAGE)) {
+                return versionToStages.getKey();
+            }
+        }
+        return null;
+    }
+
+    private BMap<BString, Object> lookup(CacheKey key) {
+        lock.lock();
+        try {
+            CacheEntry entry = entries.get(key);
+            if (Objects.isNull(entry)) {
+                return null;
+            }
+            if (entry.isExpired(System.nanoTime())) {
+                // expired entries of a rotation-aware cache are kept until they are revalidated
+                if (!rotationAware) {
+                    remove(key);
+                }
+                return null;
+            }
+            return entry.value();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CacheEntry getEntry(CacheKey key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(CacheKey key, CacheEntry entry) {
+        if (entry.sizeInBytes() > maxSizeInBytes) {
+            return;
+        }
+        lock.lock();
+        try {
+            remove(key);
+            entries.put(key, entry);
+            sizeInBytes += entry.sizeInBytes();
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evict() {
+        Iterator<CacheEntry> leastRecentlyUsed = entries.values().iterator();
+        while ((entries.size() > maxEntries || sizeInBytes > maxSizeInBytes) && leastRecentlyUsed.hasNext()) {
+            sizeInBytes -= leastRecentlyUsed.next().sizeInBytes();
+            leastRecentlyUsed.remove();
+            ConnectorMetrics.cacheEvent(CACHE_NAME, SecretManagerMetricsListener.CacheEvent.EVICTION);
+        }
+    }
+
+    private void remove(CacheKey key) {
+        CacheEntry removed = entries.remove(key);
+        if (Objects.nonNull(removed)) {
+            sizeInBytes -= removed.sizeInBytes();
+        }
+    }
+
+    /**
+     * Removes all the entries from the cache.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+            sizeInBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long estimateSize(SecretValue secretValue) {
+        long size = length(secretValue.arn()) + length(secretValue.name()) + length(secretValue.versionId());
+        if (Objects.nonNull(secretValue.binaryValue())) {
+            size += secretValue.binaryValue().asByteBuffer().remaining();
+        } else {
+            size += length(secretValue.strValue());
+        }
+        if (Objects.nonNull(secretValue.versionStages())) {
+            for (String versionStage : secretValue.versionStages()) {
+                size += length(versionStage);
+            }
+        }
+        return size;
+    }
+
+    private static long length(String value) {
+        return Objects.nonNull(value) ? CommonUtils.utf8Length(value) : 0;
+    }
+
+    /**
+     * {@code CacheKey} represents the key of a cached secret value.
+     *
+     * @param secretId     The ARN or name of the secret.
+     * @param versionId    The requested version ID of the secret, or {@code null} if not provided.
+     * @param versionStage The requested version stage of the secret, or {@code null} if not provided.
+     */
+    public record CacheKey(String secretId, String versionId, String versionStage) {
+
+        public CacheKey(BString secretId, BMap<BString, Object> versionSelector) {
+            this(
+                    secretId.getValue(),
+                    versionSelector.containsKey(Constants.SECRET_MNG_SECRET_VERSION_SELECTOR_VERSION_ID) ?
+                            versionSelector.getStringValue(Constants.SECRET_MNG_SECRET_VERSION_SELECTOR_VERSION_ID)
+                                    .getValue() : null,
+                    versionSelector.containsKey(Constants.SECRET_MNG_SECRET_VERSION_SELECTOR_VERSION_STAGE) ?
+                            versionSelector.getStringValue(Constants.SECRET_MNG_SECRET_VERSION_SELECTOR_VERSION_STAGE)
+                                    .getValue() : null
+            );
+        }
+
+        boolean isCurrentVersion() {
+            return Objects.isNull(versionId) &&
+                    (Objects.isNull(versionStage) || Constants.AWS_CURRENT_VERSION_STAGE.equals(versionStage));
+        }
+    }
+
+    private record CacheEntry(BMap<BString, Object> value, String versionId, long sizeInBytes, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.secretsmanager.model.APIErrorType;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.SecretValueEntry;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code SecretValueIterator} iterates over the secret values retrieved from the paginated `BatchGetSecretValue`
+ * requests, and backs the Ballerina `stream<secretmanager:SecretValue, secretmanager:Error?>`.
+ * <p>
+ * The next page is requested as soon as the current page is received, hence it is fetched while the current page is
+ * being consumed. At most two pages are kept in memory regardless of the number of matching secrets.
+ */
+public final class SecretValueIterator {
+    private static final String NATIVE_ITERATOR = "nativeIterator";
+
+    private final NativeClient nativeClient;
+    private final BatchGetSecretValueRequest request;
+    private final boolean clearBinaryBuffers;
+    private Iterator<SecretValueEntry> currentPage = Collections.emptyIterator();
+    private List<APIErrorType> currentPageErrors = Collections.emptyList();
+    private CompletableFuture<BatchGetSecretValueResponse> nextPage;
+
+    private SecretValueIterator(NativeClient nativeClient, BatchGetSecretValueRequest request,
+                                boolean clearBinaryBuffers) {
+        this.nativeClient = nativeClient;
+        this.clearBinaryBuffers = clearBinaryBuffers;
+        this.request = request;
+        this.nextPage = fetchPage(request.nextToken());
+    }
+
+    /**
+     * Initializes the native iterator for the Ballerina `secretmanager:SecretValue` stream.
+     *
+     * @param bSecretValueStream  The Ballerina secret value stream object.
+     * @param bAwsSecretMngClient The Ballerina AWS Secret Manager client object.
+     * @param request             The Ballerina AWS Secret Manager `BatchGetSecretValueRequest` request.
+     * @return A Ballerina `secretmanager:Error` if failed to initialize the iterator.
+     */
+    public static Object init(BObject bSecretValueStream, BObject bAwsSecretMngClient,
+                              BMap<BString, Object> request) {
+        try {
+            NativeClient nativeClient = (NativeClient) bAwsSecretMngClient.getNativeData(Constants.NATIVE_CLIENT);
+            BatchGetSecretValueRequest nativeRequest = CommonUtils.toNativeBatchGetSecretValueRequest(request);
+            SecretValueIterator iterator = new SecretValueIterator(nativeClient, nativeRequest,
+                    NativeClientAdaptor.isClearBinaryBuffers(bAwsSecretMngClient));
+            bSecretValueStream.addNativeData(NATIVE_ITERATOR, iterator);
+        } catch (Exception e) {
+            String errorMsg = String.format("Error occurred while initializing the secret value stream: %s",
+                    e.getMessage());
+            return CommonUtils.createError(errorMsg, e);
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the next secret value from the stream.
+     *
+     * @param env                The Ballerina runtime environment.
+     * @param bSecretValueStream The Ballerina secret value stream object.
+     * @return The next Ballerina `secretmanager:SecretValue`, nil if there are no more secret values, or a Ballerina
+     * `secretmanager:Error` if failed to retrieve the secret values.
+     */
+    public static Object next(Environment env, BObject bSecretValueStream) {
+        SecretValueIterator iterator = (SecretValueIterator) bSecretValueStream.getNativeData(NATIVE_ITERATOR);
+        return env.yieldAndRun(() -> {
+            try {
+                return iterator.next();
+            } catch (Exception e) {
+                iterator.close();
+                Throwable cause = CommonUtils.unwrap(e);
+                String errorMsg = String.format("Error occurred while retrieving the secret values: %s",
+                        cause.getMessage());
+                return CommonUtils.createError(errorMsg, cause);
+            }
+        });
+    }
+
+    /**
+     * Closes the secret value stream, discarding the prefetched page.
+     *
+     * @param bSecretValueStream The Ballerina secret value stream object.
+     * @return Nil as closing the stream does not fail.
+     */
+    public static Object close(BObject bSecretValueStream) {
+        SecretValueIterator iterator = (SecretValueIterator) bSecretValueStream.getNativeData(NATIVE_ITERATOR);
+        iterator.close();
+        return null;
+    }
+
+    private synchronized BMap<BString, Object> next() {
+        while (!currentPage.hasNext()) {
+            if (!currentPageErrors.isEmpty()) {
+                APIErrorType apiError = currentPageErrors.get(0);
+                close();
+                throw CommonUtils.toNativeException(apiError);
+            }
+            if (Objects.isNull(nextPage)) {
+                return null;
+            }
+            BatchGetSecretValueResponse page = nextPage.join();
+            nextPage = Objects.nonNull(page.nextToken()) ? fetchPage(page.nextToken()) : null;
+            currentPage = page.hasSecretValues() ? page.secretValues().iterator() : Collections.emptyIterator();
+            currentPageErrors = page.hasErrors() ? page.errors() : Collections.emptyList();
+        }
+        return ResponseMapper.getSecretValue(new SecretValue(currentPage.next()), clearBinaryBuffers);
+    }
+
+    private CompletableFuture<BatchGetSecretValueResponse> fetchPage(String nextToken) {
+        BatchGetSecretValueRequest pageRequest = request.toBuilder().nextToken(nextToken).build();
+        return NativeClientAdaptor.executeAsync(() -> nativeClient.batchGetSecretValue(pageRequest));
+    }
+
+    private synchronized void close() {
+        if (Objects.nonNull(nextPage)) {
+            nextPage.cancel(true);
+            nextPage = null;
+        }
+        currentPage = Collections.emptyIterator();
+        currentPageErrors = Collections.emptyList();
+    }
+}
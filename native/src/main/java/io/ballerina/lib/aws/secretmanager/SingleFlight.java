@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.values.BMap;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@code SingleFlight} collapses the concurrent identical requests of a client into a single in-flight request.
+ * <p>
+ * The first caller for a key executes the request, while the concurrent callers for the same key wait for it and
+ * receive the same Ballerina result, which is either a read-only record or the same `secretmanager:Error`. Nothing
+ * is retained once the in-flight request is completed, hence a subsequent call always executes a new request.
+ */
+public final class SingleFlight {
+    private final Map<Object, CompletableFuture<Object>> inFlightRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Executes the provided request, or waits for the in-flight request with the same key.
+     *
+     * @param key     The key identifying the request, such as the native AWS SDK request.
+     * @param request The function which executes the request and converts the response to a Ballerina value.
+     * @return The Ballerina result of the request.
+     */
+    public Object execute(Object key, Supplier<Object> request) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightRequest = inFlightRequests.putIfAbsent(key, flight);
+        if (Objects.nonNull(inFlightRequest)) {
+            return inFlightRequest.join();
+        }
+        try {
+            Object result = request.get();
+            if (result instanceof BMap<?, ?> record) {
+                // the result could be shared by concurrent callers, hence it is frozen to prevent modifications
+                // made by one caller being visible to the others
+                record.freezeDirect();
+            }
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(key, flight);
+        }
+    }
+}
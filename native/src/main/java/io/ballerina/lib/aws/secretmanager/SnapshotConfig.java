@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * {@code SnapshotConfig} represents the configurations of the encrypted on-disk snapshot of the secret values.
+ *
+ * @param path          The path of the snapshot file.
+ * @param encryptionKey The AES key used to encrypt the snapshot entries.
+ * @param maxStaleness  The maximum age of a snapshot entry which could be served, or {@code null} if the snapshot
+ *                      entries are served regardless of their age.
+ */
+public record SnapshotConfig(Path path, byte[] encryptionKey, Duration maxStaleness) {
+    private static final BString PATH = StringUtils.fromString("path");
+    private static final BString ENCRYPTION_KEY = StringUtils.fromString("encryptionKey");
+    private static final BString MAX_STALENESS = StringUtils.fromString("maxStaleness");
+
+    public SnapshotConfig {
+        int keyLength = encryptionKey.length;
+        if (keyLength != 16 && keyLength != 24 && keyLength != 32) {
+            throw new IllegalArgumentException(
+                    "The `encryptionKey` of the snapshot configurations must be a 128, 192 or 256-bit AES key");
+        }
+    }
+
+    public SnapshotConfig(BMap<BString, Object> snapshotConfig) {
+        this(
+                Path.of(snapshotConfig.getStringValue(PATH).getValue()).toAbsolutePath(),
+                Base64.getDecoder().decode(snapshotConfig.getStringValue(ENCRYPTION_KEY).getValue()),
+                snapshotConfig.containsKey(MAX_STALENESS) ?
+                        CommonUtils.toDuration((BDecimal) snapshotConfig.get(MAX_STALENESS)) : null
+        );
+    }
+
+    boolean isServable(long ageInMillis) {
+        return Objects.isNull(maxStaleness) || ageInMillis <= maxStaleness.toMillis();
+    }
+
+    // an entry is refreshed once it is half as old as the maximum staleness, hence the snapshot can still serve it for
+    // a while if the service becomes unavailable
+    boolean isNearlyStale(long ageInMillis) {
+        return Objects.nonNull(maxStaleness) && ageInMillis > maxStaleness.toMillis() / 2;
+    }
+
+    // the configurations are used as a part of the native client key, hence the key is compared by its content
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SnapshotConfig config && path.equals(config.path) &&
+                Arrays.equals(encryptionKey, config.encryptionKey) && Objects.equals(maxStaleness, config.maxStaleness);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, Arrays.hashCode(encryptionKey), maxStaleness);
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotConfig[path=" + path + ", maxStaleness=" + maxStaleness + "]";
+    }
+}
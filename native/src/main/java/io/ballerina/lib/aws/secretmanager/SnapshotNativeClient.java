@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretRequest;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretResponse;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code SnapshotNativeClient} is a {@link NativeClient} decorator which keeps the retrieved secret values in an
+ * encrypted on-disk {@link SecretSnapshot}.
+ * <p>
+ * Until a secret value is revalidated after the client is created, the `GetSecretValue` requests are served from the
+ * snapshot while the secret value is retrieved from the AWS Secret Manager in the background, hence the client start
+ * up does not wait for the network calls. Afterwards, the snapshot is used only if a request fails as the service is
+ * unavailable. In both cases, only the snapshot entries within the maximum staleness are served, and an entry is
+ * dropped once a request for it fails with a non-transient error. The snapshot file is rewritten only when a retrieved
+ * secret value has a new version or its entry is nearly stale, and the snapshot failures are reported in the
+ * connector metrics.
+ */
+public final class SnapshotNativeClient implements NativeClient {
+    private static final long WRITE_DELAY_IN_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final NativeClient nativeClient;
+    private final SnapshotConfig config;
+    private final SecretSnapshot snapshot;
+    private final Set<String> revalidatingKeys = ConcurrentHashMap.newKeySet();
+    private final Set<String> revalidatedKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean(false);
+
+    public SnapshotNativeClient(NativeClient nativeClient, SnapshotConfig config) {
+        this.nativeClient = nativeClient;
+        this.config = config;
+        try {
+            this.snapshot = new SecretSnapshot(config);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException(
+                    "The `encryptionKey` of the snapshot configurations cannot be used: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<DescribeSecretResponse> describeSecret(DescribeSecretRequest request) {
+        return nativeClient.describeSecret(request);
+    }
+
+    @Override
+    public CompletableFuture<GetSecretValueResponse> getSecretValue(GetSecretValueRequest request) {
+        String key = getKey(request);
+        if (!revalidatedKeys.contains(key)) {
+            GetSecretValueResponse snapshotValue = readSnapshot(key);
+            if (Objects.nonNull(snapshotValue)) {
+                if (revalidatingKeys.add(key)) {
+                    fetch(key, request).whenComplete((response, error) -> {
+                        if (Objects.nonNull(error)) {
+                            dropIfNotTransient(key, error);
+                        }
+                        revalidatingKeys.remove(key);
+                    });
+                }
+                return CompletableFuture.completedFuture(snapshotValue);
+            }
+        }
+        return fetch(key, request).handle((response, error) -> {
+            if (Objects.isNull(error)) {
+                return CompletableFuture.completedFuture(response);
+            }
+            GetSecretValueResponse snapshotValue = dropIfNotTransient(key, error) ? null : readSnapshot(key);
+            return Objects.nonNull(snapshotValue) ? CompletableFuture.completedFuture(snapshotValue) :
+                    CompletableFuture.<GetSecretValueResponse>failedFuture(error);
+        }).thenCompose(response -> response);
+    }
+
+    @Override
+    public CompletableFuture<BatchGetSecretValueResponse> batchGetSecretValue(BatchGetSecretValueRequest request) {
+        return nativeClient.batchGetSecretValue(request);
+    }
+
+    private CompletableFuture<GetSecretValueResponse> fetch(String key, GetSecretValueRequest request) {
+        return nativeClient.getSecretValue(request).thenApply(response -> {
+            revalidatedKeys.add(key);
+            if (snapshot.put(key, response)) {
+                scheduleWrite();
+            }
+            return response;
+        });
+    }
+
+    /**
+     * Drops the snapshot entry of a secret value which could not be retrieved for a reason other than the service
+     * being unavailable, such as a deleted secret or revoked permissions, so that the entry is not served anymore.
+     *
+     * @param key   The request key.
+     * @param error The failure of the request.
+     * @return {@code true} if the failure is not transient, {@code false} otherwise.
+     */
+    private boolean dropIfNotTransient(String key, Throwable error) {
+        if (RetryingNativeClient.isTransient(CommonUtils.unwrap(error))) {
+            return false;
+        }
+        if (snapshot.remove(key)) {
+            scheduleWrite();
+        }
+        return true;
+    }
+
+    private GetSecretValueResponse readSnapshot(String key) {
+        SecretSnapshot.SnapshotEntry entry = snapshot.get(key);
+        if (Objects.isNull(entry) || !config.isServable(entry.age())) {
+            return null;
+        }
+        return snapshot.read(key, entry);
+    }
+
+    private void scheduleWrite() {
+        // the updates within the write delay are written to the disk together
+        if (writeScheduled.compareAndSet(false, true)) {
+            NativeClientAdaptor.executeAsync(() -> {
+                writeScheduled.set(false);
+                writeSnapshot();
+                return CompletableFuture.completedFuture(null);
+            }, WRITE_DELAY_IN_NANOS);
+        }
+    }
+
+    private void writeSnapshot() {
+        try {
+            snapshot.write();
+        } catch (IOException e) {
+            // the snapshot is written again with the next update
+            ConnectorMetrics.snapshotError(SecretManagerMetricsListener.SnapshotOperation.WRITE, e);
+        }
+    }
+
+    private static String getKey(GetSecretValueRequest request) {
+        return String.join("\u0000", request.secretId(), Objects.requireNonNullElse(request.versionId(), ""),
+                Objects.requireNonNullElse(request.versionStage(), ""));
+    }
+
+    @Override
+    public CompletableFuture<DescribeSecretResponse> openConnection(DescribeSecretRequest request) {
+        return nativeClient.openConnection(request);
+    }
+
+    @Override
+    public void close() {
+        writeSnapshot();
+        nativeClient.close();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretRequest;
+import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretResponse;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code SyncNativeClient} is a {@link NativeClient} backed by the blocking {@link SecretsManagerClient}. The requests
+ * are executed on the {@link BlockingRequestExecutor} of the client, which bounds the number of threads blocked on
+ * the network calls.
+ */
+public final class SyncNativeClient implements NativeClient {
+    private final SecretsManagerClient nativeClient;
+    private final BlockingRequestExecutor executor;
+
+    public SyncNativeClient(SecretsManagerClient nativeClient, BlockingRequestExecutor executor) {
+        this.nativeClient = nativeClient;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<DescribeSecretResponse> describeSecret(DescribeSecretRequest request) {
+        return executor.execute(() -> nativeClient.describeSecret(request));
+    }
+
+    @Override
+    public CompletableFuture<GetSecretValueResponse> getSecretValue(GetSecretValueRequest request) {
+        return executor.execute(() -> nativeClient.getSecretValue(request));
+    }
+
+    @Override
+    public CompletableFuture<BatchGetSecretValueResponse> batchGetSecretValue(BatchGetSecretValueRequest request) {
+        return executor.execute(() -> nativeClient.batchGetSecretValue(request));
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+        nativeClient.close();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.secretmanager;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@code WarmUpConfig} represents the configurations of the warm-up performed when the client is initialized.
+ *
+ * @param connections     The number of pooled connections to open.
+ * @param prefetchSecrets The ARNs or names of the secrets to retrieve, which requires the secret value cache or the
+ *                        snapshot.
+ * @param timeout         The maximum time to wait for the warm-up to complete.
+ * @param failOnError     Whether the client initialization should fail if a warm-up step fails.
+ */
+public record WarmUpConfig(int connections, List<String> prefetchSecrets, Duration timeout, boolean failOnError) {
+    private static final BString CONNECTIONS = StringUtils.fromString("connections");
+    private static final BString PREFETCH_SECRETS = StringUtils.fromString("prefetchSecrets");
+    private static final BString TIMEOUT = StringUtils.fromString("timeout");
+    private static final BString FAIL_ON_ERROR = StringUtils.fromString("failOnError");
+
+    public WarmUpConfig {
+        if (connections < 0) {
+            throw new IllegalArgumentException(
+                    "The `connections` of the warm-up configurations must not be negative");
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("The `timeout` of the warm-up configurations must be positive");
+        }
+    }
+
+    public WarmUpConfig(BMap<BString, Object> warmUpConfig) {
+        this(
+                warmUpConfig.getIntValue(CONNECTIONS).intValue(),
+                List.of(warmUpConfig.getArrayValue(PREFETCH_SECRETS).getStringArray()),
+                CommonUtils.toDuration((BDecimal) warmUpConfig.get(TIMEOUT)),
+                warmUpConfig.getBooleanValue(FAIL_ON_ERROR)
+        );
+    }
+}
@@ -23,9 +23,17 @@ module io.ballerina.lib.aws.secretmanager {
     requires software.amazon.awssdk.auth;
     requires software.amazon.awssdk.regions;
     requires software.amazon.awssdk.services.secretsmanager;
+    requires software.amazon.awssdk.services.sts;
     requires software.amazon.awssdk.awscore;
     requires software.amazon.awssdk.core;
     requires software.amazon.awssdk.http;
+    requires software.amazon.awssdk.http.apache;
+    requires software.amazon.awssdk.http.nio.netty;
+    requires software.amazon.awssdk.metrics;
+    requires software.amazon.awssdk.retries.api;
+    requires software.amazon.awssdk.utils;
 
     exports io.ballerina.lib.aws.secretmanager;
+
+    uses io.ballerina.lib.aws.secretmanager.SecretManagerMetricsListener;
 }